@@ -0,0 +1,23 @@
+package game.bench;
+
+import game.Game;
+import game.engine.HeadlessGame;
+import game.engine.RandomWalkInput;
+
+//벤치마크 공용 게임 준비 ; 고스트가 집 밖으로 나와 움직이는 상태까지 미리 진행
+final class BenchGames {
+    static final long SEED = 42;
+    static final int WARMUP_TICKS = 600;
+
+    private BenchGames() {}
+
+    static HeadlessGame start(String mapName, int level) {
+        Game.setVerbose(false);
+        Game.reset();
+        HeadlessGame sim = new HeadlessGame(mapName, level, SEED, new RandomWalkInput(SEED));
+        for (int i = 0; i < WARMUP_TICKS; i++) {
+            sim.step();
+        }
+        return sim;
+    }
+}
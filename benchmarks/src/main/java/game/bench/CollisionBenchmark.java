@@ -0,0 +1,66 @@
+package game.bench;
+
+import game.Game;
+import game.entities.Entity;
+import game.entities.ghosts.Ghost;
+import game.utils.CollisionDetector;
+import game.utils.CollisionLayer;
+import game.utils.Contacts;
+import game.utils.WallCollisionDetector;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+//CollisionDetector (엔티티 간 broadphase 질의) 와 WallCollisionDetector (벽 격자) 비용
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+    @Param({"default_map", "custom_map_001"})
+    public String mapName;
+
+    private Game game;
+    private CollisionDetector collisionDetector;
+    private Entity pacman;
+    private List<Ghost> ghosts;
+    private final Contacts contacts = new Contacts();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        game = BenchGames.start(mapName, 1).getGame();
+        collisionDetector = new CollisionDetector(game);
+        pacman = Game.getPacman();
+        ghosts = game.getRegistry().getGhosts();
+    }
+
+    @Benchmark
+    public Entity checkCollision() {
+        return collisionDetector.checkCollision(pacman, CollisionLayer.GHOST);
+    }
+
+    @Benchmark
+    public Contacts checkContacts() {
+        return collisionDetector.checkContacts(pacman, contacts);
+    }
+
+    //Pacman 과 고스트 전부에 대해 4방향 벽 검사 (한 틱에 실제로 일어나는 검사 묶음)
+    @Benchmark
+    public void checkWallCollision(Blackhole bh) {
+        bh.consume(WallCollisionDetector.checkWallCollision(pacman, -2, 0));
+        bh.consume(WallCollisionDetector.checkWallCollision(pacman, 2, 0));
+        bh.consume(WallCollisionDetector.checkWallCollision(pacman, 0, -2));
+        bh.consume(WallCollisionDetector.checkWallCollision(pacman, 0, 2));
+        for (int i = 0; i < ghosts.size(); i++) {
+            Ghost gh = ghosts.get(i);
+            bh.consume(WallCollisionDetector.checkWallCollision(gh, -2, 0));
+            bh.consume(WallCollisionDetector.checkWallCollision(gh, 2, 0));
+            bh.consume(WallCollisionDetector.checkWallCollision(gh, 0, -2));
+            bh.consume(WallCollisionDetector.checkWallCollision(gh, 0, 2));
+        }
+    }
+}
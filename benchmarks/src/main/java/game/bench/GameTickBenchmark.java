@@ -0,0 +1,37 @@
+package game.bench;
+
+import game.engine.HeadlessGame;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 틱 (Game.input + Game.update) 비용
+ * 게임 오버 후에도 Game.update 는 계속 돌 수 있으므로, 반복(iteration)마다 새 게임으로 다시 시작해 측정 중에는 재생성 비용이 없음
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GameTickBenchmark {
+    @Param({"default_map", "custom_map_001"})
+    public String mapName;
+
+    @Param({"1", "3"})
+    public int level;
+
+    private HeadlessGame sim;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        sim = BenchGames.start(mapName, level);
+    }
+
+    @Benchmark
+    public long tick() {
+        sim.step();
+        return sim.getTick();
+    }
+}
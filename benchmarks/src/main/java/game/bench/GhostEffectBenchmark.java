@@ -0,0 +1,57 @@
+package game.bench;
+
+import game.entities.ghosts.Ghost;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Game.applyGhostEffects 가 붙인 효과 리스트를 가진 고스트 update 비용
+ * 레벨이 올라갈수록 효과가 늘어남 (SpeedBoost, Slow / + Teleport / + Invisible)
+ * plainUpdate 는 같은 칸 / 같은 모드의 효과 없는 고스트 update (효과 비용 비교 기준)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostEffectBenchmark {
+    @Param({"default_map", "custom_map_001"})
+    public String mapName;
+
+    @Param({"1", "2", "3"})
+    public int level;
+
+    private List<Ghost> withEffects;
+    private Ghost[] plain;
+
+    //고스트가 움직이며 상태가 흘러가므로 반복마다 새 게임에서 시작
+    @Setup(Level.Iteration)
+    public void setUp() {
+        withEffects = BenchGames.start(mapName, level).getGame().getRegistry().getGhosts();
+        plain = PlainGhosts.copyOf(withEffects);
+    }
+
+    @Benchmark
+    public int effectsUpdate() {
+        int acc = 0;
+        for (int i = 0; i < withEffects.size(); i++) {
+            Ghost gh = withEffects.get(i);
+            gh.update();
+            acc += gh.getxPos();
+        }
+        return acc;
+    }
+
+    @Benchmark
+    public int plainUpdate() {
+        int acc = 0;
+        for (Ghost gh : plain) {
+            gh.update();
+            acc += gh.getxPos();
+        }
+        return acc;
+    }
+}
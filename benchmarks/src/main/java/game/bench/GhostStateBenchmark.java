@@ -0,0 +1,49 @@
+package game.bench;
+
+import game.entities.ghosts.Ghost;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+//GhostState.computeNextDir 비용 ; 모드별로 목표 지점 계산 방식이 다름 (데코레이터 없는 고스트 4마리)
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostStateBenchmark {
+    public enum GhostMode { CHASE, SCATTER, FRIGHTENED, EATEN, HOUSE }
+
+    @Param({"default_map", "custom_map_001"})
+    public String mapName;
+
+    @Param({"CHASE", "SCATTER", "FRIGHTENED", "EATEN", "HOUSE"})
+    public GhostMode mode;
+
+    private Ghost[] ghosts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ghosts = PlainGhosts.copyOf(BenchGames.start(mapName, 1).getGame().getRegistry().getGhosts());
+        for (Ghost gh : ghosts) {
+            switch (mode) {
+                case CHASE: gh.switchChaseMode(); break;
+                case SCATTER: gh.switchScatterMode(); break;
+                case FRIGHTENED: gh.switchFrightenedMode(); break;
+                case EATEN: gh.switchEatenMode(); break;
+                case HOUSE: gh.switchHouseMode(); break;
+            }
+        }
+    }
+
+    @Benchmark
+    public int computeNextDir() {
+        int acc = 0;
+        for (Ghost gh : ghosts) {
+            gh.getState().computeNextDir();
+            acc += gh.getxSpd() + gh.getySpd();
+        }
+        return acc;
+    }
+}
@@ -0,0 +1,81 @@
+package game.bench;
+
+import game.Game;
+import game.entities.ghosts.Ghost;
+import game.level.NavGraph;
+import game.level.WallGrid;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 갈림길에서의 방향 결정 비용 (목표 계산 + 후보 비교)
+ * 고스트를 맵의 갈림길 셀로 차례로 옮기고 멈춘 상태에서 computeNextDir 를 부르므로 매 호출이 목표 지점을 계산함
+ * gc.alloc.rate.norm 이 0 이어야 함 (목표 지점은 상태가 가진 TargetPoint 에 채움)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class GhostTargetingBenchmark {
+    @Param({"default_map", "custom_map_001"})
+    public String mapName;
+
+    @Param({"CHASE", "SCATTER", "FRIGHTENED", "EATEN", "HOUSE"})
+    public GhostStateBenchmark.GhostMode mode;
+
+    private Ghost[] ghosts;
+    private int[] junctionX;
+    private int[] junctionY;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ghosts = PlainGhosts.copyOf(BenchGames.start(mapName, 1).getGame().getRegistry().getGhosts());
+        for (Ghost gh : ghosts) {
+            switch (mode) {
+                case CHASE: gh.switchChaseMode(); break;
+                case SCATTER: gh.switchScatterMode(); break;
+                case FRIGHTENED: gh.switchFrightenedMode(); break;
+                case EATEN: gh.switchEatenMode(); break;
+                case HOUSE: gh.switchHouseMode(); break;
+            }
+        }
+
+        //플레이 영역 안의 갈림길 셀
+        NavGraph nav = Game.getNavGraph();
+        int cols = Game.getWidth() / WallGrid.CELL_SIZE;
+        int rows = Game.getHeight() / WallGrid.CELL_SIZE;
+        int count = 0;
+        int[] xs = new int[cols * rows];
+        int[] ys = new int[cols * rows];
+        for (int cy = 1; cy < rows; cy++) {
+            for (int cx = 1; cx < cols; cx++) {
+                if (nav.isJunction(cx, cy, false)) {
+                    xs[count] = cx * WallGrid.CELL_SIZE;
+                    ys[count] = cy * WallGrid.CELL_SIZE;
+                    count++;
+                }
+            }
+        }
+        junctionX = Arrays.copyOf(xs, count);
+        junctionY = Arrays.copyOf(ys, count);
+    }
+
+    @Benchmark
+    public int decideAtJunction() {
+        int acc = 0;
+        for (Ghost gh : ghosts) {
+            gh.setPosition(junctionX[next], junctionY[next]);
+            gh.setxSpd(0);
+            gh.setySpd(0);
+            gh.getState().computeNextDir();
+            acc += gh.getxSpd() + gh.getySpd();
+            if (++next == junctionX.length) next = 0;
+        }
+        return acc;
+    }
+}
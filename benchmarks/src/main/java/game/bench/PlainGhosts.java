@@ -0,0 +1,57 @@
+package game.bench;
+
+import game.entities.ghosts.Blinky;
+import game.entities.ghosts.Clyde;
+import game.entities.ghosts.Ghost;
+import game.entities.ghosts.Inky;
+import game.entities.ghosts.Pinky;
+import game.ghostFactory.AbstractGhostFactory;
+import game.ghostFactory.BlinkyFactory;
+import game.ghostFactory.ClydeFactory;
+import game.ghostFactory.InkyFactory;
+import game.ghostFactory.PinkyFactory;
+import game.ghostStates.ChaseMode;
+import game.ghostStates.EatenMode;
+import game.ghostStates.FrightenedMode;
+import game.ghostStates.GhostState;
+import game.ghostStates.HouseMode;
+import game.ghostStates.ScatterMode;
+
+import java.util.List;
+
+/**
+ * 게임 속 고스트와 같은 칸 / 같은 모드의 효과 없는 고스트를 따로 만듦
+ * (게임 속 고스트를 그대로 쓰면 레벨 효과와 게임 상태가 벤치마크 결과에 섞임)
+ */
+final class PlainGhosts {
+    private PlainGhosts() {}
+
+    static Ghost[] copyOf(List<Ghost> ghosts) {
+        Ghost[] plain = new Ghost[ghosts.size()];
+        for (int i = 0; i < plain.length; i++) {
+            Ghost src = ghosts.get(i);
+            int x = src.getxPos() - Math.floorMod(src.getxPos(), 8);
+            int y = src.getyPos() - Math.floorMod(src.getyPos(), 8);
+            plain[i] = factoryFor(src).makeGhost(x, y);
+            switchMode(plain[i], src.getState());
+        }
+        return plain;
+    }
+
+    //원본 고스트와 같은 종류 (맵마다 고스트 순서가 다르므로 목록 순서로 정하지 않음)
+    private static AbstractGhostFactory factoryFor(Ghost ghost) {
+        if (ghost instanceof Blinky) return new BlinkyFactory();
+        if (ghost instanceof Pinky) return new PinkyFactory();
+        if (ghost instanceof Inky) return new InkyFactory();
+        if (ghost instanceof Clyde) return new ClydeFactory();
+        throw new IllegalArgumentException("Unknown ghost: " + ghost.getClass().getName());
+    }
+
+    static void switchMode(Ghost ghost, GhostState like) {
+        if (like instanceof ChaseMode) ghost.switchChaseMode();
+        else if (like instanceof ScatterMode) ghost.switchScatterMode();
+        else if (like instanceof FrightenedMode) ghost.switchFrightenedMode();
+        else if (like instanceof EatenMode) ghost.switchEatenMode();
+        else if (like instanceof HouseMode) ghost.switchHouseMode();
+    }
+}
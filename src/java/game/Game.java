@@ -6,33 +6,35 @@ import game.entities.levelStrategies.Level2Strategy;
 import game.entities.levelStrategies.Level3Strategy;
 import game.entities.levelStrategies.LevelStrategy;
 import game.entities.superPacGums.*;
-import game.entities.ghostDecorator.*;
-import game.entities.pacmanDecorator.*;
+import game.entities.ghostEffects.*;
+import game.entities.pacmanEffects.*;
 import game.entities.ghosts.Blinky;
 import game.entities.ghosts.Ghost;
-import game.gameStates.GameOverState;
-import game.gameStates.PlayingState;
+import game.engine.TimerWheel;
 import game.ghostFactory.*;
 import game.ghostStates.EatenMode;
 import game.ghostStates.FrightenedMode;
+import game.ghostStates.WaveSchedule;
+import game.level.CompiledLevel;
+import game.level.LevelCache;
+import game.level.NavGraph;
+import game.level.PelletGrid;
+import game.level.WallGrid;
 import game.utils.CollisionDetector;
-import game.utils.CsvReader;
-import game.utils.KeyHandler;
+import game.utils.GameRandom;
+import game.utils.InputSource;
+import game.utils.SpatialGrid;
 
-import javax.swing.*;
 import java.awt.*;
-import java.net.URISyntaxException;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.util.ArrayList;
-import java.util.List;
 
 //Classe gérant le jeu en lui même
 public class Game implements Observer {
-    //Pour lister les différentes entités présentes sur la fenêtre
-    private List<Entity> objects = new ArrayList();
-    private List<Ghost> ghosts = new ArrayList();
-    private static List<Wall> walls = new ArrayList();
+    //Pour lister les différentes entités présentes sur la fenêtre (종류별로 나눠서 보관)
+    private EntityRegistry registry;
+    private PelletGrid pelletGrid;
+    private SpatialGrid spatialGrid;
+    private static WallGrid wallGrid;
+    private static NavGraph navGraph;
 
     private static Pacman pacman;
     private static Blinky blinky;
@@ -42,119 +44,146 @@ public class Game implements Observer {
     private static int gameLevel = 3; // 테스트용 하드코딩 (1, 2, 3)
     private static LevelStrategy levelStrategy;
 
+    //Générateur aléatoire de la partie : toute la part d'aléatoire du jeu en dérive (même graine = même partie)
+    private static GameRandom random = new GameRandom(GameRandom.randomSeed());
+
+    //Minuteries de la partie : toutes les durées du jeu (modes des fantômes, effets) expirent sur cette roue
+    //La roue n'avance qu'après le premier input (avant, rien ne bouge) ; le cycle chase / scatter est commun à tous les fantômes
+    private static TimerWheel timers = new TimerWheel();
+    private static WaveSchedule waves = new WaveSchedule(timers, null);
+
+    //Taille de la zone de jeu (en pixels), déduite de la carte chargée
+    private static int width;
+    private static int height;
+
+    //콘솔 디버그 로그 출력 여부 (헤드리스 시뮬레이션에서는 끔)
+    private static boolean verbose = true;
+
+    //게임 진행 상태 ; UI 없이도 점수와 게임 오버를 알 수 있도록 Game 이 직접 유지
+    //observer 알림에서는 먹은 개수만 세고, 점수는 틱이 끝날 때 한 번만 계산 (HUD 는 틱마다 이 값을 스냅샷으로 받음)
+    public static final int PACGUM_POINTS = 10;
+    public static final int SUPER_PACGUM_POINTS = 100;
+    public static final int GHOST_POINTS = 500;
+    private int pacGumsEaten = 0;
+    private int superPacGumsEaten = 0;
+    private int ghostsEaten = 0;
+    private int score = 0;
+    private boolean gameOver = false;
+
     public Game(){
-        // static 변수 초기화 (맵 변경 시 이전 데이터 제거)
-        walls = new ArrayList();
+        this(GameManager.getInstance().getSelectedMapName());
+    }
+
+    //Initialisation du jeu à partir d'une carte donnée (aucune dépendance à Swing : utilisable en mode headless)
+    public Game(String mapName){
+        this(mapName, GameRandom.randomSeed());
+    }
 
-        //Initialisation du jeu
+    public Game(String mapName, long seed){
+        this(LevelCache.getInstance().get(mapName), seed);
+    }
+
+    //Partie sur un niveau déjà compilé (GameplayPanel reçoit celui préparé par AssetPreloader pendant le menu)
+    public Game(CompiledLevel level, long seed){
+        firstInput = false;
+        random = new GameRandom(seed);
+        timers = new TimerWheel();
+        waves = new WaveSchedule(timers, this::updateWaveOver);
 
         // 레벨 Strategy 초기화 (Strategy 패턴)
         initializeLevelStrategy();
 
-        //Chargement du fichier csv du niveau
-        List<List<String>> data = null;
-//      맵 변경 구현 Point
-        try {
-            String mapName = GameManager.getInstance().getSelectedMapName();
-            Path levelPath = Paths.get("src/resources/level/" + mapName + ".csv");
-            // 파일이 없으면 클래스패스 리소스 폴백
-            if (!levelPath.toFile().exists()) {
-                try {
-                    levelPath = Paths.get(getClass().getClassLoader()
-                            .getResource("level/" + mapName + ".csv").toURI());
-                } catch (Exception e) {
-                    throw new RuntimeException("맵 파일을 찾을 수 없습니다: " + mapName, e);
-                }
-            }
+        //Niveau compilé (CSV lu, murs et graphe de navigation calculés une seule fois par contenu de carte)
+        int cellsPerRow = level.getCols();
+        int cellsPerColumn = level.getRows();
+        int cellSize = WallGrid.CELL_SIZE;
+        width = cellsPerRow * cellSize;
+        height = cellsPerColumn * cellSize;
+
+        // 벽과 고스트 길찾기 표는 컴파일된 레벨의 것을 그대로 공유 (게임 중에 바뀌지 않음)
+        wallGrid = level.getWallGrid();
+        navGraph = level.getNavGraph();
+        // PacGum 비트셋은 게임마다 복사 (먹으면 지워지므로)
+        pelletGrid = level.newPelletGrid();
+        // 움직이는 엔티티는 broadphase 격자에 등록 (버킷 크기 = 스프라이트 크기)
+        spatialGrid = new SpatialGrid(cellsPerRow * cellSize, cellsPerColumn * cellSize, 32);
+        registry = new EntityRegistry(pelletGrid, spatialGrid);
+
+        CollisionDetector collisionDetector = new CollisionDetector(this);
 
-            data = new CsvReader().parseCsv(levelPath.toUri());
-        } catch (Exception e) {
-            e.printStackTrace();
+        //Création de Pacman
+        if (level.getPacmanCell() >= 0) {
+            int cell = level.getPacmanCell();
+            pacman = new Pacman(cell % cellsPerRow * cellSize, cell / cellsPerRow * cellSize);
+            pacman.setCollisionDetector(collisionDetector);
+
+            //Enregistrement des différents observers de Pacman (les observers de l'interface sont ajoutés via registerObserver)
+            pacman.registerObserver(this);
+
+            //Effets des SuperPacGums de Pacman (bouclier, vitesse)
+            pacman.addEffect(new SheildPacmanEffect(pacman));
+            pacman.addEffect(new FastPacmanEffect(pacman, 3));
         }
-        int cellsPerRow = data.get(0).size();
-        int cellsPerColumn = data.size();
-        int cellSize = 8;
 
-        CollisionDetector collisionDetector = new CollisionDetector(this);
+        //Création des fantômes en utilisant les différentes factories (dans l'ordre de la carte, colonne par colonne)
         AbstractGhostFactory abstractGhostFactory = null;
+        for (int i = 0; i < level.getGhostCount(); i++) {
+            char kind = level.getGhostKind(i);
+            switch (kind) {
+                case 'b':
+                    abstractGhostFactory = new BlinkyFactory();
+                    break;
+                case 'p':
+                    abstractGhostFactory = new PinkyFactory();
+                    break;
+                case 'i':
+                    abstractGhostFactory = new InkyFactory();
+                    break;
+                case 'c':
+                    abstractGhostFactory = new ClydeFactory();
+                    break;
+            }
 
-        //Le niveau a une "grille", et pour chaque case du fichier csv, on affiche une entité parculière sur une case de la grille selon le caracère présent
-        for(int xx = 0 ; xx < cellsPerRow ; xx++) {
-            for(int yy = 0 ; yy < cellsPerColumn ; yy++) {
-                String dataChar = data.get(yy).get(xx);
-                if (dataChar.equals("x")) { //Création des murs
-                    objects.add(new Wall(xx * cellSize, yy * cellSize));
-                }else if (dataChar.equals("P")) { //Création de Pacman
-                    pacman = new Pacman(xx * cellSize, yy * cellSize);
-                    pacman.setCollisionDetector(collisionDetector);
-
-                    //Enregistrement des différents observers de Pacman
-//                   GameLauncher.getUIPanel() -> PlayingState.getUIPanel() 수정
-                    pacman.registerObserver(PlayingState.getUIPanel());
-                    pacman.registerObserver(this);
-
-                    pacman = new SheildPacmanDecorator(pacman, collisionDetector);
-                    pacman = new FastPacmanDecorator(pacman, 3);
-
-                }else if (dataChar.equals("b") || dataChar.equals("p") || dataChar.equals("i") || dataChar.equals("c")) { //Création des fantômes en utilisant les différentes factories
-                    switch (dataChar) {
-                        case "b":
-                            abstractGhostFactory = new BlinkyFactory();
-                            break;
-                        case "p":
-                            abstractGhostFactory = new PinkyFactory();
-                            break;
-                        case "i":
-                            abstractGhostFactory = new InkyFactory();
-                            break;
-                        case "c":
-                            abstractGhostFactory = new ClydeFactory();
-                            break;
-                    }
-
-                    Ghost ghost = abstractGhostFactory.makeGhost(xx * cellSize, yy * cellSize);
-                    if (dataChar.equals("b")) {
-                        blinky = (Blinky) ghost;
-                    }
-
-                    // 레벨별 Decorator 적용
-                    ghost = applyGhostDecorators(ghost);
-
-                    ghost = new SlowGhostDecorator(ghost, 2);
-                    ghosts.add(ghost);
-                }else if (dataChar.equals(".")) { //Création des PacGums
-                    objects.add(new PacGum(xx * cellSize, yy * cellSize));
-                }else if (dataChar.equals("o")) { //Création des SuperPacGums
-                    int rand = (int)(Math.random() * 4); // 0~3 난수 생성
-                    int px = xx * cellSize;
-                    int py = yy * cellSize;
-                    switch (rand) {
-                        case 0:
-                            objects.add(new FrightenedGhostSuperPacGum(px, py));
-                            break;
-                        case 1:
-                            objects.add(new SlowGhostSuperPacGum(px, py));
-                            break;
-                        case 2:
-                            objects.add(new SheildPacmanSuperPacGum(px, py));
-                            break;
-                        case 3:
-                            objects.add(new FastPacmanSuperPacGum(px, py));
-                            break;
-                    }
-                }else if (dataChar.equals("-")) { //Création des murs de la maison des fantômes
-                    objects.add(new GhostHouse(xx * cellSize, yy * cellSize));
-                }
+            int cell = level.getGhostCell(i);
+            Ghost ghost = abstractGhostFactory.makeGhost(cell % cellsPerRow * cellSize, cell / cellsPerRow * cellSize);
+            if (kind == 'b') {
+                blinky = (Blinky) ghost;
             }
+
+            // 레벨별 효과 적용
+            applyGhostEffects(ghost);
+            registry.addGhost(ghost);
         }
-        objects.add(pacman);
-        objects.addAll(ghosts);
 
-        for (Entity o : objects) {
-            if (o instanceof Wall) {
-                walls.add((Wall) o);
+        //Création des SuperPacGums (le type est tiré au hasard à chaque partie, dans l'ordre de la carte)
+        for (int i = 0; i < level.getSuperPacGumCount(); i++) {
+            int cell = level.getSuperPacGumCell(i);
+            int xx = cell % cellsPerRow;
+            int yy = cell / cellsPerRow;
+            int rand = random.get(GameRandom.Subsystem.PELLETS).nextInt(4); // 0~3 난수 생성
+            int px = xx * cellSize;
+            int py = yy * cellSize;
+            switch (rand) {
+                case 0:
+                    pelletGrid.addSuperPacGum(xx, yy, new FrightenedGhostSuperPacGum(px, py));
+                    break;
+                case 1:
+                    pelletGrid.addSuperPacGum(xx, yy, new SlowGhostSuperPacGum(px, py));
+                    break;
+                case 2:
+                    pelletGrid.addSuperPacGum(xx, yy, new SheildPacmanSuperPacGum(px, py));
+                    break;
+                case 3:
+                    pelletGrid.addSuperPacGum(xx, yy, new FastPacmanSuperPacGum(px, py));
+                    break;
             }
         }
+        registry.setPlayer(pacman);
+
+        // 하우스 / 하우스 출구 / 구석처럼 고정된 목표로 가는 흐름장도 미리 준비 (같은 레벨을 쓰는 게임끼리 공유)
+        for (Ghost ghost : registry.getGhosts()) {
+            ghost.prepareNavigation();
+        }
     }
 
     /**
@@ -169,57 +198,51 @@ public class Game implements Observer {
                 levelStrategy = new Level1Strategy();
                 break;
             case 2:
-                levelStrategy = new Level2Strategy();
+                levelStrategy = new Level2Strategy(random.get(GameRandom.Subsystem.LEVEL));
                 break;
             case 3:
-                levelStrategy = new Level3Strategy();
+                levelStrategy = new Level3Strategy(random.get(GameRandom.Subsystem.LEVEL));
                 break;
             default:
                 levelStrategy = new Level1Strategy();
         }
 
         // 콘솔에 현재 레벨 출력
+        if (!verbose) return;
         System.out.println("🎮 Game Started: " + levelStrategy.getLevelName());
         System.out.println("   ├─ 속도 증가율: " + (int)(levelStrategy.getSpeedIncreaseRate() * 100) + "%");
         System.out.println("   └─ 해산시간 감소율: " + (int)(levelStrategy.getFrightenedTimerReduction() * 100) + "%");
     }
 
     /**
-     * 고스트에 Decorator 적용 (Decorator 패턴 + Strategy 패턴)
+     * 고스트에 효과 추가 (Strategy 패턴)
      *
-     * 레벨 Strategy에 따라 적절한 Decorator 조합 적용
-     * - 모든 레벨: SpeedBoostGhostDecorator (속도 증가, 레벨별 다른 증가율)
-     * - 모든 레벨: SlowGhostDecorator (기본)
-     * - 레벨 2+: TeleportGhostDecorator (순간이동)
-     * - 레벨 3: InvisibleGhostDecorator (투명화)
+     * 레벨 Strategy에 따라 적절한 효과 조합 적용
+     * - 모든 레벨: SpeedBoostGhostEffect (속도 증가, 레벨별 다른 증가율)
+     * - 모든 레벨: SlowGhostEffect (SlowGhostSuperPacGum 아이템 효과)
+     * - 레벨 2+: TeleportGhostEffect (순간이동)
+     * - 레벨 3: InvisibleGhostEffect (투명화)
      *
-     * Decorator 적용 순서:
-     * 1. SpeedBoostGhostDecorator (가장 안쪽 - 기본 속도 변경)
-     * 2. SlowGhostDecorator (중간 - 아이템 효과)
-     * 3. TeleportGhostDecorator (바깥 - 순간이동)
-     * 4. InvisibleGhostDecorator (가장 바깥 - 투명화)
+     * 효과는 추가한 순서대로 적용됨 (속도 조정 → 순간이동 → 투명화)
      *
-     * @param ghost 원본 고스트
-     * @return Decorator가 적용된 고스트
+     * @param ghost 효과를 붙일 고스트
      */
-    private Ghost applyGhostDecorators(Ghost ghost) {
-        // 속도 증가 Decorator (모든 레벨에 적용, 레벨별 다른 증가율)
-        ghost = new SpeedBoostGhostDecorator(ghost, levelStrategy);
+    private void applyGhostEffects(Ghost ghost) {
+        // 속도 증가 (모든 레벨에 적용, 레벨별 다른 증가율)
+        ghost.addEffect(new SpeedBoostGhostEffect(ghost, levelStrategy));
 
-        // 기본 Decorator: 속도 감소
-        ghost = new SlowGhostDecorator(ghost, 2);
+        // 아이템 효과: 속도 감소
+        ghost.addEffect(new SlowGhostEffect(ghost, 2));
 
-        // 순간이동 Decorator (레벨 2 이상)
+        // 순간이동 (레벨 2 이상)
         if (levelStrategy.getTeleportInterval() > 0) {
-            ghost = new TeleportGhostDecorator(ghost, levelStrategy);
+            ghost.addEffect(new TeleportGhostEffect(ghost, levelStrategy, random.get(GameRandom.Subsystem.TELEPORT)));
         }
 
-        // 투명화 Decorator (레벨 3)
+        // 투명화 (레벨 3)
         if (levelStrategy.getInvisibleInterval() > 0) {
-            ghost = new InvisibleGhostDecorator(ghost, levelStrategy);
+            ghost.addEffect(new InvisibleGhostEffect(ghost, levelStrategy));
         }
-
-        return ghost;
     }
 
     // 레벨 설정 (나중에 시작 패널에서 호출)
@@ -235,31 +258,126 @@ public class Game implements Observer {
         return levelStrategy;
     }
 
-    public static List<Wall> getWalls() {
-        return walls;
+    //Game 이 static 으로 공유하는 월드 상태 초기화 (시뮬레이션/테스트 사이에 이전 맵이 남지 않도록)
+    public static void reset() {
+        pacman = null;
+        blinky = null;
+        wallGrid = null;
+        navGraph = null;
+        levelStrategy = null;
+        firstInput = false;
+        random = new GameRandom(GameRandom.randomSeed());
+        timers = new TimerWheel();
+        waves = new WaveSchedule(timers, null);
+        width = 0;
+        height = 0;
+    }
+
+    public static int getWidth() {
+        return width;
+    }
+
+    public static int getHeight() {
+        return height;
+    }
+
+    public static void setVerbose(boolean b) {
+        verbose = b;
+    }
+
+    public static boolean isVerbose() {
+        return verbose;
+    }
+
+    public static GameRandom getRandom() {
+        return random;
+    }
+
+    public static TimerWheel getTimers() {
+        return timers;
     }
 
-    public List<Entity> getEntities() {
-        return objects;
+    public static WaveSchedule getWaves() {
+        return waves;
     }
 
-    //Mise à jour de toutes les entités
+    public static WallGrid getWallGrid() {
+        return wallGrid;
+    }
+
+    public static NavGraph getNavGraph() {
+        return navGraph;
+    }
+
+    public EntityRegistry getRegistry() {
+        return registry;
+    }
+
+    public SpatialGrid getSpatialGrid() {
+        return spatialGrid;
+    }
+
+    public PelletGrid getPelletGrid() {
+        return pelletGrid;
+    }
+
+    //남은 PacGum + SuperPacGum 수 (PelletGrid 가 유지하므로 O(1))
+    public int getRemainingPellets() {
+        return pelletGrid.getRemaining();
+    }
+
+    public boolean isLevelCleared() {
+        return pelletGrid.getRemaining() == 0;
+    }
+
+    //마지막으로 끝난 틱 기준 점수
+    public int getScore() {
+        return score;
+    }
+
+    public int getPacGumsEaten() {
+        return pacGumsEaten;
+    }
+
+    public int getSuperPacGumsEaten() {
+        return superPacGumsEaten;
+    }
+
+    public int getGhostsEaten() {
+        return ghostsEaten;
+    }
+
+    public boolean isGameOver() {
+        return gameOver;
+    }
+
+    /**
+     * Pacman 에 외부 observer 등록
+     * Game 자신은 항상 마지막에 알림을 받도록 다시 등록함
+     * (고스트 충돌 시 다른 observer 가 Game 이 상태를 바꾸기 전의 FrightenedMode 를 보도록)
+     */
+    public void registerObserver(Observer observer) {
+        if (observer == null) return;
+        pacman.removeObserver(this);
+        pacman.registerObserver(observer);
+        pacman.registerObserver(this);
+    }
+
+    //Mise à jour des entités dynamiques (les entités statiques n'ont rien à mettre à jour)
     public void update() {
-        for (Entity o: objects) {
-            if (!o.isDestroyed()) o.update();
-        }
+        if (firstInput) timers.advance();
+        registry.update();
+        score = pacGumsEaten * PACGUM_POINTS + superPacGumsEaten * SUPER_PACGUM_POINTS + ghostsEaten * GHOST_POINTS;
     }
 
     //Gestion des inputs
-    public void input(KeyHandler k) {
+    public void input(InputSource k) {
         pacman.input(k);
     }
 
     //Rendu de toutes les entités
     public void render(Graphics2D g) {
-        for (Entity o: objects) {
-            if (!o.isDestroyed()) o.render(g);
-        }
+        registry.render(g);
     }
 
     public static Pacman getPacman() {
@@ -272,14 +390,16 @@ public class Game implements Observer {
     //Le jeu est notifiée lorsque Pacman est en contact avec une PacGum, une SuperPacGum ou un fantôme
     @Override
     public void updatePacGumEaten(PacGum pg) {
-        pg.destroy(); //La PacGum est détruite quand Pacman la mange
+        if (pelletGrid.eatPacGum(pg)) pacGumsEaten++; //La PacGum est détruite quand Pacman la mange
+        pg.destroy();
     }
 
     @Override
     public void updateSuperPacGumEaten(SuperPacGum spg) {
-        spg.destroy(); //La SuperPacGum est détruite quand Pacman la mange
+        if (pelletGrid.eatSuperPacGum(spg)) superPacGumsEaten++; //La SuperPacGum est détruite quand Pacman la mange
+        spg.destroy();
         if(spg instanceof GhostSuperPacGum){
-            for (Ghost gh : ghosts) {
+            for (Ghost gh : registry.getGhosts()) {
                 gh.superPacGumEaten(spg);
             }
         }
@@ -291,15 +411,18 @@ public class Game implements Observer {
     @Override
     public void updateGhostCollision(Ghost gh) {
         if (gh.getState() instanceof FrightenedMode) {
+            ghostsEaten++;
             gh.getState().eaten(); //S'il existe une transition particulière quand le fantôme est mangé, son état change en conséquence
         }else if (!(gh.getState() instanceof EatenMode)) {
-            GameManager gameManager= GameManager.getInstance();
-            gameManager.setScore(PlayingState.getUIPanel().getScore());
-            GameOverState gameOverState = new GameOverState();
-            gameOverState.saveRanking();
-            SwingUtilities.invokeLater(() -> {
-                gameManager.changeState(gameOverState);
-            });
+            //La transition vers l'écran de fin est gérée par la boucle de jeu (GameplayPanel) ou par le simulateur
+            gameOver = true;
+        }
+    }
+
+    //Fin d'une vague chase / scatter : les fantômes en chase ou scatter changent de mode en même temps
+    private void updateWaveOver() {
+        for (Ghost gh : registry.getGhosts()) {
+            gh.waveOver();
         }
     }
 
@@ -1,84 +1,64 @@
 package game;
 
-import game.entities.PacGum;
-import game.entities.superPacGums.SuperPacGum;
-import game.entities.ghosts.Ghost;
-import game.ghostStates.FrightenedMode;
+import game.render.FrameSnapshot;
+import game.render.HudLayer;
+import game.utils.CompatibleImages;
 
 import javax.swing.*;
-import javax.swing.SwingConstants;
 import java.awt.*;
+import java.awt.image.BufferedImage;
 
-//Panneau de l'interface utilisateur
-public class UIPanel extends JPanel implements Observer {
+//Panneau de l'interface utilisateur (niveau et score), dessiné dans la frame du jeu à droite du plateau (LayeredRenderer)
+//Plus de JLabel.setText / revalidate à chaque PacGum : l'image du panneau n'est redessinée que si le score ou le niveau du snapshot a changé,
+//donc au plus une fois par frame affichée ; le reste du temps, on recopie l'image en cache
+public class UIPanel implements HudLayer {
     public static int width;
     public static int height;
 
-    private int score = 0;
-    private JLabel scoreLabel;
-    private JLabel levelLabel = new JLabel("Level: " + Game.getGameLevel());
+    //score / level : valeurs dessinées dans image (on ne redessine que si le snapshot a changé)
+    private int score;
+    private int level;
+    private BufferedImage image;
+    private final Font font;
 
     public UIPanel(int width, int height) {
         this.width = width;
         this.height = height;
 
-        setPreferredSize(new Dimension(width, height));
-        setLayout(new GridLayout(2, 1));   // ⬅⬅ 화면을 위/아래 2등분
-        this.setBackground(Color.black);
-
-        // 상단 패널: Level 표시
-        JPanel topPanel = new JPanel();
-        topPanel.setBackground(Color.black);
-        topPanel.setLayout(new BorderLayout());
-
-        levelLabel = new JLabel("Level: " + Game.getGameLevel(), SwingConstants.CENTER);
-        levelLabel.setFont(levelLabel.getFont().deriveFont(20.0F));
-        levelLabel.setForeground(Color.white);
-        levelLabel.setBorder(BorderFactory.createEmptyBorder(20, 0, 20, 0));
-
-        topPanel.add(levelLabel, BorderLayout.CENTER);
-
-        // 하단 패널: Score 표시
-        JPanel bottomPanel = new JPanel();
-        bottomPanel.setBackground(Color.black);
-        bottomPanel.setLayout(new BorderLayout());
-
-        scoreLabel = new JLabel("Score: " + score, SwingConstants.CENTER);
-        scoreLabel.setFont(scoreLabel.getFont().deriveFont(20.0F));
-        scoreLabel.setForeground(Color.white);
-        scoreLabel.setBorder(BorderFactory.createEmptyBorder(20, 0, 20, 0));
-
-        bottomPanel.add(scoreLabel, BorderLayout.CENTER);
-
-        // 두 패널을 위아래로 추가
-        this.add(topPanel);       // GridLayout의 첫 칸 = 상단 50%
-        this.add(bottomPanel);    // GridLayout의 두 번째 칸 = 하단 50%
+        // même police que les anciens JLabel
+        Font labelFont = UIManager.getFont("Label.font");
+        this.font = (labelFont != null ? labelFont : new Font(Font.DIALOG, Font.PLAIN, 12)).deriveFont(20.0F);
     }
 
-    public void updateScore(int incrScore) {
-        this.score += incrScore;
-        this.scoreLabel.setText("Score: " + score);
-    }
-
-    public int getScore() {
-        return score;
-    }
-
-    //L'interface est notifiée lorsque Pacman est en contact avec une PacGum, une SuperPacGum ou un fantôme, et on met à jour le score affiché en conséquence
     @Override
-    public void updatePacGumEaten(PacGum pg) {
-        updateScore(10);
+    public void render(Graphics2D g, FrameSnapshot snapshot) {
+        if (image == null || snapshot.getScore() != score || snapshot.getLevel() != level) {
+            redraw(snapshot.getScore(), snapshot.getLevel());
+        }
+        g.drawImage(image, 0, 0, null);
     }
 
-    @Override
-    public void updateSuperPacGumEaten(SuperPacGum spg) {
-        updateScore(100);
+    // 화면을 위/아래 2등분 : 상단 Level, 하단 Score (각각 가운데 정렬)
+    private void redraw(int score, int level) {
+        this.score = score;
+        this.level = level;
+        if (image == null) image = CompatibleImages.create(width, height, Transparency.OPAQUE);
+
+        Graphics2D g = image.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_TEXT_ANTIALIASING, RenderingHints.VALUE_TEXT_ANTIALIAS_ON);
+        g.setColor(Color.black);
+        g.fillRect(0, 0, width, height);
+        g.setColor(Color.white);
+        g.setFont(font);
+        drawCentered(g, "Level: " + level, 0);
+        drawCentered(g, "Score: " + score, height / 2);
+        g.dispose();
     }
 
-    @Override
-    public void updateGhostCollision(Ghost gh) {
-        if (gh.getState() instanceof FrightenedMode) { //Dans le cas où Pacman est en contact avec un fantôme on ne met à jour le score que lorsque ce dernier est en mode "frightened"
-            updateScore(500);
-        }
+    private void drawCentered(Graphics2D g, String text, int top) {
+        FontMetrics fm = g.getFontMetrics();
+        int x = (width - fm.stringWidth(text)) / 2;
+        int y = top + (height / 2 - fm.getHeight()) / 2 + fm.getAscent();
+        g.drawString(text, x, y);
     }
 }
@@ -0,0 +1,103 @@
+package game.engine;
+
+import game.gameStates.PlayingState;
+import game.level.CompiledLevel;
+import game.level.LevelCache;
+import game.utils.ResourceUtils;
+import game.utils.SpriteCache;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 시작 메뉴에 있는 동안 게임에 필요한 자원을 작업 스레드에서 미리 읽어 둠
+ *
+ * - 스프라이트 : SpriteCache 에 디코딩 + 프레임 분할 (start() 에서 한 번)
+ * - 레벨 : 선택된 맵의 CSV 컴파일 (LevelCache) + 배경 이미지를 화면 크기로 그린 정적 레이어
+ *
+ * 게임 화면으로 넘어갈 때는 spritesReady() / levelReady(mapName) 의 future 를 기다림
+ * (미리 끝나 있으면 바로 반환, 아직 읽는 중이면 그 작업이 끝나기만 기다리고 같은 일을 다시 하지 않음)
+ * 미리 읽기에 실패한 레벨은 future 가 예외로 끝나며, 다음 요청 때 다시 시도함
+ *
+ * 마지막으로 요청한 맵의 future 하나만 들고 있음 (맵 선택 화면에서 넘긴 맵들을 붙잡아 두지 않도록 ;
+ * 컴파일된 레벨을 보관하는 것은 LevelCache 의 LRU 뿐)
+ */
+public final class AssetPreloader {
+    //엔티티가 쓰는 스프라이트와 프레임 크기 (Pacman, 고스트 모두 32px)
+    private static final String[] SPRITES = {
+            "pacman.png", "sheild_pacman.png",
+            "blinky.png", "pinky.png", "inky.png", "clyde.png",
+            "ghost_frightened.png", "ghost_frightened_2.png", "ghost_eaten.png"
+    };
+    private static final int SPRITE_SIZE = 32;
+
+    private static final AssetPreloader INSTANCE = new AssetPreloader();
+
+    private final ExecutorService pool;
+    private String latestName;
+    private CompletableFuture<CompiledLevel> latest;
+    private volatile CompletableFuture<Void> sprites;
+
+    private AssetPreloader() {
+        AtomicInteger n = new AtomicInteger();
+        int threads = Math.max(1, Math.min(2, Runtime.getRuntime().availableProcessors() - 1));
+        pool = Executors.newFixedThreadPool(threads, r -> {
+            Thread t = new Thread(r, "Preloader-" + n.incrementAndGet());
+            t.setDaemon(true);
+            t.setPriority(Thread.NORM_PRIORITY - 1);
+            return t;
+        });
+    }
+
+    public static AssetPreloader getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * 스프라이트 미리 읽기 + 맵 선택 화면이 처음 보여 줄 맵 (이름순 첫 번째) 미리 컴파일
+     * 여러 번 불러도 스프라이트는 한 번만 읽음
+     */
+    public void start() {
+        spritesReady();
+        pool.execute(() -> {
+            List<String> names = new ResourceUtils().listLevelNames();
+            if (!names.isEmpty()) preloadLevel(names.get(0));
+        });
+    }
+
+    public synchronized CompletableFuture<Void> spritesReady() {
+        if (sprites == null) {
+            sprites = CompletableFuture.runAsync(() -> {
+                for (String sprite : SPRITES) {
+                    SpriteCache.getFrames(sprite, SPRITE_SIZE);
+                }
+            }, pool);
+        }
+        return sprites;
+    }
+
+    /**
+     * mapName 레벨을 작업 스레드에서 컴파일 (이미 읽는 중이면 그 future 를 그대로 반환)
+     * 끝난 레벨을 다시 요청하면 LevelCache 로 다시 확인함 (그 사이 맵 편집기로 CSV 가 바뀌었을 수 있으므로 ;
+     * 바뀌지 않았으면 해시만 비교하고 끝남)
+     */
+    public synchronized CompletableFuture<CompiledLevel> preloadLevel(String mapName) {
+        if (mapName.equals(latestName) && !latest.isDone()) return latest;
+        latestName = mapName;
+        latest = CompletableFuture.supplyAsync(() -> {
+            CompiledLevel level = LevelCache.getInstance().get(mapName);
+            level.getStaticLayer(PlayingState.WIDTH, PlayingState.HEIGHT);
+            return level;
+        }, pool);
+        return latest;
+    }
+
+    //게임 화면으로 넘어갈 때 사용 ; 미리 읽기를 시작하지 않았던 맵이면 지금 시작
+    public synchronized CompletableFuture<CompiledLevel> levelReady(String mapName) {
+        if (mapName.equals(latestName) && !latest.isCompletedExceptionally()) return latest;
+        return preloadLevel(mapName);
+    }
+}
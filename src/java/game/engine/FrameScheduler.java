@@ -0,0 +1,107 @@
+package game.engine;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * 고정 시뮬레이션 스텝 스케줄러
+ *
+ * - 틱 마감 시각은 long 나노초로 관리 (double 누적 오차 없음)
+ * - 대기는 LockSupport.parkNanos 로 하고, 마감 직전 spinNanos 구간만 Thread.onSpinWait 로 바쁜 대기 (park 의 깨어나는 지연 보정)
+ * - 늦어진 경우 한 번에 최대 maxCatchUpTicks 틱까지 따라잡고, 그 이상은 버림 (1 이면 따라잡지 않음)
+ * - 마감을 놓친 횟수와 버린 틱 수를 집계
+ *
+ * 사용 예)
+ *   scheduler.start();
+ *   while (running) {
+ *       for (int n = scheduler.ticksDue(); n > 0; n--) update();
+ *       render();
+ *       scheduler.awaitNextTick();
+ *   }
+ */
+public class FrameScheduler {
+    public static final long DEFAULT_SPIN_NANOS = 200_000L;
+
+    private final long periodNanos;
+    private final int maxCatchUpTicks;
+    private final long spinNanos;
+    private final LongSupplier clock;
+
+    private long nextTick;
+    private long ticks = 0;
+    private long missedDeadlines = 0;
+    private long droppedTicks = 0;
+
+    public FrameScheduler(double hz, int maxCatchUpTicks) {
+        this(hz, maxCatchUpTicks, DEFAULT_SPIN_NANOS, System::nanoTime);
+    }
+
+    public FrameScheduler(double hz, int maxCatchUpTicks, long spinNanos, LongSupplier clock) {
+        if (hz <= 0) throw new IllegalArgumentException("hz must be positive: " + hz);
+        if (maxCatchUpTicks < 1) throw new IllegalArgumentException("maxCatchUpTicks must be >= 1: " + maxCatchUpTicks);
+        this.periodNanos = Math.round(1_000_000_000L / hz);
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.spinNanos = Math.max(0, spinNanos);
+        this.clock = clock;
+        this.nextTick = clock.getAsLong();
+    }
+
+    //첫 틱 마감을 지금으로 맞춤
+    public void start() {
+        nextTick = clock.getAsLong();
+    }
+
+    /**
+     * 지금 실행해야 할 틱 수
+     * 마감이 두 번 이상 지났으면 마감을 놓친 것으로 집계하고, maxCatchUpTicks 를 넘는 틱은 버린 뒤 다음 마감을 미래로 옮김
+     */
+    public int ticksDue() {
+        long now = clock.getAsLong();
+        long late = now - nextTick;
+        if (late < 0) return 0;
+
+        long due = late / periodNanos + 1;
+        if (due > 1) missedDeadlines++;
+
+        long run = Math.min(due, maxCatchUpTicks);
+        droppedTicks += due - run;
+        nextTick += due * periodNanos; //버린 틱도 건너뛰어 위상 유지
+        ticks += run;
+        return (int) run;
+    }
+
+    //다음 틱 마감까지 대기 : park 후 마지막 spinNanos 만 스핀
+    public void awaitNextTick() {
+        long remaining;
+        while ((remaining = nextTick - clock.getAsLong()) > spinNanos) {
+            LockSupport.parkNanos(remaining - spinNanos);
+            if (Thread.interrupted()) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+        while (nextTick - clock.getAsLong() > 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    public long getPeriodNanos() {
+        return periodNanos;
+    }
+
+    public int getMaxCatchUpTicks() {
+        return maxCatchUpTicks;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public long getMissedDeadlines() {
+        return missedDeadlines;
+    }
+
+    public long getDroppedTicks() {
+        return droppedTicks;
+    }
+}
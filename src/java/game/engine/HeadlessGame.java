@@ -0,0 +1,127 @@
+package game.engine;
+
+import game.Game;
+import game.utils.ProgrammaticInput;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Swing 없이 Game 을 돌리는 헤드리스 실행기
+ *
+ * - JFrame / 패널 / 이미지 로드 없이 맵만 읽어서 Game.update() 를 CPU 가 허용하는 만큼 빠르게 반복
+ * - 입력은 KeyHandler 대신 ProgrammaticInput 으로 매 틱 주입
+ *
+ * Game 은 Pacman / 벽 격자 / 레벨 전략을 static 으로 들고 있으므로 한 JVM 에서 게임은 한 번에 하나씩 순차 실행해야 함
+ *
+ * 사용 예) java -Djava.awt.headless=true game.engine.HeadlessGame --map default_map --level 3 --games 1000 --ticks 20000 --seed 42
+ */
+public class HeadlessGame {
+    private static final double GAME_HERTZ = 60.0; //GameplayPanel 과 같은 60Hz
+    private static final int MAX_CATCH_UP_TICKS = 5;
+
+    private final Game game;
+    private final ProgrammaticInput input;
+    private long tick = 0;
+
+    public HeadlessGame(String mapName, int level, long seed, ProgrammaticInput input) {
+        Game.setGameLevel(level);
+        this.game = new Game(mapName, seed);
+        this.input = input;
+    }
+
+    //GameplayPanel 의 루프와 같은 순서로 한 틱 진행 : 입력 -> 갱신
+    public void step() {
+        input.onTick(tick);
+        game.input(input);
+        game.update();
+        tick++;
+    }
+
+    public SimulationResult run(long maxTicks) {
+        return run(maxTicks, false);
+    }
+
+    //realTime 이면 GameplayPanel 과 같은 스케줄러로 60Hz 에 맞추고, 아니면 CPU 가 허용하는 만큼 빠르게 진행
+    public SimulationResult run(long maxTicks, boolean realTime) {
+        FrameScheduler scheduler = realTime ? new FrameScheduler(GAME_HERTZ, MAX_CATCH_UP_TICKS) : null;
+        if (scheduler != null) scheduler.start();
+        while (tick < maxTicks) {
+            int ticks = scheduler != null ? scheduler.ticksDue() : 1;
+            for (int i = 0; i < ticks && tick < maxTicks; i++) {
+                step();
+                if (game.isGameOver()) {
+                    return result(SimulationResult.Outcome.GAME_OVER);
+                }
+                if (game.isLevelCleared()) {
+                    return result(SimulationResult.Outcome.LEVEL_CLEARED);
+                }
+            }
+            if (scheduler != null) scheduler.awaitNextTick();
+        }
+        return result(SimulationResult.Outcome.TIMEOUT);
+    }
+
+    private SimulationResult result(SimulationResult.Outcome outcome) {
+        return new SimulationResult(outcome, tick, game.getScore(), game.getRemainingPellets());
+    }
+
+    public Game getGame() {
+        return game;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public static void main(String[] args) {
+        String mapName = "default_map";
+        int level = 1;
+        int games = 100;
+        long maxTicks = 60L * 60 * 5; // 5분
+        long seed = 0;
+
+        for (int i = 0; i + 1 < args.length; i += 2) {
+            String value = args[i + 1];
+            switch (args[i]) {
+                case "--map":
+                    mapName = value;
+                    break;
+                case "--level":
+                    level = Integer.parseInt(value);
+                    break;
+                case "--games":
+                    games = Integer.parseInt(value);
+                    break;
+                case "--ticks":
+                    maxTicks = Long.parseLong(value);
+                    break;
+                case "--seed":
+                    seed = Long.parseLong(value);
+                    break;
+                default:
+                    throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+
+        Game.setVerbose(false); //디버그 로그가 시뮬레이션 속도를 잡아먹지 않도록
+
+        Map<SimulationResult.Outcome, Integer> outcomes = new EnumMap<>(SimulationResult.Outcome.class);
+        long totalTicks = 0;
+        long totalScore = 0;
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            HeadlessGame sim = new HeadlessGame(mapName, level, seed + i, new RandomWalkInput(seed + i));
+            SimulationResult result = sim.run(maxTicks);
+            outcomes.merge(result.getOutcome(), 1, Integer::sum);
+            totalTicks += result.getTicks();
+            totalScore += result.getScore();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.println("map=" + mapName + " level=" + level + " games=" + games + " seed=" + seed);
+        System.out.println("outcomes=" + outcomes);
+        System.out.printf("avg score=%.1f avg ticks=%.1f%n", (double) totalScore / games, (double) totalTicks / games);
+        System.out.printf("elapsed=%.2fs (%.0f games/min, %.0f ticks/s)%n", seconds, games / seconds * 60, totalTicks / seconds);
+    }
+}
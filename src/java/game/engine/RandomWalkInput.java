@@ -0,0 +1,33 @@
+package game.engine;
+
+import game.utils.ProgrammaticInput;
+
+import java.util.Random;
+
+/**
+ * 무작위로 방향을 바꾸는 간단한 봇 입력
+ * 평균 changeInterval 틱마다 네 방향 중 하나를 새로 고름 (같은 seed 면 같은 입력열)
+ */
+public class RandomWalkInput extends ProgrammaticInput {
+    private static final int[] DIRECTIONS = {LEFT, RIGHT, UP, DOWN};
+
+    private final Random random;
+    private final int changeInterval;
+
+    public RandomWalkInput(long seed, int changeInterval) {
+        this.random = new Random(seed);
+        this.changeInterval = Math.max(1, changeInterval);
+        setState(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+    }
+
+    public RandomWalkInput(long seed) {
+        this(seed, 30);
+    }
+
+    @Override
+    public void onTick(long tick) {
+        if (random.nextInt(changeInterval) == 0) {
+            setState(DIRECTIONS[random.nextInt(DIRECTIONS.length)]);
+        }
+    }
+}
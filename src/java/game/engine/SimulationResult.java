@@ -0,0 +1,43 @@
+package game.engine;
+
+//Résultat d'une partie simulée sans interface
+public class SimulationResult {
+    public enum Outcome {
+        GAME_OVER,
+        LEVEL_CLEARED,
+        TIMEOUT
+    }
+
+    private final Outcome outcome;
+    private final long ticks;
+    private final int score;
+    private final int remainingPellets;
+
+    public SimulationResult(Outcome outcome, long ticks, int score, int remainingPellets) {
+        this.outcome = outcome;
+        this.ticks = ticks;
+        this.score = score;
+        this.remainingPellets = remainingPellets;
+    }
+
+    public Outcome getOutcome() {
+        return outcome;
+    }
+
+    public long getTicks() {
+        return ticks;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getRemainingPellets() {
+        return remainingPellets;
+    }
+
+    @Override
+    public String toString() {
+        return outcome + " ticks=" + ticks + " score=" + score + " remaining=" + remainingPellets;
+    }
+}
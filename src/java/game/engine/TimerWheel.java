@@ -0,0 +1,191 @@
+package game.engine;
+
+/**
+ * 게임 틱 단위 계층형 타이머 휠 (게임 한 판마다 하나)
+ *
+ * - 4 단계 x 64 칸 ; 단계 L 의 한 칸은 64^L 틱
+ * - 타이머는 만료 틱과 현재 틱의 상위 비트가 처음 같아지는 단계에 등록되고,
+ *   아래 단계가 한 바퀴 돌 때마다 한 칸씩 아래 단계로 내려옴 (cascade)
+ * - 등록 / 취소 / 재등록은 O(1), 틱마다 비용은 그 틱에 만료되는 타이머 수에 비례
+ * - 64^4 틱을 넘는 타이머는 overflow 리스트에 두었다가 최상위 단계가 한 바퀴 돌 때 다시 등록
+ *
+ * 각 칸은 Timer 자체를 노드로 쓰는 이중 연결 리스트라 재등록에 할당이 없음
+ * 같은 틱에 만료되는 타이머는 같은 칸에 등록된 순서대로 실행됨 (매번 같은 순서라 시뮬레이션이 결정적)
+ *
+ * advance() 는 게임 틱마다 한 번 호출 ; 일시정지 중에는 시간이 흐르지 않고,
+ * 배속(timeScale)은 1/256 틱 단위 고정소수점으로 누적해서 한 번의 advance() 에 여러 틱(또는 0 틱)을 진행
+ */
+public final class TimerWheel {
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final int OVERFLOW = LEVELS * SLOTS;
+
+    private static final int SCALE_ONE = 256;
+
+    private final Timer[] heads = new Timer[OVERFLOW + 1];
+    private final Timer[] tails = new Timer[OVERFLOW + 1];
+
+    private long now = 0;
+    private boolean paused = false;
+    private int scale = SCALE_ONE;
+    private int scaleAccumulator = 0;
+
+    //등록되지 않은 타이머 ; schedule(timer, delay) 로 몇 번이든 다시 등록할 수 있음
+    public Timer newTimer(Runnable callback) {
+        return new Timer(callback);
+    }
+
+    public Timer schedule(int delayTicks, Runnable callback) {
+        Timer timer = new Timer(callback);
+        schedule(timer, delayTicks);
+        return timer;
+    }
+
+    //delayTicks 틱 뒤에 실행 (1 미만이면 다음 틱) ; 이미 등록되어 있으면 새 만료 시각으로 옮김
+    public void schedule(Timer timer, int delayTicks) {
+        if (timer.wheel() != this) throw new IllegalArgumentException("Timer belongs to another TimerWheel");
+        if (timer.bucket >= 0) unlink(timer);
+        timer.start = now;
+        timer.deadline = now + Math.max(1, delayTicks);
+        insert(timer);
+    }
+
+    public void cancel(Timer timer) {
+        if (timer.wheel() == this && timer.bucket >= 0) unlink(timer);
+    }
+
+    //게임 틱 하나 ; 일시정지 / 배속을 반영해서 0 틱 이상 진행
+    public void advance() {
+        if (paused) return;
+        scaleAccumulator += scale;
+        while (scaleAccumulator >= SCALE_ONE) {
+            scaleAccumulator -= SCALE_ONE;
+            tick();
+        }
+    }
+
+    private void tick() {
+        now++;
+
+        //아래 단계가 한 바퀴 돌았으면 위 단계의 현재 칸을 아래로 내림 (위 단계부터)
+        if ((now & MASK) == 0) {
+            int wrapped = 1;
+            while (wrapped < LEVELS && ((now >>> (BITS * (wrapped + 1))) << (BITS * (wrapped + 1))) == now) {
+                wrapped++;
+            }
+            if (wrapped == LEVELS) cascade(OVERFLOW);
+            for (int level = Math.min(wrapped, LEVELS - 1); level >= 1; level--) {
+                cascade(level * SLOTS + (int) ((now >>> (BITS * level)) & MASK));
+            }
+        }
+
+        //콜백이 새로 등록하는 타이머는 최소 1 틱 뒤라 이 칸에 다시 들어오지 않음
+        int bucket = (int) (now & MASK);
+        Timer timer;
+        while ((timer = heads[bucket]) != null) {
+            unlink(timer);
+            timer.callback.run();
+        }
+    }
+
+    private void cascade(int bucket) {
+        Timer timer = heads[bucket];
+        heads[bucket] = null;
+        tails[bucket] = null;
+        while (timer != null) {
+            Timer next = timer.next;
+            timer.prev = null;
+            timer.next = null;
+            insert(timer);
+            timer = next;
+        }
+    }
+
+    private void insert(Timer timer) {
+        int bucket = OVERFLOW;
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = BITS * (level + 1);
+            if ((timer.deadline >>> shift) == (now >>> shift)) {
+                bucket = level * SLOTS + (int) ((timer.deadline >>> (BITS * level)) & MASK);
+                break;
+            }
+        }
+        timer.bucket = bucket;
+        timer.prev = tails[bucket];
+        timer.next = null;
+        if (tails[bucket] != null) tails[bucket].next = timer;
+        else heads[bucket] = timer;
+        tails[bucket] = timer;
+    }
+
+    private void unlink(Timer timer) {
+        int bucket = timer.bucket;
+        if (timer.prev != null) timer.prev.next = timer.next;
+        else heads[bucket] = timer.next;
+        if (timer.next != null) timer.next.prev = timer.prev;
+        else tails[bucket] = timer.prev;
+        timer.prev = null;
+        timer.next = null;
+        timer.bucket = -1;
+    }
+
+    //지금까지 진행한 틱 수
+    public long getTick() {
+        return now;
+    }
+
+    public boolean isPaused() {
+        return paused;
+    }
+
+    public void setPaused(boolean paused) {
+        this.paused = paused;
+    }
+
+    public double getTimeScale() {
+        return scale / (double) SCALE_ONE;
+    }
+
+    //1.0 = 정상 속도 ; 0 이상
+    public void setTimeScale(double timeScale) {
+        if (timeScale < 0) throw new IllegalArgumentException("timeScale must be >= 0: " + timeScale);
+        this.scale = (int) Math.round(timeScale * SCALE_ONE);
+    }
+
+    /**
+     * 휠에 등록하는 타이머 핸들
+     * 만료되면 콜백을 한 번 실행하고 등록이 풀림 (반복하려면 콜백에서 다시 schedule)
+     */
+    public final class Timer {
+        private final Runnable callback;
+        private long start;
+        private long deadline;
+        private int bucket = -1;
+        private Timer prev;
+        private Timer next;
+
+        private Timer(Runnable callback) {
+            this.callback = callback;
+        }
+
+        private TimerWheel wheel() {
+            return TimerWheel.this;
+        }
+
+        public boolean isPending() {
+            return bucket >= 0;
+        }
+
+        //만료까지 남은 틱 (등록되어 있지 않으면 0)
+        public int getRemaining() {
+            return isPending() ? (int) (deadline - now) : 0;
+        }
+
+        //마지막으로 등록한 뒤 흐른 틱 (등록이 풀린 뒤에는 등록했던 기간 전체)
+        public int getElapsed() {
+            return (int) ((isPending() ? now : deadline) - start);
+        }
+    }
+}
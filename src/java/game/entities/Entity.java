@@ -1,5 +1,7 @@
 package game.entities;
 
+import game.utils.CollisionLayer;
+
 import java.awt.*;
 
 //Classe abtraite pour décrite une entité
@@ -43,4 +45,19 @@ public abstract class Entity {
     }
 
     public abstract Rectangle getHitbox();
+
+    //Couche de collision de l'entité (bitmask utilisé par CollisionDetector à la place d'un test de classe)
+    public int getCollisionLayer() {
+        return CollisionLayer.NONE;
+    }
+
+    //히트박스가 점 (px, py) 를 포함하는지 ; 하위 클래스는 Rectangle 할당 없이 재정의 가능
+    public boolean hitboxContains(int px, int py) {
+        return getHitbox().contains(px, py);
+    }
+
+    //히트박스가 사각형 (x, y, w, h) 와 겹치는지
+    public boolean hitboxIntersects(int x, int y, int w, int h) {
+        return getHitbox().intersects(x, y, w, h);
+    }
 }
@@ -0,0 +1,110 @@
+package game.entities;
+
+import game.entities.ghosts.Ghost;
+import game.level.PelletGrid;
+import game.utils.CollisionLayer;
+import game.utils.Contacts;
+import game.utils.SpatialGrid;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 게임 엔티티를 종류(archetype)별로 나눠 보관하는 레지스트리
+ *
+ * - pellets: PacGum / SuperPacGum 비트셋 (PelletGrid)
+ * - player: Pacman
+ * - ghosts: 고스트
+ *
+ * 매 틱 update 는 움직이는 엔티티(player, ghosts)와 SuperPacGum 깜빡임만 돌리고,
+ * 파괴된 엔티티는 update 후 리스트와 broadphase 에서 제거(compact)
+ */
+public class EntityRegistry {
+    private final List<Ghost> ghosts = new ArrayList<>();
+    private final PelletGrid pellets;
+    private final SpatialGrid spatialGrid;
+    private Pacman player;
+
+    public EntityRegistry(PelletGrid pellets, SpatialGrid spatialGrid) {
+        this.pellets = pellets;
+        this.spatialGrid = spatialGrid;
+    }
+
+    public void setPlayer(Pacman player) {
+        if (this.player != null) spatialGrid.remove(this.player);
+        this.player = player;
+        spatialGrid.insert(player);
+    }
+
+    public void addGhost(Ghost ghost) {
+        ghosts.add(ghost);
+        spatialGrid.insert(ghost);
+    }
+
+    //움직이는 엔티티만 갱신한 뒤 파괴된 엔티티 정리
+    public void update() {
+        pellets.update();
+        if (player != null && !player.isDestroyed()) player.update();
+        for (int i = 0; i < ghosts.size(); i++) {
+            Ghost gh = ghosts.get(i);
+            if (!gh.isDestroyed()) gh.update();
+        }
+        compact();
+    }
+
+    //렌더링 순서: 펠릿 -> Pacman -> 고스트
+    public void render(Graphics2D g) {
+        pellets.render(g);
+        if (player != null && !player.isDestroyed()) player.render(g);
+        for (int i = 0; i < ghosts.size(); i++) {
+            Ghost gh = ghosts.get(i);
+            if (!gh.isDestroyed()) gh.render(g);
+        }
+    }
+
+    /**
+     * Pacman 중심점 기준 접촉 대상을 한 번에 조회
+     * PacGum / SuperPacGum 은 PelletGrid 셀 조회, 고스트는 broadphase 버킷 조회
+     */
+    public Contacts findContacts(Entity obj, Contacts out) {
+        out.clear();
+        int cx = obj.getxPos() + obj.getSize() / 2;
+        int cy = obj.getyPos() + obj.getSize() / 2;
+        out.pacGum = pellets.pacGumAt(cx, cy);
+        out.superPacGum = pellets.superPacGumAt(cx, cy);
+        out.ghost = (Ghost) spatialGrid.queryPoint(cx, cy, CollisionLayer.GHOST, null);
+        return out;
+    }
+
+    //파괴된 엔티티를 순서를 유지하며 제거
+    private void compact() {
+        int w = 0;
+        for (int r = 0; r < ghosts.size(); r++) {
+            Ghost gh = ghosts.get(r);
+            if (gh.isDestroyed()) {
+                spatialGrid.remove(gh);
+            } else {
+                ghosts.set(w++, gh);
+            }
+        }
+        while (ghosts.size() > w) ghosts.remove(ghosts.size() - 1);
+    }
+
+    public Pacman getPlayer() {
+        return player;
+    }
+
+    public List<Ghost> getGhosts() {
+        return Collections.unmodifiableList(ghosts);
+    }
+
+    public PelletGrid getPellets() {
+        return pellets;
+    }
+
+    public SpatialGrid getSpatialGrid() {
+        return spatialGrid;
+    }
+}
@@ -1,8 +0,0 @@
-package game.entities;
-
-//Classe pour les murs de la porte de la maison des fantômes
-public class GhostHouse extends Wall {
-    public GhostHouse(int xPos, int yPos) {
-        super(xPos, yPos);
-    }
-}
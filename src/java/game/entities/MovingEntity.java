@@ -1,12 +1,13 @@
 package game.entities;
 
-import game.panel.GameplayPanel;
+import game.Game;
 import game.entities.superPacGums.SuperPacGum;
+import game.utils.SpatialGrid;
+import game.utils.SpriteCache;
+import game.utils.SpriteFrames;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
 
 //Classe abtraite pour décrire une entité mouvante
 public abstract class MovingEntity extends Entity {
@@ -14,28 +15,34 @@ public abstract class MovingEntity extends Entity {
     protected int xSpd = 0;
     protected int ySpd = 0;
     protected BufferedImage sprite;
+    private String spriteName; //스프라이트는 처음 렌더링할 때 로드 (헤드리스 실행에서는 이미지를 읽지 않음)
+    private SpriteFrames frames; //방향 x 애니메이션 프레임으로 미리 잘라 둔 프레임 (SpriteCache 공유)
     protected float subimage = 0;
     protected int nbSubimagesPerCycle;
     protected int direction = 0;
     protected float imageSpd = 0.2f;
 
+    //Broadphase 등록 정보 (SpatialGrid 가 관리)
+    private SpatialGrid spatialGrid;
+    private int spatialId = -1;
+
     public MovingEntity(int size, int xPos, int yPos, int spd, String spriteName, int nbSubimagesPerCycle, float imageSpd) {
         super(size, xPos, yPos);
         this.spd = spd;
-        try {
-            this.sprite = ImageIO.read(getClass().getClassLoader().getResource("img/" + spriteName));
-            this.nbSubimagesPerCycle = nbSubimagesPerCycle;
-            this.imageSpd = imageSpd;
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        this.spriteName = spriteName;
+        this.nbSubimagesPerCycle = nbSubimagesPerCycle;
+        this.imageSpd = imageSpd;
     }
 
     @Override
     public void update() {
         before_updatePosition();
         if(updatePositionCondition()){
-            updatePosition(getxSpd(), getySpd(), getSpd());
+            updatePosition(getMoveXSpd(), getMoveYSpd(), getMoveSpd());
+        }
+        //위치가 바뀌었을 수 있으므로 broadphase 버킷 갱신 (버킷이 그대로면 비용 없음)
+        if (spatialGrid != null) {
+            spatialGrid.update(this);
         }
     }
     public boolean updatePositionCondition(){
@@ -68,20 +75,20 @@ public abstract class MovingEntity extends Entity {
         }
 
         //Si l'entité va au dela des bords de la zone de jeu, elle passe de l'autre côté
-        if (xPos > GameplayPanel.width) {
+        if (xPos > Game.getWidth()) {
             xPos = 0 - size + spd;
         }
 
         if (xPos < 0 - size + spd) {
-            xPos = GameplayPanel.width;
+            xPos = Game.getWidth();
         }
 
-        if (yPos > GameplayPanel.height) {
+        if (yPos > Game.getHeight()) {
             yPos = 0 - size + spd;
         }
 
         if (yPos < 0 - size + spd) {
-            yPos = GameplayPanel.height;
+            yPos = Game.getHeight();
         }
     }
 
@@ -90,7 +97,12 @@ public abstract class MovingEntity extends Entity {
         //Par défaut, on considère que chaque "sprite" contient 4 variations de l'animation correspondant à une direction et chaque animation a un certain nombre d'images
         //En sachant cela, on affiche seulement la partie de l'image du sprite correspondant à la bonne direction et à la bonne frame de l'animation
 //        g.drawImage(sprite.getSubimage((int)subimage * size + direction * size * nbSubimagesPerCycle, 0, size, size), this.xPos, this.yPos,null);
-        g.drawImage(getSprite().getSubimage((int)getSubimage() * size + getDirection() * size * getNbSubimagesPerCycle(), 0, size, size), getxPos(), getyPos(),null);
+        g.drawImage(getCurrentFrame(), getxPos(), getyPos(),null);
+    }
+
+    //Image à afficher pour l'état actuel (null si l'entité ne doit pas être affichée) ; utilisée aussi pour les FrameSnapshot
+    public BufferedImage getCurrentFrame() {
+        return getFrames().get(getDirection(), getNbSubimagesPerCycle(), (int)getSubimage());
     }
 
     //Méthode pour savoir si l'entité est bien positionnée sur une case de la grille de la zone de jeu ou non
@@ -99,26 +111,62 @@ public abstract class MovingEntity extends Entity {
     }
 
     //Méthode pour savoir si l'entité est dans la zone de jeu ou non
-    public boolean onGameplayWindow() { return !(xPos<=0 || xPos>= GameplayPanel.width || yPos<=0 || yPos>= GameplayPanel.height); }
+    public boolean onGameplayWindow() { return !(xPos<=0 || xPos>= Game.getWidth() || yPos<=0 || yPos>= Game.getHeight()); }
 
     public Rectangle getHitbox() {
         return new Rectangle(xPos, yPos, size, size);
     }
 
+    @Override
+    public boolean hitboxContains(int px, int py) {
+        int x = getxPos();
+        int y = getyPos();
+        int s = getSize();
+        return s > 0 && px >= x && px < x + s && py >= y && py < y + s;
+    }
+
+    @Override
+    public boolean hitboxIntersects(int x, int y, int w, int h) {
+        int ex = getxPos();
+        int ey = getyPos();
+        int s = getSize();
+        return s > 0 && w > 0 && h > 0 && x < ex + s && x + w > ex && y < ey + s && y + h > ey;
+    }
+
+    public void setSpatialGrid(SpatialGrid spatialGrid, int spatialId) {
+        this.spatialGrid = spatialGrid;
+        this.spatialId = spatialId;
+    }
+
+    public int getSpatialId() {
+        return spatialId;
+    }
+
     public BufferedImage getSprite() {
+        if (sprite == null && spriteName != null) {
+            sprite = SpriteCache.getImage(spriteName);
+        }
         return sprite;
     }
 
+    //render() 에서 쓰는 프레임 테이블 ; 같은 스프라이트를 쓰는 엔티티끼리 공유
+    public SpriteFrames getFrames() {
+        if (frames == null) {
+            frames = spriteName != null ? SpriteCache.getFrames(spriteName, size) : SpriteFrames.slice(sprite, size);
+        }
+        return frames;
+    }
+
     public void setSprite(BufferedImage sprite) {
         this.sprite = sprite;
+        this.spriteName = null;
+        this.frames = null;
     }
 
     public void setSprite(String spriteName) {
-        try {
-            this.sprite = ImageIO.read(getClass().getClassLoader().getResource("img/" + spriteName));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        this.spriteName = spriteName;
+        this.sprite = null;
+        this.frames = null;
     }
 
     public float getSubimage() {
@@ -165,5 +213,27 @@ public abstract class MovingEntity extends Entity {
         return spd;
     }
 
+    //Vitesses utilisées pour le déplacement (par défaut les vitesses de base ; Ghost et Pacman y appliquent leurs effets)
+    public int getMoveXSpd() {
+        return getxSpd();
+    }
+
+    public int getMoveYSpd() {
+        return getySpd();
+    }
+
+    public int getMoveSpd() {
+        return getSpd();
+    }
+
+    //위치를 직접 옮김 (순간이동 등) ; broadphase 버킷도 함께 갱신
+    public void setPosition(int xPos, int yPos) {
+        this.xPos = xPos;
+        this.yPos = yPos;
+        if (spatialGrid != null) {
+            spatialGrid.update(this);
+        }
+    }
+
     public abstract void superPacGumEaten(SuperPacGum spg);
 }
@@ -1,11 +1,22 @@
 package game.entities;
 
+import game.utils.CollisionLayer;
+
 import java.awt.*;
 
 //Classe pour les PacGums
 public class PacGum extends StaticEntity {
+    //La PacGum est un carré de SIZE pixels décalé de OFFSET pixels par rapport à sa case
+    public static final int SIZE = 4;
+    public static final int OFFSET = 8;
+
     public PacGum(int xPos, int yPos) {
-        super(4, xPos + 8, yPos + 8);
+        super(SIZE, xPos + OFFSET, yPos + OFFSET);
+    }
+
+    @Override
+    public int getCollisionLayer() {
+        return CollisionLayer.PACGUM;
     }
 
     @Override
@@ -4,18 +4,28 @@ import game.Game;
 import game.Observer;
 import game.Sujet;
 import game.entities.ghosts.Ghost;
+import game.entities.pacmanEffects.PacmanEffect;
 import game.entities.superPacGums.*;
 import game.utils.CollisionDetector;
-import game.utils.KeyHandler;
+import game.utils.CollisionLayer;
+import game.utils.Contacts;
+import game.utils.InputSource;
+import game.utils.SpriteFrames;
 import game.utils.WallCollisionDetector;
 
+import java.awt.image.BufferedImage;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 //Classe pour décrire Pacman
 public class Pacman extends MovingEntity implements Sujet {
     private CollisionDetector collisionDetector;
     private List<Observer> observerCollection;
+    private final Contacts contacts = new Contacts();
+
+    //파워업 효과 ; 지속시간은 게임의 타이머 휠이 관리 (래퍼 없이 Pacman 하나가 모두 들고 있음)
+    private final List<PacmanEffect> effects = new ArrayList<>();
 
     public Pacman(int xPos, int yPos) {
         super(32, xPos, yPos, 2, "pacman.png", 4, 0.3f);
@@ -23,7 +33,7 @@ public class Pacman extends MovingEntity implements Sujet {
     }
 
     //Gestion des déplacements
-    public void input(KeyHandler k) {
+    public void input(InputSource k) {
         int new_xSpd = 0;
         int new_ySpd = 0;
 
@@ -31,16 +41,16 @@ public class Pacman extends MovingEntity implements Sujet {
         if (!onGameplayWindow()) return; //Pacman doit être dans la zone de jeu
 
         //Selon les touches appuyées, la direction de pacman change en conséquence
-        if (k.k_left.isPressed && xSpd >= 0 && !WallCollisionDetector.checkWallCollision(this, -spd, 0)) {
+        if (k.isLeftPressed() && xSpd >= 0 && !WallCollisionDetector.checkWallCollision(this, -spd, 0)) {
             new_xSpd = -spd;
         }
-        if (k.k_right.isPressed && xSpd <= 0 && !WallCollisionDetector.checkWallCollision(this, spd, 0)) {
+        if (k.isRightPressed() && xSpd <= 0 && !WallCollisionDetector.checkWallCollision(this, spd, 0)) {
             new_xSpd = spd;
         }
-        if (k.k_up.isPressed && ySpd >= 0 && !WallCollisionDetector.checkWallCollision(this, 0, -spd)) {
+        if (k.isUpPressed() && ySpd >= 0 && !WallCollisionDetector.checkWallCollision(this, 0, -spd)) {
             new_ySpd = -spd;
         }
-        if (k.k_down.isPressed && ySpd <= 0 && !WallCollisionDetector.checkWallCollision(this, 0, spd)) {
+        if (k.isDownPressed() && ySpd <= 0 && !WallCollisionDetector.checkWallCollision(this, 0, spd)) {
             new_ySpd = spd;
         }
 
@@ -62,23 +72,85 @@ public class Pacman extends MovingEntity implements Sujet {
         }
     }
 
+    public void addEffect(PacmanEffect effect) {
+        effects.add(effect);
+    }
+
+    public List<PacmanEffect> getEffects() {
+        return Collections.unmodifiableList(effects);
+    }
+
     @Override
     public void before_updatePosition(){
         //On teste à chaque fois si Pacman est en contact avec une PacGum, une SuperPacGum, ou un fantôme, et les observers sont notifiés en conséquence
-        PacGum pg = (PacGum) collisionDetector.checkCollision(this, PacGum.class);
-        if (pg != null) {
-            notifyObserverPacGumEaten(pg);
+        collisionDetector.checkContacts(this, contacts);
+        if (contacts.pacGum != null) {
+            notifyObserverPacGumEaten(contacts.pacGum);
+        }
+
+        if (contacts.superPacGum != null) {
+            notifyObserverSuperPacGumEaten(contacts.superPacGum);
+        }
+
+        //Le bouclier est vérifié après la SuperPacGum, qui a pu l'activer pendant ce même tick
+        if (contacts.ghost != null && !isGhostCollisionBlocked()) {
+            notifyObserverGhostCollision(contacts.ghost);
+        }
+    }
+
+    private boolean isGhostCollisionBlocked() {
+        for (int i = 0; i < effects.size(); i++) {
+            if (effects.get(i).blocksGhostCollision()) return true;
         }
+        return false;
+    }
+
+    //Les effets de vitesse ne s'appliquent que lorsque Pacman est sur une case (sinon il sortirait de la grille)
+    private int getSpeedRatio() {
+        int ratio = 1;
+        for (int i = 0; i < effects.size(); i++) {
+            ratio *= effects.get(i).getSpeedRatio();
+        }
+        return (ratio != 1 && onTheGrid()) ? ratio : 1;
+    }
 
-        SuperPacGum spg = (SuperPacGum) collisionDetector.checkCollision(this, SuperPacGum.class);
-        if (spg != null) {
-            notifyObserverSuperPacGumEaten(spg);
+    @Override
+    public int getMoveXSpd() {
+        return getxSpd() * getSpeedRatio();
+    }
+
+    @Override
+    public int getMoveYSpd() {
+        return getySpd() * getSpeedRatio();
+    }
+
+    @Override
+    public int getMoveSpd() {
+        return getSpd() * getSpeedRatio();
+    }
+
+    //스프라이트를 바꾸는 효과가 켜져 있으면 먼저 추가된 효과의 스프라이트를 씀
+    @Override
+    public BufferedImage getSprite() {
+        for (int i = 0; i < effects.size(); i++) {
+            BufferedImage sprite = effects.get(i).getSprite();
+            if (sprite != null) return sprite;
         }
+        return super.getSprite();
+    }
 
-        Ghost gh = (Ghost) collisionDetector.checkCollision(this, Ghost.class);
-        if (gh != null) {
-            notifyObserverGhostCollision(gh);
+    @Override
+    public SpriteFrames getFrames() {
+        for (int i = 0; i < effects.size(); i++) {
+            SpriteFrames frames = effects.get(i).getFrames();
+            if (frames != null) return frames;
         }
+        return super.getFrames();
+    }
+
+    @Override
+    public int getCollisionLayer() {
+        return CollisionLayer.PACMAN;
     }
 
     @Override
@@ -117,6 +189,9 @@ public class Pacman extends MovingEntity implements Sujet {
 
     @Override
     public void superPacGumEaten(SuperPacGum spg){
+        for (int i = 0; i < effects.size(); i++) {
+            effects.get(i).superPacGumEaten(spg);
+        }
         if(!(spg instanceof PacmanSuperPacGum)){
             throw new IllegalArgumentException("Invalid SuperPacGum type. Expected PacmanSuperPacGum, but got: " + spg.getClass().getSimpleName());
         }
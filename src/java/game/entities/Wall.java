@@ -1,8 +0,0 @@
-package game.entities;
-
-//Classe pour les murs
-public class Wall extends StaticEntity {
-    public Wall(int xPos, int yPos) {
-        super(8, xPos, yPos);
-    }
-}
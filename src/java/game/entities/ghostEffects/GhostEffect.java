@@ -0,0 +1,41 @@
+package game.entities.ghostEffects;
+
+import game.entities.ghosts.Ghost;
+import game.entities.superPacGums.SuperPacGum;
+
+/**
+ * 고스트에 붙는 효과의 기본 클래스 (GhostState 와 같은 방식으로 고스트를 들고 있음)
+ *
+ * 고스트는 효과를 평평한 리스트로 들고 있고, 매 틱 추가된 순서대로 각 훅을 호출함
+ * - update: 고스트가 다음 방향을 정한 뒤 호출 (속도 조정 등)
+ * - modifySpeed: 이동에 쓰는 속도 조정 (방향 계산은 고스트의 기본 속도를 그대로 씀)
+ * - canMove: false 를 반환하면 이번 틱에는 움직이지 않음
+ * - isHidden: true 면 그려지지 않고 충돌하지 않음
+ * - superPacGumEaten: 고스트 자신의 처리보다 먼저 호출
+ *
+ * 기본 구현은 모두 아무것도 하지 않음
+ * 일정 시간 뒤에 일어나는 일(지속시간, 순간이동 주기 등)은 매 틱 세지 않고 Game.getTimers() 에 걸어 둠
+ */
+public abstract class GhostEffect {
+    protected final Ghost ghost;
+
+    public GhostEffect(Ghost ghost) {
+        this.ghost = ghost;
+    }
+
+    public void update() {}
+
+    public int modifySpeed(int spd) {
+        return spd;
+    }
+
+    public boolean canMove() {
+        return true;
+    }
+
+    public boolean isHidden() {
+        return false;
+    }
+
+    public void superPacGumEaten(SuperPacGum spg) {}
+}
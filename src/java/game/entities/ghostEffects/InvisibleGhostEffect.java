@@ -0,0 +1,59 @@
+package game.entities.ghostEffects;
+
+import game.Game;
+import game.engine.TimerWheel;
+import game.entities.ghosts.Ghost;
+import game.entities.levelStrategies.LevelStrategy;
+
+/**
+ * 투명화 효과
+ *
+ * - LevelStrategy에서 정의한 랜덤 주기(2~8초)마다 투명화 발동
+ * - 투명 상태에서 완전히 안 보임 (렌더링 안 됨)
+ * - 투명 상태에서 Pacman과 충돌 안 됨 (빈 히트박스)
+ * - 1초 후 자동으로 원래 상태로 복귀
+ *
+ * 투명화 시작 / 종료 시각은 타이머 휠에 걸어 둠
+ *
+ * 적용 대상: 레벨 3의 모든 고스트 (Blinky, Pinky, Inky, Clyde)
+ */
+public class InvisibleGhostEffect extends GhostEffect {
+    private final LevelStrategy levelStrategy;
+    private final TimerWheel timers;
+    private final TimerWheel.Timer invisibleTimer; // 다음 투명화 시작 또는 종료
+    private boolean isInvisible = false;           // 현재 투명 상태 여부
+
+    public InvisibleGhostEffect(Ghost ghost, LevelStrategy levelStrategy) {
+        super(ghost);
+        this.levelStrategy = levelStrategy;
+        this.timers = Game.getTimers();
+        this.invisibleTimer = timers.newTimer(this::toggle);
+
+        // 첫 랜덤 시간 설정 (간격이나 지속시간이 0 이면 비활성화 상태)
+        int interval = levelStrategy.getInvisibleInterval();
+        if (interval > 0 && levelStrategy.getInvisibleDuration() > 0) {
+            timers.schedule(invisibleTimer, interval);
+        }
+    }
+
+    private void toggle() {
+        if (isInvisible) {
+            // 투명 상태 종료
+            isInvisible = false;
+            if (Game.isVerbose()) System.out.println("=== 투명 상태 종료 ===");
+            // 다음 투명화를 위한 새로운 랜덤 시간 설정
+            int interval = levelStrategy.getInvisibleInterval();
+            if (interval > 0) timers.schedule(invisibleTimer, interval);
+        } else {
+            // 투명 상태 시작
+            isInvisible = true;
+            if (Game.isVerbose()) System.out.println("=== 투명 상태 시작 ===");
+            timers.schedule(invisibleTimer, levelStrategy.getInvisibleDuration());
+        }
+    }
+
+    @Override
+    public boolean isHidden() {
+        return isInvisible;
+    }
+}
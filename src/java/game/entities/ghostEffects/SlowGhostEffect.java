@@ -0,0 +1,49 @@
+package game.entities.ghostEffects;
+
+import game.Game;
+import game.engine.TimerWheel;
+import game.entities.ghosts.Ghost;
+import game.entities.superPacGums.SlowGhostSuperPacGum;
+import game.entities.superPacGums.SuperPacGum;
+
+/**
+ * SlowGhostSuperPacGum 을 먹으면 7초 (420 프레임) 동안 spdRatio 틱에 한 번만 움직이게 하는 효과
+ * 지속 시간은 타이머 휠이 세고, 움직일 틱은 켜진 뒤 흐른 틱으로 정함
+ * (Pacman 이 고스트보다 먼저 갱신되므로 먹은 틱의 경과는 0 ; 예전 카운터처럼 먹은 틱을 1 로 세서 그 틱은 건너뜀)
+ */
+public class SlowGhostEffect extends GhostEffect {
+    private static final int DURATION = 60 * 7;
+
+    private final int spdRatio;
+    private final TimerWheel timers;
+    private final TimerWheel.Timer slowTimer;
+    private boolean flag = false;
+
+    public SlowGhostEffect(Ghost ghost, int spdRatio) {
+        super(ghost);
+        this.spdRatio = spdRatio;
+        this.timers = Game.getTimers();
+        this.slowTimer = timers.newTimer(this::slowOver);
+    }
+
+    @Override
+    public void superPacGumEaten(SuperPacGum spg) {
+        if (spg instanceof SlowGhostSuperPacGum) {
+            flag = true;
+            timers.schedule(slowTimer, DURATION);
+        }
+    }
+
+    private void slowOver() {
+        flag = false;
+    }
+
+    @Override
+    public boolean canMove() {
+        return !flag || (slowTimer.getElapsed() + 1) % spdRatio == 0;
+    }
+
+    public boolean isActive() {
+        return flag;
+    }
+}
@@ -0,0 +1,54 @@
+package game.entities.ghostEffects;
+
+import game.entities.ghosts.Ghost;
+import game.entities.levelStrategies.LevelStrategy;
+
+/**
+ * 레벨별 속도 증가 효과
+ *
+ * - LevelStrategy에서 정의한 속도 증가율을 적용
+ * - 레벨 1: 0% 증가 (기본 속도 2)
+ * - 레벨 2: 10% 증가 (속도 2 → 2.2)
+ * - 레벨 3: 20% 증가 (속도 2 → 2.4)
+ *
+ * 고스트가 방향을 정한 뒤 xSpd, ySpd 의 방향은 유지하고 크기만 증가된 속도로 바꿈
+ */
+public class SpeedBoostGhostEffect extends GhostEffect {
+    private final int boostedSpeed;
+
+    public SpeedBoostGhostEffect(Ghost ghost, LevelStrategy levelStrategy) {
+        super(ghost);
+
+        // 기본 속도에 증가율 적용
+        int baseSpeed = ghost.getSpd();
+        double increaseRate = levelStrategy.getSpeedIncreaseRate();
+        this.boostedSpeed = (int) Math.round(baseSpeed * (1.0 + increaseRate));
+    }
+
+    public int getBoostedSpeed() {
+        return boostedSpeed;
+    }
+
+    @Override
+    public int modifySpeed(int spd) {
+        return boostedSpeed;
+    }
+
+    @Override
+    public void update() {
+        // 속도가 증가했으므로 xSpd, ySpd도 비례하여 조정
+        int originalSpd = ghost.getSpd();
+        if (originalSpd > 0 && boostedSpeed != originalSpd) {
+            int currentXSpd = ghost.getxSpd();
+            int currentYSpd = ghost.getySpd();
+
+            // 방향은 유지하되 속도만 증가
+            if (currentXSpd != 0) {
+                ghost.setxSpd((currentXSpd > 0 ? 1 : -1) * boostedSpeed);
+            }
+            if (currentYSpd != 0) {
+                ghost.setySpd((currentYSpd > 0 ? 1 : -1) * boostedSpeed);
+            }
+        }
+    }
+}
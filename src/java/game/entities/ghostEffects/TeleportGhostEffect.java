@@ -0,0 +1,129 @@
+package game.entities.ghostEffects;
+
+import game.Game;
+import game.engine.TimerWheel;
+import game.entities.ghosts.Ghost;
+import game.entities.levelStrategies.LevelStrategy;
+import game.utils.WallCollisionDetector;
+
+import java.util.SplittableRandom;
+
+/**
+ * 순간이동 효과
+ *
+ * - LevelStrategy에서 정의한 랜덤 주기(1~5초)마다 순간이동 발동
+ * - 현재 진행 방향으로 6칸(48픽셀) 앞으로 이동
+ * - 순간이동 범위 내 모든 칸에 벽이 있는지 체크
+ * - 순간이동 경로에 벽이 있으면 순간이동 취소
+ * - 순간이동 후 팩맨과 충돌하면 즉시 게임 오버
+ *
+ * 다음 순간이동 시각은 타이머 휠에 걸어 두고, 실행할 때마다 다음 간격을 새로 뽑음
+ *
+ * 적용 대상: 레벨 2 이상의 모든 고스트 (Blinky, Pinky, Inky, Clyde)
+ */
+public class TeleportGhostEffect extends GhostEffect {
+    private static final int TELEPORT_DISTANCE = 6; // 6칸
+    private static final int CELL_SIZE = 8;
+
+    private final LevelStrategy levelStrategy;
+    private final TimerWheel timers;
+    private final TimerWheel.Timer teleportTimer;
+
+    public TeleportGhostEffect(Ghost ghost, LevelStrategy levelStrategy, SplittableRandom random) {
+        super(ghost);
+        this.levelStrategy = levelStrategy;
+        this.timers = Game.getTimers();
+        this.teleportTimer = timers.newTimer(this::teleport);
+
+        // 각 고스트마다 다른 시작 시간 (0~2초 랜덤하게 앞당김)
+        int elapsed = random.nextInt(120);
+        int interval = levelStrategy.getTeleportInterval();
+        if (interval > 0) {
+            timers.schedule(teleportTimer, interval - elapsed);
+        }
+    }
+
+    private void teleport() {
+        performTeleport();
+
+        int interval = levelStrategy.getTeleportInterval();
+        if (interval > 0) {
+            timers.schedule(teleportTimer, interval);
+        }
+    }
+
+    /**
+     * 순간이동 실행
+     */
+    private void performTeleport() {
+        int distance = TELEPORT_DISTANCE * CELL_SIZE; // 6칸 = 48픽셀
+
+        int currentX = ghost.getxPos();
+        int currentY = ghost.getyPos();
+        int targetX = currentX;
+        int targetY = currentY;
+
+        // 현재 이동 방향 확인
+        int xSpd = ghost.getxSpd();
+        int ySpd = ghost.getySpd();
+
+        // 정지 상태면 순간이동 안 함
+        if (xSpd == 0 && ySpd == 0) {
+            return;
+        }
+
+        // 목표 위치 계산
+        if (xSpd > 0) targetX += distance;        // 오른쪽
+        else if (xSpd < 0) targetX -= distance;   // 왼쪽
+        else if (ySpd > 0) targetY += distance;   // 아래
+        else if (ySpd < 0) targetY -= distance;   // 위
+
+        boolean verbose = Game.isVerbose();
+        if (verbose) {
+            System.out.println("=== 순간이동 시도 ===");
+            System.out.println("현재: (" + currentX + ", " + currentY + ")");
+            System.out.println("목표: (" + targetX + ", " + targetY + ")");
+        }
+
+        // 순간이동 경로에 벽이 있는지 체크
+        if (!isTeleportPathClear(currentX, currentY, targetX, targetY)) {
+            if (verbose) System.out.println("경로에 벽 존재 - 순간이동 취소");
+            return;
+        }
+
+        if (verbose) System.out.println("순간이동 성공!");
+        ghost.setPosition(targetX, targetY);
+    }
+
+    /**
+     * 순간이동 경로가 안전한지 체크
+     * 시작점부터 목표점까지 8픽셀(1칸) 단위로 모든 중간 지점 체크
+     */
+    private boolean isTeleportPathClear(int startX, int startY, int targetX, int targetY) {
+        int deltaX = targetX - startX;
+        int deltaY = targetY - startY;
+
+        // 이동 거리를 8픽셀 단위로 나눔
+        int steps = Math.max(Math.abs(deltaX), Math.abs(deltaY)) / CELL_SIZE;
+
+        if (steps == 0) return true;
+
+        // 각 칸마다 벽 체크 (시작점 제외, 목표점 포함)
+        for (int i = 1; i <= steps; i++) {
+            int checkX = startX + (deltaX * i / steps);
+            int checkY = startY + (deltaY * i / steps);
+
+            // dx, dy는 현재 위치에서 체크할 위치까지의 상대 거리
+            int dx = checkX - ghost.getxPos();
+            int dy = checkY - ghost.getyPos();
+
+            if (WallCollisionDetector.checkWallCollision(ghost, dx, dy)) {
+                if (Game.isVerbose()) System.out.println("  [" + i + "/" + steps + "] 벽 감지: (" + checkX + ", " + checkY + ")");
+                return false;
+            }
+        }
+
+        if (Game.isVerbose()) System.out.println("  경로 안전 (" + steps + "칸 체크 완료)");
+        return true;
+    }
+}
@@ -1,19 +1,29 @@
 package game.entities.ghosts;
 
 import game.Game;
+import game.engine.TimerWheel;
 import game.entities.MovingEntity;
+import game.entities.ghostEffects.GhostEffect;
 import game.entities.levelStrategies.LevelStrategy;
 import game.ghostStates.*;
 import game.ghostStrategies.IGhostStrategy;
 import game.entities.superPacGums.*;
+import game.utils.CollisionLayer;
+import game.utils.SpriteCache;
+import game.utils.SpriteFrames;
 
-import javax.imageio.ImageIO;
 import java.awt.*;
 import java.awt.image.BufferedImage;
-import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 //Classe abtraite pour décrire les fantômes
 public abstract class Ghost extends MovingEntity {
+    //Taille et vitesse de base communes à tous les fantômes (le graphe de navigation de la carte est compilé pour ces valeurs)
+    public static final int SIZE = 32;
+    public static final int SPEED = 2;
+
     protected GhostState state;
 
     protected final GhostState chaseMode;
@@ -22,18 +32,21 @@ public abstract class Ghost extends MovingEntity {
     protected final GhostState eatenMode;
     protected final GhostState houseMode;
 
-    protected int modeTimer = 0;
-    protected int frightenedTimer = 0;
-    protected boolean isChasing = false;
+    //Fin de l'état effrayé (la durée dépend du niveau) ; le cycle chase / scatter est commun à tous (Game.getWaves())
+    private final TimerWheel timers;
+    private final TimerWheel.Timer frightenedTimer;
 
-    protected static BufferedImage frightenedSprite1;
-    protected static BufferedImage frightenedSprite2;
-    protected static BufferedImage eatenSprite;
+    protected static SpriteFrames frightenedSprite1;
+    protected static SpriteFrames frightenedSprite2;
+    protected static SpriteFrames eatenSprite;
 
     protected IGhostStrategy strategy;
 
+    //레벨/아이템 효과 ; 추가된 순서대로 매 틱 적용 (고스트 하나당 객체 하나, 래퍼 없음)
+    private final List<GhostEffect> effects = new ArrayList<>();
+
     public Ghost(int xPos, int yPos, String spriteName) {
-        super(32, xPos, yPos, 2, spriteName, 2, 0.1f);
+        super(SIZE, xPos, yPos, SPEED, spriteName, 2, 0.1f);
 
         //Création des différents états des fantômes
         chaseMode = new ChaseMode(this);
@@ -44,13 +57,16 @@ public abstract class Ghost extends MovingEntity {
 
         state = houseMode; //état initial
 
-        try {
-            frightenedSprite1 = ImageIO.read(getClass().getClassLoader().getResource("img/ghost_frightened.png"));
-            frightenedSprite2 = ImageIO.read(getClass().getClassLoader().getResource("img/ghost_frightened_2.png"));
-            eatenSprite = ImageIO.read(getClass().getClassLoader().getResource("img/ghost_eaten.png"));
-        } catch (IOException e) {
-            e.printStackTrace();
-        }
+        timers = Game.getTimers();
+        frightenedTimer = timers.newTimer(this::frightenedTimerOver);
+    }
+
+    //공용 스프라이트는 처음 렌더링할 때 SpriteCache 에서 한 번만 가져옴
+    private static void loadStateSprites() {
+        if (eatenSprite != null) return;
+        frightenedSprite1 = SpriteCache.getFrames("ghost_frightened.png", 32);
+        frightenedSprite2 = SpriteCache.getFrames("ghost_frightened_2.png", 32);
+        eatenSprite = SpriteCache.getFrames("ghost_eaten.png", 32);
     }
 
     //Méthodes pour les transitions entre les différents états
@@ -63,6 +79,7 @@ public abstract class Ghost extends MovingEntity {
 
     public void switchFrightenedMode() {
         state = frightenedMode;
+        timers.schedule(frightenedTimer, getAdjustedFrightenedTime());
     }
 
     public void switchEatenMode() {
@@ -74,13 +91,45 @@ public abstract class Ghost extends MovingEntity {
     }
 
     public void switchChaseModeOrScatterMode() {
-        if (isChasing) {
+        if (isChasing()) {
             switchChaseMode();
         }else{
             switchScatterMode();
         }
     }
 
+    public boolean isChasing() {
+        return Game.getWaves().isChasing();
+    }
+
+    //Appelé par Game à chaque changement de vague : seuls les fantômes en chase ou scatter changent de mode
+    public void waveOver() {
+        if (state == chaseMode || state == scatterMode) {
+            state.timerModeOver();
+        }
+    }
+
+    //Le timer de 7s (réduit selon le niveau) est terminé : l'état est notifié s'il est toujours effrayé
+    private void frightenedTimerOver() {
+        if (state == frightenedMode) {
+            state.timerFrightenedModeOver();
+        }
+    }
+
+    //Temps passé (en frames) depuis le début de l'état effrayé
+    public int getFrightenedTime() {
+        return frightenedTimer.getElapsed();
+    }
+
+    //Précalcule les champs de flux des états à position ciblée fixe (après le chargement de la carte)
+    public void prepareNavigation() {
+        chaseMode.prepareNavigation();
+        scatterMode.prepareNavigation();
+        frightenedMode.prepareNavigation();
+        eatenMode.prepareNavigation();
+        houseMode.prepareNavigation();
+    }
+
     public IGhostStrategy getStrategy() {
         return this.strategy;
     }
@@ -93,6 +142,36 @@ public abstract class Ghost extends MovingEntity {
         return state;
     }
 
+    public void addEffect(GhostEffect effect) {
+        effects.add(effect);
+    }
+
+    public List<GhostEffect> getEffects() {
+        return Collections.unmodifiableList(effects);
+    }
+
+    //주어진 종류의 첫 번째 효과 (없으면 null)
+    public <T extends GhostEffect> T getEffect(Class<T> type) {
+        for (int i = 0; i < effects.size(); i++) {
+            GhostEffect effect = effects.get(i);
+            if (type.isInstance(effect)) return type.cast(effect);
+        }
+        return null;
+    }
+
+    //투명화 등으로 숨겨진 상태면 그려지지 않고 충돌하지 않음
+    public boolean isHidden() {
+        for (int i = 0; i < effects.size(); i++) {
+            if (effects.get(i).isHidden()) return true;
+        }
+        return false;
+    }
+
+    @Override
+    public int getCollisionLayer() {
+        return CollisionLayer.GHOST;
+    }
+
     /**
      * 레벨 전략에 따른 해산(Frightened) 시간 계산
      * 기본 7초 (420 프레임)에서 레벨별 감소율 적용
@@ -114,29 +193,34 @@ public abstract class Ghost extends MovingEntity {
 
     @Override
     public void before_updatePosition(){
-        if (!Game.getFirstInput()) return; //Les fantômes ne bougent pas tant que le joueur n'a pas bougé
+        updateState();
+        for (int i = 0; i < effects.size(); i++) {
+            effects.get(i).update();
+        }
+    }
 
-        //Si le fantôme est dans l'état effrayé, un timer de 7s se lance, et l'état sera notifié ensuite afin d'appliquer la transition adéquate
-        if (state == frightenedMode) {
-            frightenedTimer++;
+    @Override
+    public boolean updatePositionCondition() {
+        for (int i = 0; i < effects.size(); i++) {
+            if (!effects.get(i).canMove()) return false;
+        }
+        return true;
+    }
 
-            int frightenedDuration = getAdjustedFrightenedTime();
-            if (frightenedTimer >= frightenedDuration) {
-                state.timerFrightenedModeOver();
-            }
+    //방향 계산은 기본 속도로 하고, 실제 이동(화면 가장자리 처리)에는 효과가 조정한 속도를 씀
+    @Override
+    public int getMoveSpd() {
+        int moveSpd = getSpd();
+        for (int i = 0; i < effects.size(); i++) {
+            moveSpd = effects.get(i).modifySpeed(moveSpd);
         }
+        return moveSpd;
+    }
 
-        //Les fantômes alternent entre l'état chaseMode et scatterMode avec un timer
-        //Si le fantôme est dans l'état chaseMode ou scatterMode, un timer se lance, et au bout de 5s ou 20s selon l'état, l'état est notifié ensuite afin d'appliquer la transition adéquate
-        if (state == chaseMode || state == scatterMode) {
-            modeTimer++;
+    private void updateState(){
+        if (!Game.getFirstInput()) return; //Les fantômes ne bougent pas tant que le joueur n'a pas bougé
 
-            if ((isChasing && modeTimer >= (60 * 20)) || (!isChasing && modeTimer >= (60 * 5))) {
-                state.timerModeOver();
-                modeTimer = 0;
-                isChasing = !isChasing;
-            }
-        }
+        //Les timers (état effrayé, alternance chaseMode / scatterMode) sont gérés par la roue de timers de Game
 
         //Si le fantôme est sur la case juste au dessus de sa maison, l'état est notifié afin d'appliquer la transition adéquate
         if (xPos == 208 && yPos == 168) {
@@ -154,36 +238,66 @@ public abstract class Ghost extends MovingEntity {
 
     @Override
     public void render(Graphics2D g) {
+        if (isHidden()) return;
+        g.drawImage(getCurrentFrame(), this.xPos, this.yPos,null);
+    }
+
+    @Override
+    public Rectangle getHitbox() {
+        if (isHidden()) return new Rectangle(0, 0, 0, 0);
+        return super.getHitbox();
+    }
+
+    @Override
+    public boolean hitboxContains(int px, int py) {
+        return !isHidden() && super.hitboxContains(px, py);
+    }
+
+    @Override
+    public boolean hitboxIntersects(int x, int y, int w, int h) {
+        return !isHidden() && super.hitboxIntersects(x, y, w, h);
+    }
+
+    @Override
+    public BufferedImage getCurrentFrame() {
+        if (isHidden()) return null;
         //Différents sprites sont utilisés selon l'état du fantôme (après réflexion, il aurait peut être été plus judicieux de faire une méthode "render" dans GhostState)
         int adjustedFrightenedTime = getAdjustedFrightenedTime();
         int warningTime = (int)(adjustedFrightenedTime * 0.7); // 70% 지점부터 깜빡임
+        loadStateSprites();
 
         if (state == frightenedMode) {
-            if (frightenedTimer <= warningTime || frightenedTimer%20 > 10) {
-                g.drawImage(frightenedSprite1.getSubimage((int)subimage * size, 0, size, size), this.xPos, this.yPos,null);
+            int frightenedTime = getFrightenedTime();
+            if (frightenedTime <= warningTime || frightenedTime%20 > 10) {
+                return frightenedSprite1.get((int)subimage);
             }else{
-                g.drawImage(frightenedSprite2.getSubimage((int)subimage * size, 0, size, size), this.xPos, this.yPos,null);
+                return frightenedSprite2.get((int)subimage);
             }
         }else if (state == eatenMode) {
-            g.drawImage(eatenSprite.getSubimage(direction * size, 0, size, size), this.xPos, this.yPos,null);
+            return eatenSprite.get(direction);
         }else{
-            g.drawImage(sprite.getSubimage((int)subimage * size + direction * size * nbSubimagesPerCycle, 0, size, size), this.xPos, this.yPos,null);
+            return getFrames().get(direction, nbSubimagesPerCycle, (int)subimage);
         }
-
     }
 
     @Override
     public void superPacGumEaten(SuperPacGum spg){
+        for (int i = 0; i < effects.size(); i++) {
+            effects.get(i).superPacGumEaten(spg);
+        }
         if(!(spg instanceof GhostSuperPacGum)){
             throw new IllegalArgumentException("Invalid SuperPacGum type. Expected GhostSuperPacGum, but got: " + spg.getClass().getSimpleName());
         }
         else if(spg instanceof FrightenedGhostSuperPacGum){
-            frightenedTimer = 0;
-            state.frightenedGhostSuperPacGunEaten();
+            if (state == frightenedMode) {
+                switchFrightenedMode(); //Déjà effrayé : le timer repart de zéro
+            } else {
+                state.frightenedGhostSuperPacGunEaten();
+            }
 
             // 해산시간 로그 출력
             LevelStrategy levelStrategy = Game.getLevelStrategy();
-            if (levelStrategy != null) {
+            if (levelStrategy != null && Game.isVerbose()) {
                 int frightenedTime = getAdjustedFrightenedTime();
                 double reduction = levelStrategy.getFrightenedTimerReduction();
                 System.out.println("고스트 해산 시작: " + (frightenedTime / 60.0) + "초 " +
@@ -1,5 +1,7 @@
 package game.entities.levelStrategies;
 
+import java.util.SplittableRandom;
+
 /**
  * 레벨 2 전략: 순간이동 + 속도 증가
  *
@@ -9,11 +11,18 @@ package game.entities.levelStrategies;
  * - 해산시간 20% 감소 (7초 → 5.6초)
  */
 public class Level2Strategy implements LevelStrategy {
+    private final SplittableRandom random;
+
+    //세션 난수 스트림 주입 (같은 seed 면 같은 주기열)
+    public Level2Strategy(SplittableRandom random) {
+        this.random = random;
+    }
+
 
     @Override
     public int getTeleportInterval() {
         // 1~5초 사이 랜덤 (60~300 프레임)
-        return 60 + (int)(Math.random() * 240); // 60 + (0~240)
+        return 60 + random.nextInt(240); // 60 + (0~240)
     }
 
     @Override
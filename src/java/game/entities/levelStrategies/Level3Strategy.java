@@ -1,5 +1,7 @@
 package game.entities.levelStrategies;
 
+import java.util.SplittableRandom;
+
 /**
  * 레벨 3 전략: 순간이동 + 투명화 + 최대 난이도
  *
@@ -10,17 +12,23 @@ package game.entities.levelStrategies;
  * - 해산시간 40% 감소 (7초 → 4.2초)
  */
 public class Level3Strategy implements LevelStrategy {
+    private final SplittableRandom random;
+
+    //세션 난수 스트림 주입 (같은 seed 면 같은 주기열)
+    public Level3Strategy(SplittableRandom random) {
+        this.random = random;
+    }
 
     @Override
     public int getTeleportInterval() {
         // 1~5초 사이 랜덤 (60~300 프레임)
-        return 60 + (int)(Math.random() * 240); // 60 + (0~240)
+        return 60 + random.nextInt(240); // 60 + (0~240)
     }
 
     @Override
     public int getInvisibleInterval() {
         // 2~8초 사이 랜덤 (120~480 프레임)
-        return 120 + (int)(Math.random() * 360); // 120 + (0~360)
+        return 120 + random.nextInt(360); // 120 + (0~360)
     }
 
     @Override
@@ -0,0 +1,25 @@
+package game.entities.pacmanEffects;
+
+import game.entities.Pacman;
+import game.entities.superPacGums.FastPacmanSuperPacGum;
+import game.entities.superPacGums.SuperPacGum;
+
+//FastPacmanSuperPacGum 을 먹으면 5초 동안 spdRatio 배로 빨라짐
+public class FastPacmanEffect extends PacmanEffect {
+    private final int spdRatio;
+
+    public FastPacmanEffect(Pacman pacman, int spdRatio) {
+        super(pacman, 60 * 5);
+        this.spdRatio = spdRatio;
+    }
+
+    @Override
+    protected boolean isActivatedBy(SuperPacGum spg) {
+        return spg instanceof FastPacmanSuperPacGum;
+    }
+
+    @Override
+    public int getSpeedRatio() {
+        return isActive() ? spdRatio : 1;
+    }
+}
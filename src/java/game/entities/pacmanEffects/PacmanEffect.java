@@ -0,0 +1,73 @@
+package game.entities.pacmanEffects;
+
+import game.Game;
+import game.engine.TimerWheel;
+import game.entities.Pacman;
+import game.entities.superPacGums.SuperPacGum;
+import game.utils.SpriteFrames;
+
+import java.awt.image.BufferedImage;
+
+/**
+ * Pacman 에 붙는 시간제 파워업 효과의 기본 클래스
+ *
+ * 해당 SuperPacGum 을 먹으면 켜지고 duration 틱이 지나면 꺼짐 (다시 먹으면 타이머가 처음부터 다시 시작)
+ * 꺼지는 시각은 게임의 타이머 휠(Game.getTimers())에 걸어 두므로 효과마다 매 틱 셀 필요가 없음
+ * 하위 클래스는 켜져 있는 동안의 효과만 정의하면 됨 (기본 구현은 아무 효과 없음)
+ */
+public abstract class PacmanEffect {
+    protected final Pacman pacman;
+    private final int duration;
+    private final TimerWheel timers;
+    private final TimerWheel.Timer timer;
+    private boolean active = false;
+
+    public PacmanEffect(Pacman pacman, int duration) {
+        this.pacman = pacman;
+        this.duration = duration;
+        this.timers = Game.getTimers();
+        this.timer = timers.newTimer(this::expire);
+    }
+
+    //이 효과를 켜는 SuperPacGum 인지
+    protected abstract boolean isActivatedBy(SuperPacGum spg);
+
+    public void superPacGumEaten(SuperPacGum spg) {
+        if (isActivatedBy(spg)) {
+            active = true;
+            timers.schedule(timer, duration);
+        }
+    }
+
+    private void expire() {
+        active = false;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    //꺼질 때까지 남은 틱 (꺼져 있으면 0)
+    public int getRemaining() {
+        return timer.getRemaining();
+    }
+
+    //이동 속도 배율 (Pacman 이 격자 위에 있을 때만 적용)
+    public int getSpeedRatio() {
+        return 1;
+    }
+
+    //true 면 고스트와 부딪혀도 알리지 않음
+    public boolean blocksGhostCollision() {
+        return false;
+    }
+
+    //켜져 있는 동안 쓸 스프라이트와 프레임 (null 이면 기본 스프라이트)
+    public BufferedImage getSprite() {
+        return null;
+    }
+
+    public SpriteFrames getFrames() {
+        return null;
+    }
+}
@@ -0,0 +1,42 @@
+package game.entities.pacmanEffects;
+
+import game.entities.Pacman;
+import game.entities.superPacGums.SheildPacmanSuperPacGum;
+import game.entities.superPacGums.SuperPacGum;
+import game.utils.SpriteCache;
+import game.utils.SpriteFrames;
+
+import java.awt.image.BufferedImage;
+
+//SheildPacmanSuperPacGum 을 먹으면 5초 동안 고스트와 부딪혀도 게임이 끝나지 않음
+public class SheildPacmanEffect extends PacmanEffect {
+    private static final String SPRITE_NAME = "sheild_pacman.png";
+    private SpriteFrames sheildFrames;
+
+    public SheildPacmanEffect(Pacman pacman) {
+        super(pacman, 60 * 5);
+    }
+
+    @Override
+    protected boolean isActivatedBy(SuperPacGum spg) {
+        return spg instanceof SheildPacmanSuperPacGum;
+    }
+
+    @Override
+    public boolean blocksGhostCollision() {
+        return isActive();
+    }
+
+    //Le sprite du bouclier est décodé une seule fois (SpriteCache) au lieu d'être relu à chaque frame
+    @Override
+    public BufferedImage getSprite() {
+        return isActive() ? SpriteCache.getImage(SPRITE_NAME) : null;
+    }
+
+    @Override
+    public SpriteFrames getFrames() {
+        if (!isActive()) return null;
+        if (sheildFrames == null) sheildFrames = SpriteCache.getFrames(SPRITE_NAME, pacman.getSize());
+        return sheildFrames;
+    }
+}
@@ -3,20 +3,12 @@ package game.entities.superPacGums;
 import java.awt.*;
 
 public class SlowGhostSuperPacGum extends GhostSuperPacGum {
-    private int frameCount = 0;
+    private static final Color COLOR = new Color(255, 0, 0);
     public SlowGhostSuperPacGum(int xPos, int yPos) {
         super(xPos, yPos);
     }
     @Override
-    public void render(Graphics2D g) {
-        // render light green
-        if (frameCount%60 < 30) {
-            g.setColor(new Color(255, 0, 0));
-            g.fillOval(this.xPos, this.yPos, this.size, this.size);
-        }
-    }
-    @Override
-    public void update() {
-        frameCount++;
+    public Color getColor() {
+        return COLOR;
     }
 }
@@ -1,20 +1,27 @@
 package game.entities.superPacGums;
 
 import game.entities.StaticEntity;
+import game.utils.CollisionLayer;
 
 import java.awt.*;
 
 //Classe pour les SuperPacGums
 public class SuperPacGum extends StaticEntity {
+    public static final int SIZE = 16;
+    private static final Color COLOR = new Color(255, 183, 174);
     private int frameCount = 0;
     public SuperPacGum(int xPos, int yPos) {
-        super(16, xPos, yPos);
+        super(SIZE, xPos, yPos);
     }
+    @Override
+    public int getCollisionLayer() {
+        return CollisionLayer.SUPER_PACGUM;
+    }
+
     @Override
     public void render(Graphics2D g) {
-        //Pour faire en sorte que les SuperPacGums clignotent, on ne fait le rendu que 30 frames sur 60.
-        if (frameCount%60 < 30) {
-            g.setColor(new Color(255, 183, 174));
+        if (isVisible()) {
+            g.setColor(getColor());
             g.fillOval(this.xPos, this.yPos, this.size, this.size);
         }
     }
@@ -22,4 +29,14 @@ public class SuperPacGum extends StaticEntity {
     public void update() {
         frameCount++;
     }
+
+    //Pour faire en sorte que les SuperPacGums clignotent, on ne fait le rendu que 30 frames sur 60.
+    public boolean isVisible() {
+        return frameCount%60 < 30;
+    }
+
+    //Chaque type de SuperPacGum a sa propre couleur
+    public Color getColor() {
+        return COLOR;
+    }
 }
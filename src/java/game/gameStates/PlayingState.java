@@ -6,8 +6,9 @@ import javax.swing.*;
 import java.io.IOException;
 
 public class PlayingState implements GameState{
-    private static final int width = 448;
-    private static final int height = 496;
+    //Taille de la zone de jeu (AssetPreloader prépare la couche statique du niveau à cette taille)
+    public static final int WIDTH = 448;
+    public static final int HEIGHT = 496;
     private static UIPanel uiPanel;
     private GameplayPanel gameplay;
 
@@ -15,8 +16,11 @@ public class PlayingState implements GameState{
     public void changePanel(JFrame window) {
         JPanel gameWindow = new JPanel();
 
+        //Le panneau de score est dessiné par GameplayPanel dans la même frame que le jeu (à droite du plateau)
+        uiPanel = new UIPanel(256, 496);
+
         try {
-            gameplay = new GameplayPanel(448, 496);
+            gameplay = new GameplayPanel(WIDTH, HEIGHT);
             gameWindow.add(gameplay);
         } catch (IOException e) {
             e.printStackTrace();
@@ -24,9 +28,6 @@ public class PlayingState implements GameState{
             return;
         }
 
-        uiPanel = new UIPanel(256, 496);
-        gameWindow.add(uiPanel);
-
         window.setContentPane(gameWindow);
         window.pack();
         window.setLocationRelativeTo(null);
@@ -1,5 +1,6 @@
 package game.gameStates;
 
+import game.engine.AssetPreloader;
 import game.panel.StartMenuPanel;
 import javax.swing.JFrame;
 
@@ -11,6 +12,9 @@ public class StartMenuState implements GameState{
         window.pack();
         window.setLocationRelativeTo(null);
         window.setVisible(true);
+
+        //Pendant que le joueur est dans le menu, les sprites et la carte proposée en premier sont chargés en arrière-plan
+        AssetPreloader.getInstance().start();
     }
 
     @Override
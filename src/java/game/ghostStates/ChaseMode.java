@@ -1,6 +1,7 @@
 package game.ghostStates;
 
 import game.entities.ghosts.Ghost;
+import game.utils.TargetPoint;
 
 //Classe pour décrire l'état concret d'un fantôme en train de poursuivre Pacman
 public class ChaseMode extends GhostState{
@@ -22,7 +23,7 @@ public class ChaseMode extends GhostState{
 
     //Dans cet état, la position ciblée dépend de la stratégie du fantôme
     @Override
-    public int[] getTargetPosition() {
-        return ghost.getStrategy().getChaseTargetPosition();
+    public void getTargetPosition(TargetPoint out) {
+        ghost.getStrategy().getChaseTargetPosition(out);
     }
 }
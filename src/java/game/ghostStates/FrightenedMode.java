@@ -1,8 +1,13 @@
 package game.ghostStates;
 
+import game.Game;
 import game.entities.ghosts.Ghost;
+import game.utils.GameRandom;
+import game.utils.TargetPoint;
 import game.utils.Utils;
 
+import java.util.SplittableRandom;
+
 //Classe pour décrire l'état concret d'un fantôme effrayé (après que Pacman ait mangé une SuperPacGum)
 public class FrightenedMode extends GhostState{
     public FrightenedMode(Ghost ghost) {
@@ -23,12 +28,12 @@ public class FrightenedMode extends GhostState{
 
     //Dans cet état, la position ciblée est une case aléatoire autour du fantôme
     @Override
-    public int[] getTargetPosition(){
-        int[] position = new int[2];
+    public void getTargetPosition(TargetPoint out){
+        SplittableRandom random = Game.getRandom().get(GameRandom.Subsystem.GHOST_AI);
 
-        boolean randomAxis = Utils.randomBool();
-        position[0] = ghost.getxPos() + (randomAxis ? Utils.randomInt(-1,1) * 32 : 0);
-        position[1] = ghost.getyPos() + (!randomAxis ? Utils.randomInt(-1,1) * 32 : 0);
-        return position;
+        boolean randomAxis = Utils.randomBool(random);
+        int x = ghost.getxPos() + (randomAxis ? Utils.randomInt(random, -1,1) * 32 : 0);
+        int y = ghost.getyPos() + (!randomAxis ? Utils.randomInt(random, -1,1) * 32 : 0);
+        out.set(x, y);
     }
 }
@@ -1,6 +1,11 @@
 package game.ghostStates;
 
+import game.Game;
 import game.entities.ghosts.Ghost;
+import game.level.FlowField;
+import game.level.NavGraph;
+import game.level.WallGrid;
+import game.utils.TargetPoint;
 import game.utils.Utils;
 import game.utils.WallCollisionDetector;
 
@@ -8,6 +13,12 @@ import game.utils.WallCollisionDetector;
 public abstract class GhostState {
     protected Ghost ghost;
 
+    //Champ de flux vers la position ciblée quand elle est fixe (calculé une fois par carte, partagé via NavGraph)
+    private FlowField flowField;
+
+    //Position ciblée, réutilisée à chaque décision (aucune allocation)
+    private final TargetPoint target = new TargetPoint();
+
     public GhostState(Ghost ghost) {
         this.ghost = ghost;
     }
@@ -20,77 +31,93 @@ public abstract class GhostState {
     public void outsideHouse() {}
     public void insideHouse() {}
 
-    public int[] getTargetPosition(){
-        return new int[2];
-    } //retourne le point que va cibler le fantôme
+    public void getTargetPosition(TargetPoint out){
+        out.set(0, 0);
+    } //écrit dans out le point que va cibler le fantôme
+
+    //Vrai si la position ciblée ne dépend que de la carte (maison, sortie de la maison, coin de pause)
+    protected boolean hasFixedTarget() {
+        return false;
+    }
+
+    //Vrai si le fantôme peut traverser les murs de la maison des fantômes dans cet état
+    protected boolean ignoresGhostHouses() {
+        return false;
+    }
 
     //Méthode pour calculer la prochaine direction que le fantôme va prendre
     public void computeNextDir() {
-        int new_xSpd = 0;
-        int new_ySpd = 0;
-
         if (!ghost.onTheGrid()) return; //Le fantôme doit être sur une "case" de la zone de jeu
         if (!ghost.onGameplayWindow()) return;  //Le fantôme doit être dans la zone de jeu
 
-        double minDist = Double.MAX_VALUE; //distance minimale courante entre le fantôme et la cible selon sa prochaine direction
+        //Directions possibles sans mur, sauf le demi-tour (le fantôme ne revient jamais sur ses pas)
+        int candidates = getExits() & ~NavGraph.reverseOf(ghost.getxSpd(), ghost.getySpd());
+        if (candidates == 0) return;
 
-        //Si le fantôme va actuellement vers la gauche et qu'il n'y a pas de mur à gauche...
-        if (ghost.getxSpd() <= 0 && !WallCollisionDetector.checkWallCollision(ghost, -ghost.getSpd(), 0)) {
-            //On regarde la distance entre la position ciblée et la position potentielle du fantôme si ce dernier irait vers la gauche
-            double distance = Utils.getDistance(ghost.getxPos() - ghost.getSpd(), ghost.getyPos(), getTargetPosition()[0], getTargetPosition()[1]);
-
-            //Si cette distance est inférieure à la distance minimale courante, on dit que le fantôme va vers la gauche et on met à jour la distance minimale
-            if (distance < minDist) {
-                new_xSpd = -ghost.getSpd();
-                new_ySpd = 0;
-                minDist = distance;
+        //Dans un couloir ou un virage il n'y a qu'une direction possible : pas besoin de la position ciblée
+        int dir = NavGraph.singleDir(candidates);
+        if (dir < 0 && hasFixedTarget()) {
+            //Position ciblée fixe : on suit le plus court chemin précalculé
+            FlowField field = getFlowField();
+            if (field != null) {
+                dir = field.getDirection(ghost.getxPos() / WallGrid.CELL_SIZE, ghost.getyPos() / WallGrid.CELL_SIZE, candidates);
             }
         }
-
-        //Même chose en testant vers la droite
-        if (ghost.getxSpd() >= 0 && !WallCollisionDetector.checkWallCollision(ghost, ghost.getSpd(), 0)) {
-            double distance = Utils.getDistance(ghost.getxPos() + ghost.getSpd(), ghost.getyPos(),  getTargetPosition()[0], getTargetPosition()[1]);
-            if (distance < minDist) {
-                new_xSpd = ghost.getSpd();
-                new_ySpd = 0;
-                minDist = distance;
-            }
+        if (dir < 0) {
+            dir = closestToTarget(candidates);
         }
 
-        //Même chose en testant vers le haut
-        if (ghost.getySpd() <= 0 && !WallCollisionDetector.checkWallCollision(ghost, 0, -ghost.getSpd())) {
-            double distance = Utils.getDistance(ghost.getxPos(), ghost.getyPos() - ghost.getSpd(), getTargetPosition()[0], getTargetPosition()[1]);
-            if (distance < minDist) {
-                new_xSpd = 0;
-                new_ySpd = -ghost.getSpd();
-                minDist = distance;
-            }
+        ghost.setxSpd(NavGraph.dx(dir) * ghost.getSpd());
+        ghost.setySpd(NavGraph.dy(dir) * ghost.getSpd());
+    }
+
+    //Calcule à l'avance le champ de flux de cet état (appelé au chargement de la carte)
+    public void prepareNavigation() {
+        if (hasFixedTarget()) getFlowField();
+    }
+
+    private FlowField getFlowField() {
+        NavGraph navGraph = Game.getNavGraph();
+        if (navGraph == null || !navGraph.fits(ghost.getSize(), ghost.getSpd())) return null;
+        if (flowField == null || flowField.getNavGraph() != navGraph) {
+            getTargetPosition(target);
+            flowField = navGraph.getFlowField(target.x, target.y, ignoresGhostHouses());
         }
+        return flowField;
+    }
 
-        //Même chose en testant vers le bas
-        if (ghost.getySpd() >= 0 && !WallCollisionDetector.checkWallCollision(ghost, 0, ghost.getSpd())) {
-            double distance = Utils.getDistance(ghost.getxPos(), ghost.getyPos() + ghost.getSpd(), getTargetPosition()[0], getTargetPosition()[1]);
+    //À une intersection, on prend la direction qui rapproche le plus de la position ciblée (à égalité : gauche, droite, haut, bas)
+    private int closestToTarget(int candidates) {
+        getTargetPosition(target);
+        int best = -1;
+        long minDist = Long.MAX_VALUE;
+        for (int dir = 0; dir < 4; dir++) {
+            if ((candidates & (1 << dir)) == 0) continue;
+            long distance = Utils.getDistanceSq(ghost.getxPos() + NavGraph.dx(dir) * ghost.getSpd(),
+                    ghost.getyPos() + NavGraph.dy(dir) * ghost.getSpd(), target.x, target.y);
             if (distance < minDist) {
-                new_xSpd = 0;
-                new_ySpd = ghost.getSpd();
+                best = dir;
                 minDist = distance;
             }
         }
+        return best;
+    }
 
-        if (new_xSpd == 0 && new_ySpd == 0) return;
-
-        //Une fois tous les cas testés, on change la direction du fantôme (au cas où, comme cette direction est définie par une vitesse horizontale et une vitesse verticale, on fait quand même une vérification afin qu'il ne puisse pas aller en diagonale)
-        if (Math.abs(new_xSpd) != Math.abs(new_ySpd)) {
-            ghost.setxSpd(new_xSpd);
-            ghost.setySpd(new_ySpd);
-        } else {
-            if (new_xSpd != 0) {
-                ghost.setxSpd(0);
-                ghost.setxSpd(new_ySpd);
-            }else{
-                ghost.setxSpd(new_xSpd);
-                ghost.setySpd(0);
-            }
+    //Directions sans mur depuis la position du fantôme : lecture dans le graphe de navigation de la carte
+    //맵 없이 만든 고스트(테스트 등)나 그래프와 크기/속도가 다른 고스트는 벽을 직접 검사
+    private int getExits() {
+        boolean ignoreGhostHouses = ignoresGhostHouses();
+        NavGraph navGraph = Game.getNavGraph();
+        if (navGraph != null && navGraph.fits(ghost.getSize(), ghost.getSpd())) {
+            return navGraph.getExits(ghost.getxPos(), ghost.getyPos(), ignoreGhostHouses);
         }
+
+        int spd = ghost.getSpd();
+        int exits = 0;
+        if (!WallCollisionDetector.checkWallCollision(ghost, -spd, 0, ignoreGhostHouses)) exits |= NavGraph.LEFT;
+        if (!WallCollisionDetector.checkWallCollision(ghost, spd, 0, ignoreGhostHouses)) exits |= NavGraph.RIGHT;
+        if (!WallCollisionDetector.checkWallCollision(ghost, 0, -spd, ignoreGhostHouses)) exits |= NavGraph.UP;
+        if (!WallCollisionDetector.checkWallCollision(ghost, 0, spd, ignoreGhostHouses)) exits |= NavGraph.DOWN;
+        return exits;
     }
 }
@@ -1,6 +1,7 @@
 package game.ghostStates;
 
 import game.entities.ghosts.Ghost;
+import game.utils.TargetPoint;
 
 //Classe pour décrire l'état concret d'un fantôme en train de faire une pause
 public class ScatterMode extends GhostState{
@@ -22,7 +23,13 @@ public class ScatterMode extends GhostState{
 
     //Dans cet état, la position ciblée dépend de la stratégie du fantôme
     @Override
-    public int[] getTargetPosition() {
-        return ghost.getStrategy().getScatterTargetPosition();
+    public void getTargetPosition(TargetPoint out) {
+        ghost.getStrategy().getScatterTargetPosition(out);
+    }
+
+    //Le coin visé par la stratégie ne dépend que de la taille de la carte
+    @Override
+    protected boolean hasFixedTarget() {
+        return true;
     }
 }
@@ -0,0 +1,43 @@
+package game.ghostStates;
+
+import game.engine.TimerWheel;
+
+/**
+ * 레벨 전체가 공유하는 chase / scatter 교대 일정
+ *
+ * scatter 5초 (300 프레임) -> chase 20초 (1200 프레임) -> scatter ... 를 반복
+ * 고스트마다 따로 세던 타이머 대신 타이머 휠에 만료 하나만 걸어 두고,
+ * 바뀔 때마다 onWaveOver 로 알림 (Game 이 chase / scatter 중인 고스트의 상태를 전환)
+ * 집에 있거나 겁먹은 고스트는 상태가 끝날 때 isChasing() 으로 현재 단계를 따라감
+ */
+public class WaveSchedule {
+    public static final int SCATTER_TICKS = 60 * 5;
+    public static final int CHASE_TICKS = 60 * 20;
+
+    private final TimerWheel timers;
+    private final TimerWheel.Timer waveTimer;
+    private final Runnable onWaveOver;
+    private boolean chasing = false;
+
+    public WaveSchedule(TimerWheel timers, Runnable onWaveOver) {
+        this.timers = timers;
+        this.onWaveOver = onWaveOver;
+        this.waveTimer = timers.newTimer(this::nextWave);
+        timers.schedule(waveTimer, SCATTER_TICKS);
+    }
+
+    private void nextWave() {
+        chasing = !chasing;
+        timers.schedule(waveTimer, chasing ? CHASE_TICKS : SCATTER_TICKS);
+        if (onWaveOver != null) onWaveOver.run();
+    }
+
+    public boolean isChasing() {
+        return chasing;
+    }
+
+    //현재 단계가 끝날 때까지 남은 틱
+    public int getRemaining() {
+        return waveTimer.getRemaining();
+    }
+}
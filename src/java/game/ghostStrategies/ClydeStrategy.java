@@ -1,8 +1,8 @@
 package game.ghostStrategies;
 
 import game.Game;
-import game.panel.GameplayPanel;
 import game.entities.ghosts.Ghost;
+import game.utils.TargetPoint;
 import game.utils.Utils;
 
 //Stratégie concrète de Clyde (le fantôme jaune)
@@ -14,23 +14,17 @@ public class ClydeStrategy implements IGhostStrategy{
 
     //Clyde cible directement Pacman s'il est au dela d'un rayon de 8 cases, et sinon il cible sa position de pause
     @Override
-    public int[] getChaseTargetPosition() {
-        if (Utils.getDistance(ghost.getxPos(), ghost.getyPos(), Game.getPacman().getxPos(), Game.getPacman().getyPos()) >= 256) {
-            int[] position = new int[2];
-            position[0] = Game.getPacman().getxPos();
-            position[1] = Game.getPacman().getyPos();
-            return position;
+    public void getChaseTargetPosition(TargetPoint out) {
+        if (Utils.getDistanceSq(ghost.getxPos(), ghost.getyPos(), Game.getPacman().getxPos(), Game.getPacman().getyPos()) >= 256 * 256) {
+            out.set(Game.getPacman().getxPos(), Game.getPacman().getyPos());
         }else{
-            return getScatterTargetPosition();
+            getScatterTargetPosition(out);
         }
     }
 
     //En pause, Clyde cible la case en bas à gauche
     @Override
-    public int[] getScatterTargetPosition() {
-        int[] position = new int[2];
-        position[0] = 0;
-        position[1] = GameplayPanel.height;
-        return position;
+    public void getScatterTargetPosition(TargetPoint out) {
+        out.set(0, Game.getHeight());
     }
 }
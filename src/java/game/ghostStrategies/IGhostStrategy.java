@@ -1,7 +1,10 @@
 package game.ghostStrategies;
 
+import game.utils.TargetPoint;
+
 //Interface pour décrire les stratégies des différents fantômes (cette vidéo les explique bien : https://www.youtube.com/watch?v=ataGotQ7ir8)
+//Les cases ciblées sont écrites dans un TargetPoint fourni par l'appelant (aucune allocation à chaque décision)
 public interface IGhostStrategy {
-    int[] getChaseTargetPosition(); //Case ciblée lorsque le fantôme poursuit Pacman
-    int[] getScatterTargetPosition(); //Case ciblée lorsque le fantôme fait une pause
+    void getChaseTargetPosition(TargetPoint out); //Case ciblée lorsque le fantôme poursuit Pacman
+    void getScatterTargetPosition(TargetPoint out); //Case ciblée lorsque le fantôme fait une pause
 }
@@ -1,8 +1,9 @@
 package game.ghostStrategies;
 
 import game.Game;
-import game.panel.GameplayPanel;
+import game.entities.Pacman;
 import game.entities.ghosts.Ghost;
+import game.utils.TargetPoint;
 import game.utils.Utils;
 
 //Stratégie concrète d'Inky (le fantôme bleu)
@@ -13,24 +14,18 @@ public class InkyStrategy implements IGhostStrategy{
     }
 
     //Inky se base sur la position de Blinky pour cibler Pacman : on prend un vecteur entre la position de Blinky et une case devant Pacman, et additionne ce vecteur à la position une case devant Pacman pour obtenir la cible d'Inky
+    //(en entiers : cible = 2 * (case devant Pacman) - Blinky)
     @Override
-    public int[] getChaseTargetPosition() {
-        int[] position = new int[2];
-        int[] pacmanFacingPosition = Utils.getPointDistanceDirection(Game.getPacman().getxPos(), Game.getPacman().getyPos(), 32d, Utils.directionConverter(Game.getPacman().getDirection()));
-        double distanceOtherGhost = Utils.getDistance(pacmanFacingPosition[0], pacmanFacingPosition[1], otherGhost.getxPos(), otherGhost.getyPos());
-        double directionOtherGhost = Utils.getDirection(otherGhost.getxPos(), otherGhost.getyPos(), pacmanFacingPosition[0], pacmanFacingPosition[1]);
-        int[] blinkyVectorPosition = Utils.getPointDistanceDirection(pacmanFacingPosition[0], pacmanFacingPosition[1], distanceOtherGhost, directionOtherGhost);
-        position[0] = blinkyVectorPosition[0];
-        position[1] = blinkyVectorPosition[1];
-        return position;
+    public void getChaseTargetPosition(TargetPoint out) {
+        Pacman pacman = Game.getPacman();
+        int facingX = pacman.getxPos() + Utils.directionDx(pacman.getDirection()) * 32;
+        int facingY = pacman.getyPos() + Utils.directionDy(pacman.getDirection()) * 32;
+        out.set(2 * facingX - otherGhost.getxPos(), 2 * facingY - otherGhost.getyPos());
     }
 
     //En pause, Inky cible la case en bas à droite
     @Override
-    public int[] getScatterTargetPosition() {
-        int[] position = new int[2];
-        position[0] = GameplayPanel.width;
-        position[1] = GameplayPanel.height;
-        return position;
+    public void getScatterTargetPosition(TargetPoint out) {
+        out.set(Game.getWidth(), Game.getHeight());
     }
 }
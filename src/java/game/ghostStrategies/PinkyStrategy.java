@@ -1,26 +1,23 @@
 package game.ghostStrategies;
 
 import game.Game;
+import game.entities.Pacman;
+import game.utils.TargetPoint;
 import game.utils.Utils;
 
 //Stratégie concrète de Pinky (le fantôme rose)
 public class PinkyStrategy implements IGhostStrategy {
     //Pinky cible deux cases devant de Pacman
     @Override
-    public int[] getChaseTargetPosition() {
-        int[] position = new int[2];
-        int[] pacmanFacingPosition = Utils.getPointDistanceDirection(Game.getPacman().getxPos(), Game.getPacman().getyPos(), 64, Utils.directionConverter(Game.getPacman().getDirection()));
-        position[0] = pacmanFacingPosition[0];
-        position[1] = pacmanFacingPosition[1];
-        return position;
+    public void getChaseTargetPosition(TargetPoint out) {
+        Pacman pacman = Game.getPacman();
+        out.set(pacman.getxPos() + Utils.directionDx(pacman.getDirection()) * 64,
+                pacman.getyPos() + Utils.directionDy(pacman.getDirection()) * 64);
     }
 
     //En pause, Pinky cible la case en haut à gauche
     @Override
-    public int[] getScatterTargetPosition() {
-        int[] position = new int[2];
-        position[0] = 0;
-        position[1] = 0;
-        return position;
+    public void getScatterTargetPosition(TargetPoint out) {
+        out.set(0, 0);
     }
 }
@@ -0,0 +1,304 @@
+package game.level;
+
+import game.utils.CompatibleImages;
+import game.utils.CsvGrid;
+import game.utils.ResourceUtils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * CSV 맵 하나를 게임이 바로 쓸 수 있는 형태로 컴파일한 결과 (LevelCache 가 보관)
+ *
+ * - 벽 / 고스트 하우스 문 : WallGrid (게임끼리 공유, 컴파일 후 바뀌지 않음)
+ * - PacGum 비트셋 : 게임마다 newPelletGrid() 로 복사
+ * - SuperPacGum / Pacman / 고스트 시작 위치 : 예전 생성 순서(열 우선) 그대로 셀 인덱스로 보관
+ *   (SuperPacGum 종류와 고스트 효과는 게임마다 난수로 정하므로 여기에는 위치만 있음)
+ * - NavGraph : 고스트 길찾기 표 (흐름장은 처음 요청할 때 만들어 이 레벨을 쓰는 게임끼리 공유)
+ * - 정적 레이어 : 배경 이미지를 화면 크기로 그려 둔 이미지 (메모리에만 둠, 처음 요청할 때 그림)
+ *
+ * 셀 인덱스는 모두 행 우선 (cy * cols + cx)
+ */
+public final class CompiledLevel {
+    static final int FORMAT_VERSION = 1;
+    private static final int MAGIC = 0x50414c56; // "PALV"
+
+    private final String hash;
+    private final int cols;
+    private final int rows;
+    private final long[] wallCells;
+    private final long[] houseCells;
+    private final long[] pacGums;
+    private final int[] superPacGumCells;
+    private final int pacmanCell;
+    private final char[] ghostKinds;
+    private final int[] ghostCells;
+    private final WallGrid wallGrid;
+    private final NavGraph navGraph;
+
+    private String mapName;
+    private BufferedImage staticLayer;
+
+    //navTables : 디스크에서 읽은 NavGraph 출구 표 (없거나 크기/속도가 다르면 벽에서 다시 계산)
+    private CompiledLevel(String hash, int cols, int rows, long[] wallCells, long[] houseCells, long[] pacGums,
+                          int[] superPacGumCells, int pacmanCell, char[] ghostKinds, int[] ghostCells,
+                          NavGraph.Tables navTables, int navSize, int navStep) {
+        this.hash = hash;
+        this.cols = cols;
+        this.rows = rows;
+        this.wallCells = wallCells;
+        this.houseCells = houseCells;
+        this.pacGums = pacGums;
+        this.superPacGumCells = superPacGumCells;
+        this.pacmanCell = pacmanCell;
+        this.ghostKinds = ghostKinds;
+        this.ghostCells = ghostCells;
+
+        this.wallGrid = new WallGrid(cols, rows);
+        for (int cell = 0; cell < cols * rows; cell++) {
+            if (get(wallCells, cell)) wallGrid.setWall(cell % cols, cell / cols);
+            else if (get(houseCells, cell)) wallGrid.setGhostHouse(cell % cols, cell / cols);
+        }
+        this.navGraph = navTables != null && navTables.fits(navSize, navStep, cols * rows)
+                ? new NavGraph(wallGrid, navTables)
+                : new NavGraph(wallGrid, navSize, navStep);
+    }
+
+    /**
+     * CSV 셀 데이터에서 컴파일
+     * 예전 Game 생성자와 같은 순서 (x 바깥, y 안쪽 루프) 로 시작 위치를 모음
+     */
+    static CompiledLevel compile(String hash, CsvGrid data, int navSize, int navStep) {
+        int cols = data.getCols();
+        int rows = data.getRows();
+        int words = (cols * rows + 63) >>> 6;
+        long[] wallCells = new long[words];
+        long[] houseCells = new long[words];
+        long[] pacGums = new long[words];
+        int[] superCells = new int[cols * rows];
+        int superCount = 0;
+        char[] ghostKinds = new char[cols * rows];
+        int[] ghostCells = new int[cols * rows];
+        int ghostCount = 0;
+        int pacmanCell = -1;
+
+        for (int xx = 0; xx < cols; xx++) {
+            for (int yy = 0; yy < rows; yy++) {
+                int cell = yy * cols + xx;
+                switch (data.get(xx, yy)) {
+                    case 'x':
+                        set(wallCells, cell);
+                        break;
+                    case 'P':
+                        pacmanCell = cell;
+                        break;
+                    case 'b':
+                    case 'p':
+                    case 'i':
+                    case 'c':
+                        ghostKinds[ghostCount] = data.get(xx, yy);
+                        ghostCells[ghostCount] = cell;
+                        ghostCount++;
+                        break;
+                    case '.':
+                        set(pacGums, cell);
+                        break;
+                    case 'o':
+                        superCells[superCount++] = cell;
+                        break;
+                    case '-':
+                        set(houseCells, cell);
+                        break;
+                }
+            }
+        }
+
+        return new CompiledLevel(hash, cols, rows, wallCells, houseCells, pacGums,
+                Arrays.copyOf(superCells, superCount), pacmanCell,
+                Arrays.copyOf(ghostKinds, ghostCount), Arrays.copyOf(ghostCells, ghostCount),
+                null, navSize, navStep);
+    }
+
+    //게임마다 새 PelletGrid (PacGum 만 채움 ; SuperPacGum 은 Game 이 종류를 정해 getSuperPacGumCells() 순서로 추가)
+    public PelletGrid newPelletGrid() {
+        return new PelletGrid(cols, rows, pacGums);
+    }
+
+    /**
+     * 배경 이미지를 width x height 로 그려 둔 정적 레이어 (처음 호출할 때 한 번만 그림)
+     * 맵 이름이 있는데 배경 이미지가 없으면 RuntimeException (이름 없는 레벨은 투명한 레이어)
+     */
+    public synchronized BufferedImage getStaticLayer(int width, int height) {
+        if (staticLayer == null || staticLayer.getWidth() != width || staticLayer.getHeight() != height) {
+            Image background = null;
+            if (mapName != null) {
+                background = new ResourceUtils().loadMapImage(mapName);
+                if (background == null) throw new RuntimeException("배경 이미지를 찾을 수 없습니다: " + mapName);
+            }
+            BufferedImage layer = CompatibleImages.create(width, height, Transparency.TRANSLUCENT);
+            Graphics2D g = layer.createGraphics();
+            if (background != null) g.drawImage(background, 0, 0, width, height, null);
+            g.dispose();
+            staticLayer = layer;
+        }
+        return staticLayer;
+    }
+
+    //디스크 캐시 형식 : 헤더(매직, 버전, 크기) + 비트셋 + 시작 위치 + NavGraph 출구 표
+    void write(DataOutputStream out) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeInt(FORMAT_VERSION);
+        out.writeInt(cols);
+        out.writeInt(rows);
+        writeLongs(out, wallCells);
+        writeLongs(out, houseCells);
+        writeLongs(out, pacGums);
+        writeInts(out, superPacGumCells);
+        out.writeInt(pacmanCell);
+        out.writeInt(ghostKinds.length);
+        for (int i = 0; i < ghostKinds.length; i++) {
+            out.writeChar(ghostKinds[i]);
+            out.writeInt(ghostCells[i]);
+        }
+        NavGraph.Tables nav = navGraph.getTables();
+        out.writeInt(nav.size);
+        out.writeInt(nav.step);
+        out.write(nav.exits);
+        out.write(nav.ghostExits);
+    }
+
+    //형식이 다르거나 깨진 파일이면 IOException (호출 쪽은 CSV 에서 다시 컴파일)
+    static CompiledLevel read(String hash, DataInputStream in, int navSize, int navStep) throws IOException {
+        if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION) {
+            throw new IOException("Not a compiled level (or another format version)");
+        }
+        int cols = in.readInt();
+        int rows = in.readInt();
+        if (cols <= 0 || rows <= 0 || (long) cols * rows > Integer.MAX_VALUE / 2) {
+            throw new IOException("Bad level size: " + cols + "x" + rows);
+        }
+        int words = (cols * rows + 63) >>> 6;
+        long[] wallCells = readLongs(in, words);
+        long[] houseCells = readLongs(in, words);
+        long[] pacGums = readLongs(in, words);
+        int[] superCells = readInts(in, cols * rows);
+        for (int cell : superCells) checkCell(cell, cols * rows);
+        int pacmanCell = in.readInt();
+        if (pacmanCell != -1) checkCell(pacmanCell, cols * rows);
+        int ghostCount = in.readInt();
+        if (ghostCount < 0 || ghostCount > cols * rows) throw new IOException("Bad ghost count: " + ghostCount);
+        char[] ghostKinds = new char[ghostCount];
+        int[] ghostCells = new int[ghostCount];
+        for (int i = 0; i < ghostCount; i++) {
+            ghostKinds[i] = in.readChar();
+            if ("bpic".indexOf(ghostKinds[i]) < 0) throw new IOException("Bad ghost kind: " + (int) ghostKinds[i]);
+            ghostCells[i] = checkCell(in.readInt(), cols * rows);
+        }
+
+        int size = in.readInt();
+        int step = in.readInt();
+        byte[] exits = new byte[cols * rows];
+        byte[] ghostExits = new byte[cols * rows];
+        in.readFully(exits);
+        in.readFully(ghostExits);
+
+        return new CompiledLevel(hash, cols, rows, wallCells, houseCells, pacGums, superCells, pacmanCell,
+                ghostKinds, ghostCells, new NavGraph.Tables(size, step, exits, ghostExits), navSize, navStep);
+    }
+
+    public String getHash() {
+        return hash;
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    void setMapName(String mapName) {
+        this.mapName = mapName;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public WallGrid getWallGrid() {
+        return wallGrid;
+    }
+
+    public NavGraph getNavGraph() {
+        return navGraph;
+    }
+
+    //SuperPacGum 위치 (예전 생성 순서 ; 종류를 정하는 난수도 이 순서로 뽑음)
+    public int getSuperPacGumCount() {
+        return superPacGumCells.length;
+    }
+
+    public int getSuperPacGumCell(int i) {
+        return superPacGumCells[i];
+    }
+
+    //Pacman 시작 셀 (맵에 없으면 -1)
+    public int getPacmanCell() {
+        return pacmanCell;
+    }
+
+    //고스트 시작 위치 ('b', 'p', 'i', 'c' ; Blinky 가 Inky 보다 먼저 생성되는 예전 순서 그대로)
+    public int getGhostCount() {
+        return ghostKinds.length;
+    }
+
+    public char getGhostKind(int i) {
+        return ghostKinds[i];
+    }
+
+    public int getGhostCell(int i) {
+        return ghostCells[i];
+    }
+
+    private static boolean get(long[] bits, int cell) {
+        return (bits[cell >>> 6] & (1L << cell)) != 0;
+    }
+
+    private static void set(long[] bits, int cell) {
+        bits[cell >>> 6] |= 1L << cell;
+    }
+
+    private static void writeLongs(DataOutputStream out, long[] values) throws IOException {
+        for (long v : values) out.writeLong(v);
+    }
+
+    private static long[] readLongs(DataInputStream in, int n) throws IOException {
+        long[] values = new long[n];
+        for (int i = 0; i < n; i++) values[i] = in.readLong();
+        return values;
+    }
+
+    private static void writeInts(DataOutputStream out, int[] values) throws IOException {
+        out.writeInt(values.length);
+        for (int v : values) out.writeInt(v);
+    }
+
+    //시작 위치가 맵 밖이면 IOException (깨진 파일을 그대로 쓰면 Game 에서 터지므로)
+    private static int checkCell(int cell, int cellCount) throws IOException {
+        if (cell < 0 || cell >= cellCount) throw new IOException("Bad cell index: " + cell);
+        return cell;
+    }
+
+    private static int[] readInts(DataInputStream in, int max) throws IOException {
+        int n = in.readInt();
+        if (n < 0 || n > max) throw new IOException("Bad array length: " + n);
+        int[] values = new int[n];
+        for (int i = 0; i < n; i++) values[i] = in.readInt();
+        return values;
+    }
+}
@@ -0,0 +1,101 @@
+package game.level;
+
+import java.util.Arrays;
+
+/**
+ * 고정 목표 하나를 향한 흐름장 (NavGraph 위에서 BFS 로 한 번 계산)
+ *
+ * 셀마다 목표까지의 실제 경로 길이(셀 수)와 가장 빠른 방향을 저장
+ * 고스트는 뒤로 돌 수 없으므로 갈림길에서는 후보 방향 중 다음 셀의 거리가 가장 짧은 쪽을 고름
+ * (가장 빠른 방향이 후보에 있으면 표 조회 한 번)
+ *
+ * 목표에 닿을 수 없는 셀은 거리 -1 ; 이때는 호출 쪽이 직선 거리 비교로 돌아감
+ */
+public final class FlowField {
+    public static final int UNREACHABLE = -1;
+
+    private final NavGraph navGraph;
+    private final int cols;
+    private final int rows;
+    private final int targetCell;
+    private final int[] distance;
+    private final byte[] bestDir;
+
+    FlowField(NavGraph navGraph, byte[] exits, int cols, int rows, int targetCell) {
+        this.navGraph = navGraph;
+        this.cols = cols;
+        this.rows = rows;
+        this.targetCell = targetCell;
+        this.distance = new int[cols * rows];
+        this.bestDir = new byte[cols * rows];
+        Arrays.fill(distance, UNREACHABLE);
+        Arrays.fill(bestDir, (byte) -1);
+
+        //목표에서 거꾸로 BFS : 셀 n 에서 방향 d 로 나가서 셀 c 에 닿는다면 dist[n] = dist[c] + 1
+        int[] queue = new int[cols * rows];
+        int head = 0;
+        int tail = 0;
+        distance[targetCell] = 0;
+        queue[tail++] = targetCell;
+        while (head < tail) {
+            int cell = queue[head++];
+            int cx = cell % cols;
+            int cy = cell / cols;
+            for (int dir = 0; dir < 4; dir++) {
+                int nx = cx - NavGraph.dx(dir);
+                int ny = cy - NavGraph.dy(dir);
+                if (nx < 0 || nx >= cols || ny < 0 || ny >= rows) continue;
+                int next = ny * cols + nx;
+                if (distance[next] != UNREACHABLE || (exits[next] & (1 << dir)) == 0) continue;
+                distance[next] = distance[cell] + 1;
+                queue[tail++] = next;
+            }
+        }
+
+        for (int cell = 0; cell < distance.length; cell++) {
+            if (distance[cell] > 0) bestDir[cell] = (byte) choose(cell, exits[cell]);
+        }
+    }
+
+    public NavGraph getNavGraph() {
+        return navGraph;
+    }
+
+    public int getTargetCell() {
+        return targetCell;
+    }
+
+    //셀 (cx, cy) 에서 목표까지 경로 길이 (셀 수), 닿을 수 없으면 UNREACHABLE
+    public int getDistance(int cx, int cy) {
+        if (cx < 0 || cx >= cols || cy < 0 || cy >= rows) return UNREACHABLE;
+        return distance[cy * cols + cx];
+    }
+
+    /**
+     * 셀 (cx, cy) 에서 candidates 방향 중 목표에 가장 가까워지는 방향 비트 번호
+     * 거리가 같으면 LEFT, RIGHT, UP, DOWN 순서 ; 후보 중 목표에 닿는 방향이 없으면 -1
+     */
+    public int getDirection(int cx, int cy, int candidates) {
+        if (cx < 0 || cx >= cols || cy < 0 || cy >= rows) return -1;
+        int cell = cy * cols + cx;
+        int best = bestDir[cell];
+        if (best >= 0 && (candidates & (1 << best)) != 0) return best;
+        return choose(cell, candidates);
+    }
+
+    private int choose(int cell, int candidates) {
+        int cx = cell % cols;
+        int cy = cell / cols;
+        int best = -1;
+        int bestDistance = Integer.MAX_VALUE;
+        for (int dir = 0; dir < 4; dir++) {
+            if ((candidates & (1 << dir)) == 0) continue;
+            int d = getDistance(cx + NavGraph.dx(dir), cy + NavGraph.dy(dir));
+            if (d != UNREACHABLE && d < bestDistance) {
+                best = dir;
+                bestDistance = d;
+            }
+        }
+        return best;
+    }
+}
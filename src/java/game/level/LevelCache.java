@@ -0,0 +1,157 @@
+package game.level;
+
+import game.entities.ghosts.Ghost;
+import game.utils.CsvFormatException;
+import game.utils.CsvGrid;
+import game.utils.CsvReader;
+
+import java.io.*;
+import java.net.URI;
+import java.nio.ByteBuffer;
+import java.nio.file.*;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 컴파일된 레벨 캐시 (CSV 내용의 SHA-256 으로 식별)
+ *
+ * - 메모리 : 맵 이름별 최근 MEMORY_CAPACITY 개 (LRU) ; 같은 맵으로 게임을 다시 시작하면 CSV 를 다시 읽지 않음
+ *   (같은 이름이라도 CSV 내용이 바뀌었으면 해시가 달라서 다시 컴파일)
+ * - 디스크 : <캐시 폴더>/<해시>.lvl ; 프로그램을 다시 켜도 파싱/벽 컴파일/NavGraph 계산을 건너뜀
+ *   폴더는 시스템 속성 pacman.levelCache (빈 값이면 디스크 캐시를 쓰지 않음), 기본값은 임시 폴더 아래 pacman-level-cache
+ *
+ * 디스크 캐시를 읽거나 쓰다 실패하면 CSV 에서 컴파일한 결과를 그대로 씀 (캐시는 속도만 바꿈)
+ */
+public final class LevelCache {
+    public static final String DIRECTORY_PROPERTY = "pacman.levelCache";
+    static final int MEMORY_CAPACITY = 8;
+
+    private static final LevelCache INSTANCE = new LevelCache(defaultDirectory());
+
+    private final Path directory;
+    private final Map<String, CompiledLevel> levels = new LinkedHashMap<String, CompiledLevel>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CompiledLevel> eldest) {
+            return size() > MEMORY_CAPACITY;
+        }
+    };
+
+    //directory 가 null 이면 메모리 캐시만 사용
+    public LevelCache(Path directory) {
+        this.directory = directory;
+    }
+
+    public static LevelCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * src/resources/level/<mapName>.csv (없으면 클래스패스의 level/<mapName>.csv) 를 컴파일한 레벨
+     * 맵 파일이 없거나 형식이 틀리면 RuntimeException (형식 오류는 줄 / 열 번호 포함)
+     */
+    public CompiledLevel get(String mapName) {
+        return get(mapName, locate(mapName));
+    }
+
+    public CompiledLevel get(String mapName, URI levelUri) {
+        byte[] content;
+        try (InputStream in = levelUri.toURL().openStream()) {
+            content = in.readAllBytes();
+        } catch (IOException e) {
+            throw new RuntimeException("맵 파일을 읽을 수 없습니다: " + mapName, e);
+        }
+        String hash = sha256(content);
+
+        synchronized (levels) {
+            CompiledLevel cached = levels.get(mapName);
+            if (cached != null && cached.getHash().equals(hash)) return cached;
+        }
+
+        CompiledLevel level = readFromDisk(hash);
+        if (level == null) {
+            try {
+                CsvGrid data = new CsvReader().parseGrid(ByteBuffer.wrap(content));
+                level = CompiledLevel.compile(hash, data, Ghost.SIZE, Ghost.SPEED);
+            } catch (CsvFormatException e) {
+                throw new RuntimeException("맵 파일 형식이 잘못되었습니다: " + mapName + " (" + e.getMessage() + ")", e);
+            }
+            writeToDisk(level);
+        }
+        level.setMapName(mapName);
+
+        synchronized (levels) {
+            //다른 스레드가 먼저 같은 내용을 넣었으면 그쪽을 씀 (흐름장 / 정적 레이어를 공유하도록)
+            CompiledLevel cached = levels.get(mapName);
+            if (cached != null && cached.getHash().equals(hash)) return cached;
+            levels.put(mapName, level);
+        }
+        return level;
+    }
+
+    //메모리 캐시 비우기 (디스크 캐시는 그대로)
+    public void clear() {
+        synchronized (levels) {
+            levels.clear();
+        }
+    }
+
+    private static URI locate(String mapName) {
+        Path levelPath = Paths.get("src/resources/level/" + mapName + ".csv");
+        if (levelPath.toFile().exists()) return levelPath.toUri();
+        // 파일이 없으면 클래스패스 리소스 폴백 (jar 안의 리소스도 읽을 수 있도록 Path 로 바꾸지 않고 URI 그대로 사용)
+        try {
+            return LevelCache.class.getClassLoader().getResource("level/" + mapName + ".csv").toURI();
+        } catch (Exception e) {
+            throw new RuntimeException("맵 파일을 찾을 수 없습니다: " + mapName, e);
+        }
+    }
+
+    private CompiledLevel readFromDisk(String hash) {
+        if (directory == null) return null;
+        Path file = directory.resolve(hash + ".lvl");
+        if (!Files.isRegularFile(file)) return null;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+            return CompiledLevel.read(hash, in, Ghost.SIZE, Ghost.SPEED);
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    //임시 파일에 쓴 뒤 이름을 바꿈 (동시에 켠 다른 게임이 반쯤 쓴 파일을 읽지 않도록)
+    private void writeToDisk(CompiledLevel level) {
+        if (directory == null) return;
+        Path tmp = null;
+        try {
+            Files.createDirectories(directory);
+            tmp = Files.createTempFile(directory, level.getHash(), ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                level.write(out);
+            }
+            Files.move(tmp, directory.resolve(level.getHash() + ".lvl"), StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            try {
+                if (tmp != null) Files.deleteIfExists(tmp);
+            } catch (IOException ignored) {
+            }
+        }
+    }
+
+    private static Path defaultDirectory() {
+        String dir = System.getProperty(DIRECTORY_PROPERTY);
+        if (dir == null) return Paths.get(System.getProperty("java.io.tmpdir"), "pacman-level-cache");
+        return dir.isEmpty() ? null : Paths.get(dir);
+    }
+
+    static String sha256(byte[] content) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content);
+            StringBuilder sb = new StringBuilder(digest.length * 2);
+            for (byte b : digest) sb.append(String.format("%02x", b));
+            return sb.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
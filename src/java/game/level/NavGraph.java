@@ -0,0 +1,209 @@
+package game.level;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 고스트 길찾기용 내비게이션 그래프 (맵마다 WallGrid 에서 한 번 컴파일)
+ *
+ * 셀마다 (size x size) 엔티티가 그 셀에 정렬해 서 있을 때 step 픽셀 움직일 수 있는 방향을
+ * 4 비트 마스크로 저장 ; 일반 상태용(하우스 문 막힘)과 하우스 문을 무시하는 상태용 두 벌
+ * 결과는 WallCollisionDetector 로 네 방향을 검사한 것과 같음 (같은 WallGrid.collides 로 계산)
+ *
+ * 고스트는 뒤로 돌지 않으므로, 출구에서 현재 방향의 반대를 뺀 후보가 하나뿐인 셀(복도, 모퉁이)에서는
+ * 목표 지점 없이 그 방향으로 감 ; 후보가 둘 이상인 셀(갈림길)에서만 목표까지 거리를 비교함
+ *
+ * 정렬되지 않은 위치나 맵 바깥(터널)은 표에 없으므로 그때만 직접 검사
+ *
+ * 고정 목표(하우스, 하우스 출구, 구석)로 가는 FlowField 는 목표마다 한 번만 만들어 모든 고스트가 공유
+ * (CompiledLevel 에 들어 있어 같은 맵을 쓰는 게임끼리도 공유 ; 그래서 getFlowField 는 동기화)
+ */
+public final class NavGraph {
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int UP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+    public static final int ALL = LEFT | RIGHT | UP | DOWN;
+
+    //방향 비트 번호(0~3) -> 단위 이동량 (LEFT, RIGHT, UP, DOWN 순서 ; 갈림길에서 거리가 같으면 앞쪽 방향이 이김)
+    private static final int[] DX = {-1, 1, 0, 0};
+    private static final int[] DY = {0, 0, -1, 1};
+
+    //후보 마스크 -> 후보가 하나면 그 방향 비트 번호, 없거나 둘 이상이면 -1
+    private static final byte[] SINGLE = new byte[ALL + 1];
+
+    static {
+        for (int mask = 0; mask <= ALL; mask++) {
+            SINGLE[mask] = (byte) (Integer.bitCount(mask) == 1 ? Integer.numberOfTrailingZeros(mask) : -1);
+        }
+    }
+
+    private final WallGrid wallGrid;
+    private final int cols;
+    private final int rows;
+    private final int size;
+    private final int step;
+    private final byte[] exits;
+    private final byte[] ghostExits;
+    private int junctionCount;
+
+    //(목표 셀, 하우스 문 무시 여부) -> 흐름장
+    private final Map<Integer, FlowField> flowFields = new HashMap<>();
+
+    public NavGraph(WallGrid wallGrid, int size, int step) {
+        this.wallGrid = wallGrid;
+        this.cols = wallGrid.getCols();
+        this.rows = wallGrid.getRows();
+        this.size = size;
+        this.step = step;
+        this.exits = new byte[cols * rows];
+        this.ghostExits = new byte[cols * rows];
+
+        for (int cy = 0; cy < rows; cy++) {
+            for (int cx = 0; cx < cols; cx++) {
+                int x = cx * WallGrid.CELL_SIZE;
+                int y = cy * WallGrid.CELL_SIZE;
+                exits[cy * cols + cx] = (byte) scan(x, y, false);
+                ghostExits[cy * cols + cx] = (byte) scan(x, y, true);
+            }
+        }
+        countJunctions();
+    }
+
+    //CompiledLevel 디스크 캐시에서 읽은 출구 표로 복원 (벽 검사 없음)
+    NavGraph(WallGrid wallGrid, Tables tables) {
+        this.wallGrid = wallGrid;
+        this.cols = wallGrid.getCols();
+        this.rows = wallGrid.getRows();
+        this.size = tables.size;
+        this.step = tables.step;
+        this.exits = tables.exits;
+        this.ghostExits = tables.ghostExits;
+        countJunctions();
+    }
+
+    private void countJunctions() {
+        for (int cell = 0; cell < exits.length; cell++) {
+            if (isJunction(exits[cell])) junctionCount++;
+        }
+    }
+
+    //이 그래프를 그 크기/속도의 엔티티에 쓸 수 있는지
+    public boolean fits(int size, int step) {
+        return this.size == size && this.step == step;
+    }
+
+    /**
+     * 픽셀 위치 (x, y) 에서 움직일 수 있는 방향 마스크
+     * 셀에 정렬된 맵 안 위치면 표 조회, 아니면 직접 검사
+     */
+    public int getExits(int x, int y, boolean ignoreGhostHouses) {
+        if ((x & (WallGrid.CELL_SIZE - 1)) == 0 && (y & (WallGrid.CELL_SIZE - 1)) == 0) {
+            int cx = x / WallGrid.CELL_SIZE;
+            int cy = y / WallGrid.CELL_SIZE;
+            if (cx >= 0 && cx < cols && cy >= 0 && cy < rows) {
+                return (ignoreGhostHouses ? ghostExits : exits)[cy * cols + cx];
+            }
+        }
+        return scan(x, y, ignoreGhostHouses);
+    }
+
+    //셀 (cx, cy) 가 갈림길인지 (출구가 셋 이상이거나, 둘인데 일직선이 아님)
+    public boolean isJunction(int cx, int cy, boolean ignoreGhostHouses) {
+        return isJunction((ignoreGhostHouses ? ghostExits : exits)[cy * cols + cx]);
+    }
+
+    //일반 상태 기준 갈림길 셀 수
+    public int getJunctionCount() {
+        return junctionCount;
+    }
+
+    /**
+     * 픽셀 위치 (targetX, targetY) 로 가는 흐름장 (처음 요청할 때 BFS, 이후 캐시)
+     * 목표가 맵 밖이나 벽 안이면 고스트가 설 수 있는 셀 중 가장 가까운 셀을 목표로 삼음
+     */
+    public synchronized FlowField getFlowField(int targetX, int targetY, boolean ignoreGhostHouses) {
+        byte[] table = ignoreGhostHouses ? ghostExits : exits;
+        int target = nearestOpenCell(table, targetX, targetY);
+        int key = target * 2 + (ignoreGhostHouses ? 1 : 0);
+        FlowField field = flowFields.get(key);
+        if (field == null) {
+            field = new FlowField(this, table, cols, rows, target);
+            flowFields.put(key, field);
+        }
+        return field;
+    }
+
+    //출구가 하나라도 있는 셀 중 (셀 왼쪽 위 픽셀 기준) 목표와 가장 가까운 셀 ; 같으면 먼저 나온 셀
+    private int nearestOpenCell(byte[] table, int targetX, int targetY) {
+        int best = 0;
+        long bestDistance = Long.MAX_VALUE;
+        for (int cell = 0; cell < table.length; cell++) {
+            if (table[cell] == 0) continue;
+            long dx = (long) (cell % cols) * WallGrid.CELL_SIZE - targetX;
+            long dy = (long) (cell / cols) * WallGrid.CELL_SIZE - targetY;
+            long d = dx * dx + dy * dy;
+            if (d < bestDistance) {
+                best = cell;
+                bestDistance = d;
+                if (d == 0) break;
+            }
+        }
+        return best;
+    }
+
+    Tables getTables() {
+        return new Tables(size, step, exits, ghostExits);
+    }
+
+    private int scan(int x, int y, boolean ignoreGhostHouses) {
+        int mask = 0;
+        for (int dir = 0; dir < 4; dir++) {
+            if (!wallGrid.collides(x + DX[dir] * step, y + DY[dir] * step, size, size, ignoreGhostHouses)) {
+                mask |= 1 << dir;
+            }
+        }
+        return mask;
+    }
+
+    private static boolean isJunction(int mask) {
+        return Integer.bitCount(mask) > 2 || (Integer.bitCount(mask) == 2 && mask != (LEFT | RIGHT) && mask != (UP | DOWN));
+    }
+
+    //속도 (xSpd, ySpd) 로 움직이는 중일 때 되돌아가는 방향 (멈춰 있으면 0)
+    public static int reverseOf(int xSpd, int ySpd) {
+        return (xSpd > 0 ? LEFT : 0) | (xSpd < 0 ? RIGHT : 0) | (ySpd > 0 ? UP : 0) | (ySpd < 0 ? DOWN : 0);
+    }
+
+    //후보가 하나뿐이면 그 방향 비트 번호, 아니면 -1
+    public static int singleDir(int candidates) {
+        return SINGLE[candidates];
+    }
+
+    public static int dx(int dir) {
+        return DX[dir];
+    }
+
+    public static int dy(int dir) {
+        return DY[dir];
+    }
+
+    //직렬화용 출구 표 묶음
+    static final class Tables {
+        final int size;
+        final int step;
+        final byte[] exits;
+        final byte[] ghostExits;
+
+        Tables(int size, int step, byte[] exits, byte[] ghostExits) {
+            this.size = size;
+            this.step = step;
+            this.exits = exits;
+            this.ghostExits = ghostExits;
+        }
+
+        boolean fits(int size, int step, int cells) {
+            return this.size == size && this.step == step && exits.length == cells && ghostExits.length == cells;
+        }
+    }
+}
@@ -0,0 +1,269 @@
+package game.level;
+
+import game.entities.PacGum;
+import game.entities.superPacGums.SuperPacGum;
+
+import java.awt.*;
+import java.util.Arrays;
+
+/**
+ * 맵의 PacGum / SuperPacGum 을 셀 인덱스 비트셋으로 관리하는 그리드
+ *
+ * - 일반 PacGum: 셀마다 1비트 (엔티티 객체 없음)
+ * - SuperPacGum: 존재 비트 + 작은 사이드 테이블 (종류별 동작이 달라서 객체 유지)
+ * - remaining: 남은 펠릿 수를 유지하므로 레벨 클리어 판정이 O(1)
+ *
+ * 충돌 판정은 기존 StaticEntity 히트박스와 동일한 기준
+ * (Pacman 중심점이 PacGum 4x4 / SuperPacGum 16x16 사각형 안에 있는지)
+ *
+ * 먹힌 PacGum 셀은 순서대로 eatenLog 에 쌓임 ; 렌더러는 자기가 읽은 위치만 기억해
+ * 새로 먹힌 셀만 지우면 됨
+ * 셀마다 한 번만 먹히므로 eatenLog 는 셀 수만큼 한 번만 할당하고 다시 만들지 않음
+ * (다른 스레드의 렌더러도 게시된 개수까지는 안전하게 읽을 수 있음)
+ */
+public final class PelletGrid {
+    private static final int CELL_SIZE = WallGrid.CELL_SIZE;
+
+    private final int cols;
+    private final int rows;
+    private final long[] pacGums;
+    private final long[] superPacGums;
+
+    //SuperPacGum 사이드 테이블 (맵당 몇 개 뿐이라 선형 탐색)
+    private int[] superCells = new int[4];
+    private SuperPacGum[] superTable = new SuperPacGum[4];
+    private int superTableSize = 0;
+
+    private int remainingPacGums = 0;
+    private final int[] eatenLog;
+    private int eatenCount = 0;
+    private int remainingSuperPacGums = 0;
+
+    private static final Color PACGUM_COLOR = new Color(255, 183, 174);
+
+    public PelletGrid(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        int words = (cols * rows + 63) >>> 6;
+        this.pacGums = new long[words];
+        this.superPacGums = new long[words];
+        this.eatenLog = new int[cols * rows];
+    }
+
+    //컴파일된 레벨의 PacGum 비트셋으로 채운 그리드 (비트셋은 복사하므로 원본은 다른 게임과 계속 공유 가능)
+    public PelletGrid(int cols, int rows, long[] pacGums) {
+        this(cols, rows);
+        System.arraycopy(pacGums, 0, this.pacGums, 0, this.pacGums.length);
+        for (long word : this.pacGums) {
+            remainingPacGums += Long.bitCount(word);
+        }
+    }
+
+    public void addPacGum(int cx, int cy) {
+        int cell = cellIndex(cx, cy);
+        if (!get(pacGums, cell)) {
+            set(pacGums, cell);
+            remainingPacGums++;
+        }
+    }
+
+    public void addSuperPacGum(int cx, int cy, SuperPacGum spg) {
+        int cell = cellIndex(cx, cy);
+        if (get(superPacGums, cell)) return;
+        set(superPacGums, cell);
+        if (superTableSize == superTable.length) {
+            superCells = Arrays.copyOf(superCells, superTableSize * 2);
+            superTable = Arrays.copyOf(superTable, superTableSize * 2);
+        }
+        superCells[superTableSize] = cell;
+        superTable[superTableSize] = spg;
+        superTableSize++;
+        remainingSuperPacGums++;
+    }
+
+    public boolean hasPacGum(int cx, int cy) {
+        return inBounds(cx, cy) && get(pacGums, cellIndex(cx, cy));
+    }
+
+    public boolean hasSuperPacGum(int cx, int cy) {
+        return inBounds(cx, cy) && get(superPacGums, cellIndex(cx, cy));
+    }
+
+    /**
+     * 점 (px, py) 를 포함하는 PacGum 의 셀 인덱스 (없으면 -1)
+     * PacGum 은 셀 원점에서 (OFFSET, OFFSET) 만큼 떨어진 SIZE x SIZE 사각형
+     */
+    public int pacGumCellAt(int px, int py) {
+        int lx = px - PacGum.OFFSET;
+        int ly = py - PacGum.OFFSET;
+        int cx = Math.floorDiv(lx, CELL_SIZE);
+        int cy = Math.floorDiv(ly, CELL_SIZE);
+        if (lx - cx * CELL_SIZE >= PacGum.SIZE || ly - cy * CELL_SIZE >= PacGum.SIZE) return -1;
+        if (!inBounds(cx, cy)) return -1;
+        int cell = cellIndex(cx, cy);
+        return get(pacGums, cell) ? cell : -1;
+    }
+
+    //점 (px, py) 를 포함하는 PacGum (없으면 null) ; observer 에 넘겨줄 PacGum 객체는 이때만 생성
+    public PacGum pacGumAt(int px, int py) {
+        int cell = pacGumCellAt(px, py);
+        if (cell < 0) return null;
+        return new PacGum((cell % cols) * CELL_SIZE, (cell / cols) * CELL_SIZE);
+    }
+
+    /**
+     * 점 (px, py) 를 포함하는 SuperPacGum (없으면 null)
+     * SuperPacGum 은 16x16 이라 최대 2x2 개의 후보 셀만 확인
+     */
+    public SuperPacGum superPacGumAt(int px, int py) {
+        int cx1 = Math.floorDiv(px, CELL_SIZE);
+        int cy1 = Math.floorDiv(py, CELL_SIZE);
+        int span = SuperPacGum.SIZE / CELL_SIZE;
+        for (int cx = cx1 - span + 1; cx <= cx1; cx++) {
+            for (int cy = cy1 - span + 1; cy <= cy1; cy++) {
+                if (inBounds(cx, cy) && get(superPacGums, cellIndex(cx, cy))) {
+                    return findSuper(cellIndex(cx, cy));
+                }
+            }
+        }
+        return null;
+    }
+
+    //해당 셀의 PacGum 을 먹음 처리 (이미 없으면 false)
+    public boolean eatPacGum(int cell) {
+        if (cell < 0 || !get(pacGums, cell)) return false;
+        clear(pacGums, cell);
+        remainingPacGums--;
+        eatenLog[eatenCount++] = cell;
+        return true;
+    }
+
+    public boolean eatPacGum(PacGum pg) {
+        int cx = Math.floorDiv(pg.getHitbox().x - PacGum.OFFSET, CELL_SIZE);
+        int cy = Math.floorDiv(pg.getHitbox().y - PacGum.OFFSET, CELL_SIZE);
+        return inBounds(cx, cy) && eatPacGum(cellIndex(cx, cy));
+    }
+
+    public boolean eatSuperPacGum(SuperPacGum spg) {
+        for (int i = 0; i < superTableSize; i++) {
+            if (superTable[i] == spg) {
+                clear(superPacGums, superCells[i]);
+                superTable[i] = null;
+                remainingSuperPacGums--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public int getRemainingPacGums() {
+        return remainingPacGums;
+    }
+
+    public int getRemainingSuperPacGums() {
+        return remainingSuperPacGums;
+    }
+
+    public int getRemaining() {
+        return remainingPacGums + remainingSuperPacGums;
+    }
+
+    //남아있는 SuperPacGum 만 갱신 (깜빡임 애니메이션)
+    public void update() {
+        for (int i = 0; i < superTableSize; i++) {
+            if (superTable[i] != null) superTable[i].update();
+        }
+    }
+
+    //지금까지 먹힌 PacGum 수 (eatenLog 길이)
+    public int getEatenCount() {
+        return eatenCount;
+    }
+
+    //i 번째로 먹힌 PacGum 의 셀 인덱스
+    public int getEatenCell(int i) {
+        return eatenLog[i];
+    }
+
+    //남아있는 펠릿만 순회하며 렌더링
+    public void render(Graphics2D g) {
+        renderPacGums(g);
+        renderSuperPacGums(g);
+    }
+
+    //남아있는 일반 PacGum 만 렌더링
+    public void renderPacGums(Graphics2D g) {
+        renderPacGums(g, pacGums, cols);
+    }
+
+    //copyPacGums() 로 복사해 둔 비트셋의 PacGum 렌더링
+    public static void renderPacGums(Graphics2D g, long[] pacGums, int cols) {
+        g.setColor(PACGUM_COLOR);
+        for (int w = 0; w < pacGums.length; w++) {
+            long bits = pacGums[w];
+            while (bits != 0) {
+                int cell = (w << 6) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+                int cx = cell % cols;
+                int cy = cell / cols;
+                g.fillRect(cx * CELL_SIZE + PacGum.OFFSET, cy * CELL_SIZE + PacGum.OFFSET, PacGum.SIZE, PacGum.SIZE);
+            }
+        }
+    }
+
+    //남아있는 SuperPacGum 만 렌더링 (깜빡이므로 매 프레임 다시 그려야 함)
+    public void renderSuperPacGums(Graphics2D g) {
+        for (int i = 0; i < superTableSize; i++) {
+            if (superTable[i] != null) superTable[i].render(g);
+        }
+    }
+
+    //남아있는 PacGum 비트셋 복사본 (다른 스레드에서 레이어를 만들 때 사용)
+    public long[] copyPacGums() {
+        return pacGums.clone();
+    }
+
+    //SuperPacGum 사이드 테이블 크기 ; getSuperPacGum(i) 는 먹힌 자리면 null
+    public int getSuperPacGumSlots() {
+        return superTableSize;
+    }
+
+    public SuperPacGum getSuperPacGum(int slot) {
+        return superTable[slot];
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    private SuperPacGum findSuper(int cell) {
+        for (int i = 0; i < superTableSize; i++) {
+            if (superCells[i] == cell && superTable[i] != null) return superTable[i];
+        }
+        return null;
+    }
+
+    private boolean inBounds(int cx, int cy) {
+        return cx >= 0 && cx < cols && cy >= 0 && cy < rows;
+    }
+
+    private int cellIndex(int cx, int cy) {
+        return cy * cols + cx;
+    }
+
+    private static void set(long[] bits, int i) {
+        bits[i >>> 6] |= 1L << i;
+    }
+
+    private static void clear(long[] bits, int i) {
+        bits[i >>> 6] &= ~(1L << i);
+    }
+
+    private static boolean get(long[] bits, int i) {
+        return (bits[i >>> 6] & (1L << i)) != 0;
+    }
+}
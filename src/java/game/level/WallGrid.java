@@ -0,0 +1,106 @@
+package game.level;
+
+/**
+ * 맵의 벽 정보를 8px 셀 단위 비트마스크로 컴파일한 그리드
+ *
+ * 마스크 구성:
+ * - solid: 벽 + 고스트 하우스 문 (Pacman, 일반 상태의 고스트)
+ * - ghostSolid: 벽만 (HouseMode / EatenMode 고스트는 하우스 문 통과 가능)
+ *
+ * 한 행은 long 워드 단위로 저장되며, 충돌 검사는 히트박스가 걸치는 행마다
+ * 비트 범위 마스크 한 번으로 끝나므로 객체 할당이 없음
+ */
+public final class WallGrid {
+    public static final int CELL_SIZE = 8;
+
+    private final int cols;
+    private final int rows;
+    private final int wordsPerRow;
+    private final long[] solid;
+    private final long[] ghostSolid;
+
+    public WallGrid(int cols, int rows) {
+        this.cols = cols;
+        this.rows = rows;
+        this.wordsPerRow = (cols + 63) >>> 6;
+        this.solid = new long[wordsPerRow * rows];
+        this.ghostSolid = new long[wordsPerRow * rows];
+    }
+
+    //벽 셀 등록 (모든 엔티티에 대해 막힘)
+    public void setWall(int cx, int cy) {
+        set(solid, cx, cy);
+        set(ghostSolid, cx, cy);
+    }
+
+    //고스트 하우스 문 셀 등록 (하우스를 무시하는 고스트는 통과)
+    public void setGhostHouse(int cx, int cy) {
+        set(solid, cx, cy);
+    }
+
+    public boolean isWall(int cx, int cy) {
+        return inBounds(cx, cy) && get(ghostSolid, cx, cy);
+    }
+
+    public boolean isGhostHouse(int cx, int cy) {
+        return inBounds(cx, cy) && get(solid, cx, cy) && !get(ghostSolid, cx, cy);
+    }
+
+    public boolean isBlocked(int cx, int cy, boolean ignoreGhostHouses) {
+        return inBounds(cx, cy) && get(ignoreGhostHouses ? ghostSolid : solid, cx, cy);
+    }
+
+    /**
+     * (x, y, w, h) 사각형이 막힌 셀과 겹치는지 검사
+     * Rectangle.intersects 와 같은 의미 (경계가 맞닿는 경우는 충돌 아님)
+     * 맵 바깥 셀은 비어있는 것으로 취급 (터널 이동)
+     */
+    public boolean collides(int x, int y, int w, int h, boolean ignoreGhostHouses) {
+        if (w <= 0 || h <= 0) return false;
+
+        int cx0 = Math.max(Math.floorDiv(x, CELL_SIZE), 0);
+        int cx1 = Math.min(Math.floorDiv(x + w - 1, CELL_SIZE), cols - 1);
+        int cy0 = Math.max(Math.floorDiv(y, CELL_SIZE), 0);
+        int cy1 = Math.min(Math.floorDiv(y + h - 1, CELL_SIZE), rows - 1);
+        if (cx0 > cx1 || cy0 > cy1) return false;
+
+        long[] mask = ignoreGhostHouses ? ghostSolid : solid;
+        for (int cy = cy0; cy <= cy1; cy++) {
+            if (rowRangeAny(mask, cy * wordsPerRow, cx0, cx1)) return true;
+        }
+        return false;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    private boolean inBounds(int cx, int cy) {
+        return cx >= 0 && cx < cols && cy >= 0 && cy < rows;
+    }
+
+    private void set(long[] mask, int cx, int cy) {
+        mask[cy * wordsPerRow + (cx >>> 6)] |= 1L << cx;
+    }
+
+    private boolean get(long[] mask, int cx, int cy) {
+        return (mask[cy * wordsPerRow + (cx >>> 6)] & (1L << cx)) != 0;
+    }
+
+    //한 행에서 [from, to] 비트 중 하나라도 켜져 있는지 확인
+    private static boolean rowRangeAny(long[] mask, int rowBase, int from, int to) {
+        int w0 = from >>> 6;
+        int w1 = to >>> 6;
+        for (int w = w0; w <= w1; w++) {
+            long bits = mask[rowBase + w];
+            if (w == w0) bits &= -1L << from;
+            if (w == w1) bits &= -1L >>> (63 - (to & 63));
+            if (bits != 0) return true;
+        }
+        return false;
+    }
+}
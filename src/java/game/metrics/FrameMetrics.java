@@ -0,0 +1,106 @@
+package game.metrics;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 게임 루프 단계별 소요 시간 집계 (단계마다 미리 할당된 히스토그램 하나)
+ *
+ * - INPUT   : Game.input
+ * - UPDATE  : Game.update + FrameSnapshot 게시
+ * - RENDER  : 스냅샷으로 배경 + 엔티티 그리기
+ * - PRESENT : BufferStrategy show + sync (ImagePresenter 는 Swing 이 복사하므로 기록 없음)
+ * - FRAME   : 렌더링된 프레임 사이 간격
+ *
+ * 각 단계는 한 스레드에서만 기록함 (INPUT / UPDATE 는 게임 스레드, 나머지는 표시 방식에 따라 EDT 또는 RenderThread)
+ * -Dpacman.metrics=<파일> 이면 종료 시 요약을 파일로 저장
+ */
+public class FrameMetrics {
+    public enum Phase { INPUT, UPDATE, RENDER, PRESENT, FRAME }
+
+    private static final FrameMetrics INSTANCE = new FrameMetrics();
+
+    private final LatencyHistogram[] histograms = new LatencyHistogram[Phase.values().length];
+    private boolean dumpHookInstalled = false;
+
+    private FrameMetrics() {
+        for (Phase p : Phase.values()) {
+            histograms[p.ordinal()] = new LatencyHistogram();
+        }
+    }
+
+    public static FrameMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    public void record(Phase phase, long nanos) {
+        histograms[phase.ordinal()].record(nanos);
+    }
+
+    public LatencyHistogram get(Phase phase) {
+        return histograms[phase.ordinal()];
+    }
+
+    public void reset() {
+        for (LatencyHistogram h : histograms) {
+            h.reset();
+        }
+    }
+
+    //단계별 요약 (마이크로초) : count, mean, p50, p99, p999, max
+    public Map<Phase, long[]> summary() {
+        Map<Phase, long[]> out = new EnumMap<>(Phase.class);
+        for (Phase p : Phase.values()) {
+            LatencyHistogram h = get(p);
+            out.put(p, new long[] {
+                    h.getCount(),
+                    Math.round(h.getMean() / 1000),
+                    h.getPercentile(50) / 1000,
+                    h.getPercentile(99) / 1000,
+                    h.getPercentile(99.9) / 1000,
+                    h.getMax() / 1000
+            });
+        }
+        return out;
+    }
+
+    public void writeReport(Writer writer) {
+        PrintWriter out = new PrintWriter(writer);
+        out.printf("%-8s %10s %10s %10s %10s %10s %10s%n", "phase", "count", "mean(us)", "p50(us)", "p99(us)", "p999(us)", "max(us)");
+        for (Map.Entry<Phase, long[]> e : summary().entrySet()) {
+            long[] v = e.getValue();
+            out.printf("%-8s %10d %10d %10d %10d %10d %10d%n", e.getKey(), v[0], v[1], v[2], v[3], v[4], v[5]);
+        }
+        out.flush();
+    }
+
+    public String report() {
+        StringWriter sw = new StringWriter();
+        writeReport(sw);
+        return sw.toString();
+    }
+
+    public void dump(Path file) {
+        try (Writer w = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            writeReport(w);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    //-Dpacman.metrics 가 지정된 경우 JVM 종료 시 한 번 저장 (창 닫기로 끝나도 남도록)
+    public synchronized void dumpOnExit() {
+        String file = System.getProperty("pacman.metrics");
+        if (file == null || dumpHookInstalled) return;
+        dumpHookInstalled = true;
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> dump(Paths.get(file)), "MetricsDump"));
+    }
+}
@@ -0,0 +1,78 @@
+package game.metrics;
+
+import java.util.Arrays;
+
+/**
+ * 나노초 값을 기록하는 로그-선형 히스토그램
+ *
+ * - 0~63 은 1ns 단위, 그 위로는 2의 거듭제곱 구간마다 32개 버킷 (상대 오차 약 3% 이하)
+ * - 버킷 배열은 생성 시 한 번만 할당하므로 record() 에 할당이 없음
+ * - 기록은 한 스레드에서만 한다고 가정 (동기화 없음) ; 다른 스레드에서 읽으면 근사값
+ */
+public class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;          // 32
+    private static final int LINEAR_LIMIT = SUB_BUCKETS * 2;              // 64
+    private static final int BUCKET_COUNT = LINEAR_LIMIT + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    private final long[] counts = new long[BUCKET_COUNT];
+    private long totalCount = 0;
+    private long totalNanos = 0;
+    private long max = 0;
+
+    public void record(long nanos) {
+        if (nanos < 0) nanos = 0;
+        counts[bucketOf(nanos)]++;
+        totalCount++;
+        totalNanos += nanos;
+        if (nanos > max) max = nanos;
+    }
+
+    public void reset() {
+        Arrays.fill(counts, 0);
+        totalCount = 0;
+        totalNanos = 0;
+        max = 0;
+    }
+
+    public long getCount() {
+        return totalCount;
+    }
+
+    public long getMax() {
+        return max;
+    }
+
+    public double getMean() {
+        return totalCount == 0 ? 0 : (double) totalNanos / totalCount;
+    }
+
+    //백분위 값 (0 < percentile <= 100) ; 해당 버킷의 상한을 돌려주되 최대값은 넘지 않음
+    public long getPercentile(double percentile) {
+        if (totalCount == 0) return 0;
+        long rank = (long) Math.ceil(percentile / 100.0 * totalCount);
+        if (rank < 1) rank = 1;
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return Math.min(upperBoundOf(i), max);
+            }
+        }
+        return max;
+    }
+
+    static int bucketOf(long v) {
+        if (v < LINEAR_LIMIT) return (int) v;
+        int exp = (63 - Long.numberOfLeadingZeros(v)) - SUB_BUCKET_BITS;   // >= 1
+        int sub = (int) (v >>> exp);                                       // [32, 63]
+        return LINEAR_LIMIT + (exp - 1) * SUB_BUCKETS + (sub - SUB_BUCKETS);
+    }
+
+    static long upperBoundOf(int bucket) {
+        if (bucket < LINEAR_LIMIT) return bucket;
+        int exp = (bucket - LINEAR_LIMIT) / SUB_BUCKETS + 1;
+        long sub = (bucket - LINEAR_LIMIT) % SUB_BUCKETS + SUB_BUCKETS;
+        return ((sub + 1) << exp) - 1;
+    }
+}
@@ -2,15 +2,34 @@ package game.panel;
 
 import game.Game;
 import game.GameManager;
+import game.UIPanel;
+import game.engine.AssetPreloader;
+import game.engine.FrameScheduler;
+import game.metrics.FrameMetrics;
+import game.metrics.FrameMetrics.Phase;
+import game.render.BufferStrategyPresenter;
+import game.render.FramePresenter;
+import game.render.ImagePresenter;
+import game.render.LayeredRenderer;
+import game.render.SnapshotBuffer;
+import game.render.SnapshotWriter;
+import game.gameStates.GameOverState;
+import game.gameStates.PlayingState;
+import game.level.CompiledLevel;
+import game.replay.InputRecorder;
+import game.replay.InputRecording;
+import game.utils.GameRandom;
 import game.utils.KeyHandler;
 
-import javax.imageio.ImageIO;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.concurrent.CompletionException;
 
 //Panneau de la "zone de jeu"
 public class GameplayPanel extends JPanel implements Runnable {
@@ -19,35 +38,55 @@ public class GameplayPanel extends JPanel implements Runnable {
     private Thread thread;
     private boolean running = false;
 
-    private BufferedImage img;
-    private Graphics2D g;
-    private Image backgroundImage;
+    //-Dpacman.renderer=image : ancien affichage via repaint() (par défaut, BufferStrategy sur un Canvas si disponible)
+    private Canvas canvas;
+    private volatile FramePresenter presenter;
+    //Niveau compilé de la carte choisie : la couche statique (fond redimensionné) y est partagée d'une partie à l'autre
+    private CompiledLevel level;
+    //La simulation publie à chaque tick un FrameSnapshot ; l'affichage et le score ne lisent que ces snapshots (sans verrou)
+    private final SnapshotBuffer snapshots = new SnapshotBuffer();
+    private SnapshotWriter snapshotWriter;
+    //Niveau et score, dessinés à droite du plateau dans la même frame (null : pas de panneau)
+    private final UIPanel uiPanel;
 
     private KeyHandler key;
+    //-Dpacman.record=<fichier> : les entrées de chaque tick sont enregistrées pour pouvoir rejouer la partie (ReplayPlayer)
+    private InputRecorder recorder;
+    private long tick = 0;
+
+    //Temps passé dans chaque phase de la boucle (-Dpacman.metrics=<fichier> pour l'export à la fin)
+    private final FrameMetrics metrics = FrameMetrics.getInstance();
 
     private Game game;
 
     public GameplayPanel(int width, int height) throws IOException {
         this.width = width;
         this.height = height;
-        setPreferredSize(new Dimension(width, height));
+        this.uiPanel = PlayingState.getUIPanel();
+        int frameWidth = uiPanel != null ? width + UIPanel.width : width;
+        setPreferredSize(new Dimension(frameWidth, height));
         setFocusable(true);
         requestFocus();
         String mapName = GameManager.getInstance().getSelectedMapName();
-        Path imgPath = Paths.get("src/resources/img/" + mapName + "_bg.png");
-
-// 파일이 없으면 클래스패스 리소스 폴백
-        if (!imgPath.toFile().exists()) {
-            try {
-                imgPath = Paths.get(getClass().getClassLoader()
-                        .getResource("img/" + mapName + "_bg.png").toURI());
-            } catch (Exception e) {
-                throw new RuntimeException("배경 이미지를 찾을 수 없습니다: " + mapName, e);
-            }
+        //시작 메뉴에서 미리 읽어 둔 레벨과 스프라이트 (아직 읽는 중이면 그 작업이 끝나기를 기다림)
+        //정적 레이어도 레벨마다 한 번만 그려 두므로 같은 맵으로 다시 시작하면 그대로 재사용
+        try {
+            level = AssetPreloader.getInstance().levelReady(mapName).join();
+            level.getStaticLayer(width, height);
+            AssetPreloader.getInstance().spritesReady().join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+            throw e;
         }
 
-        backgroundImage = ImageIO.read(imgPath.toFile());
-
+        if (!GraphicsEnvironment.isHeadless() && !"image".equals(System.getProperty("pacman.renderer"))) {
+            //Le Canvas ne prend pas le focus : les touches restent gérées par ce panneau (KeyHandler)
+            setLayout(new BorderLayout());
+            canvas = new Canvas();
+            canvas.setPreferredSize(new Dimension(frameWidth, height));
+            canvas.setFocusable(false);
+            add(canvas, BorderLayout.CENTER);
+        }
     }
 
     @Override
@@ -63,126 +102,162 @@ public class GameplayPanel extends JPanel implements Runnable {
     //initialisation du jeu
     public void init() {
         running = true;
-        img = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
-        g = (Graphics2D) img.getGraphics();
-
         key = new KeyHandler(this);
 
-        game = new Game();
+        metrics.reset();
+        metrics.dumpOnExit();
+
+        game = new Game(level, GameRandom.randomSeed());
+        snapshotWriter = new SnapshotWriter(game);
+        snapshotWriter.publish(tick, snapshots);
+
+        //Fond + PacGums mis en cache ; seuls Pacman, les fantômes et les SuperPacGums sont redessinés à chaque frame
+        LayeredRenderer renderer = new LayeredRenderer(level, width, height);
+        renderer.setHud(uiPanel);
+        presenter = canvas != null
+                ? new BufferStrategyPresenter(canvas, snapshots, renderer)
+                : new ImagePresenter(this, snapshots, renderer);
+
+        if (System.getProperty("pacman.record") != null) {
+            InputRecording recording = new InputRecording(GameManager.getInstance().getSelectedMapName(),
+                    Game.getGameLevel(), Game.getRandom().getSeed());
+            recorder = new InputRecorder(key, recording);
+        }
     }
 
     //mise à jour du jeu
     public void update() {
         game.update();
+        if (game.isGameOver()) {
+            gameOver();
+        }
+    }
+
+    //Fin de partie : Game ne connaît pas l'interface, c'est la boucle de jeu qui gère la transition vers l'écran de fin
+    private void gameOver() {
+        running = false;
+        GameManager gameManager = GameManager.getInstance();
+        gameManager.setScore(game.getScore());
+        GameOverState gameOverState = new GameOverState();
+        gameOverState.saveRanking();
+        SwingUtilities.invokeLater(() -> {
+            gameManager.changeState(gameOverState);
+        });
     }
 
     //gestion des inputs
     public void input(KeyHandler key) {
-        game.input(key);
+        if (recorder != null) {
+            recorder.onTick(tick);
+            game.input(recorder);
+        } else {
+            game.input(key);
+        }
+        tick++;
     }
 
-    //"rendu du jeu" ; on prépare ce qui va être affiché en dessinant sur une "image" : un fond et les entités du jeu au dessus
-    public void render() {
-        if (g != null) {
-            g.drawImage(backgroundImage, 0, 0, width, height, null);
-            game.render(g);
-        }
+    //Publication de l'état du tick pour l'affichage ; le thread de jeu ne dessine rien lui-même
+    public void publishFrame() {
+        snapshotWriter.publish(tick, snapshots);
     }
 
-    //Affichage du jeu : on affiche l'image avec le rendu (optimisé pour Mac)
+    //Affichage du jeu : avec l'ancien affichage, le dernier snapshot est dessiné ici sur l'EDT
     @Override
     protected void paintComponent(Graphics g2) {
         super.paintComponent(g2);
-        if (img != null) {
-            g2.drawImage(img, 0, 0, width, height, null);
+        FramePresenter p = presenter;
+        if (p instanceof ImagePresenter) {
+            ((ImagePresenter) p).paint(g2);
         }
     }
 
+    //Signale au thread d'affichage qu'un nouveau snapshot est disponible (repaint() ou réveil du RenderThread)
     public void draw() {
-        repaint();
+        presenter.frameReady();
     }
 
     @Override
     public void run() {
         init();
 
-        //Pour faire en sorte que le jeu tourne à 60FPS (tutoriel consulté : https://www.youtube.com/watch?v=LhUN3EKZiio)
+        //Pas de simulation fixe à 60Hz ; l'attente se fait avec parkNanos + une courte attente active (FrameScheduler)
+        //-Dpacman.maxCatchUp=n : nombre maximal de ticks rattrapés d'un coup après un retard (1 = pas de rattrapage)
         final double GAME_HERTZ = 60.0;
-        final double TBU = 1000000000 / GAME_HERTZ; //Time before update
-
-        final int MUBR = 5; // Must update before render
-
-        double lastUpdateTime = System.nanoTime();
-        double lastRenderTime;
-
-        final double TARGET_FPS = 60.0;
-        final double TTBR = 1000000000 / TARGET_FPS; //Total time before render
+        FrameScheduler scheduler = new FrameScheduler(GAME_HERTZ, Integer.getInteger("pacman.maxCatchUp", 5));
 
-        int frameCount = 0;
-        int lastSecondTime = (int) (lastUpdateTime / 1000000000);
-        int oldFrameCount = 0;
+        long lastReportTicks = 0;
+        long lastMissed = 0;
+        long lastDropped = 0;
 
+        scheduler.start();
         while (running) {
-            double now = System.nanoTime();
-            int updateCount = 0;
-            while ((now - lastUpdateTime) > TBU && (updateCount < MUBR)) {
+            int ticks = scheduler.ticksDue();
+            for (int i = 0; i < ticks && running; i++) {
+                long t0 = System.nanoTime();
                 input(key);
+                long t1 = System.nanoTime();
                 update();
-                lastUpdateTime += TBU;
-                updateCount++;
+                publishFrame();
+                long t2 = System.nanoTime();
+                metrics.record(Phase.INPUT, t1 - t0);
+                metrics.record(Phase.UPDATE, t2 - t1);
             }
 
-            if (now - lastUpdateTime > TBU) {
-                lastUpdateTime = now - TBU;
+            //Le rendu se fait sur le thread d'affichage, à partir du dernier snapshot publié
+            if (ticks > 0) {
+                draw();
             }
 
-            render();
-            draw();
-            lastRenderTime = now;
-            frameCount++;
-
-            int thisSecond = (int) (lastUpdateTime / 1000000000);
-            if (thisSecond > lastSecondTime) {
-                if (frameCount != oldFrameCount) {
-                    //System.out.println("FPS : " + frameCount);
-                    oldFrameCount = frameCount;
+            //Une fois par seconde, on signale les échéances manquées
+            if (scheduler.getTicks() - lastReportTicks >= GAME_HERTZ) {
+                long missed = scheduler.getMissedDeadlines() - lastMissed;
+                long dropped = scheduler.getDroppedTicks() - lastDropped;
+                if (missed > 0 && Game.isVerbose()) {
+                    System.err.println("Frame deadlines missed : " + missed + " (ticks dropped : " + dropped + ")");
                 }
-                frameCount = 0;
-                lastSecondTime = thisSecond;
+                lastReportTicks = scheduler.getTicks();
+                lastMissed = scheduler.getMissedDeadlines();
+                lastDropped = scheduler.getDroppedTicks();
             }
 
-            while ((now - lastRenderTime < TTBR) && (now - lastUpdateTime < TBU)) {
-                Thread.yield();
-
-                try {
-                    Thread.sleep(1);
-                } catch (Exception e) {
-                    System.err.println("ERROR yielding thread");
-                }
-
-                now = System.nanoTime();
-            }
+            scheduler.awaitNextTick();
         }
         // resource cleanup
         cleanup();
     }
 
     private void cleanup() {
+        saveRecording();
+        String metricsFile = System.getProperty("pacman.metrics");
+        if (metricsFile != null) {
+            metrics.dump(Paths.get(metricsFile));
+        }
+
         if (game != null) {
             Game.setFirstInput(false);  // firstInput 리셋
         }
 
-        if (g != null) {
-            g.dispose();
-            g = null;
+        if (presenter != null) {
+            presenter.dispose();
+            presenter = null;
         }
         if (key != null) {
             removeKeyListener(key);
             key = null;
         }
         game = null;
-        img = null;
-        backgroundImage = null;
+        level = null;
+    }
+
+    private void saveRecording() {
+        if (recorder == null) return;
+        Path out = Paths.get(System.getProperty("pacman.record"));
+        try (OutputStream os = new BufferedOutputStream(Files.newOutputStream(out))) {
+            recorder.getRecording().write(os);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+        recorder = null;
     }
 
     //  game loop end
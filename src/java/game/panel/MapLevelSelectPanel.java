@@ -2,7 +2,9 @@ package game.panel;
 
 import game.Game;
 import game.GameManager;
+import game.engine.AssetPreloader;
 import game.gameStates.PlayingState;
+import game.utils.MapThumbnailCache;
 import game.utils.ResourceUtils;
 
 import javax.swing.*;
@@ -12,6 +14,11 @@ import java.awt.image.BufferedImage;
 import java.util.List;
 
 public class MapLevelSelectPanel extends JPanel {
+    private static final int THUMBNAIL_WIDTH = 400;
+    private static final int PREFETCH_RADIUS = 2;
+    // 미리보기는 작업 스레드에서 만들어 패널이 다시 만들어져도 재사용 (EDT 에서는 디코딩 / 축소하지 않음)
+    private static final MapThumbnailCache thumbnails = new MapThumbnailCache(THUMBNAIL_WIDTH);
+
     private final List<String> maps;
     private int currentIndex = 0;
 
@@ -125,18 +132,21 @@ public class MapLevelSelectPanel extends JPanel {
     private void loadCurrentMap() {
         String name = maps.get(currentIndex);
         nameLabel.setText("Map: " + name);
-        BufferedImage img = resourceUtils.loadMapImage(name);
-        if (img != null) {
-            int maxW = 400;
-            double ratio = (double) img.getHeight() / img.getWidth();
-            int maxH = (int) (maxW * ratio);
-            Image scaled = img.getScaledInstance(maxW, maxH, Image.SCALE_SMOOTH);
-            imageLabel.setIcon(new ImageIcon(scaled));
-        } else {
-            imageLabel.setIcon(null);
+        BufferedImage img = thumbnails.getIfReady(name);
+        imageLabel.setIcon(img != null ? new ImageIcon(img) : null);
+        if (img == null) {
+            thumbnails.request(name).thenAccept(thumbnail -> SwingUtilities.invokeLater(() -> {
+                // 그 사이 다른 맵으로 넘겼으면 무시
+                if (name.equals(maps.get(currentIndex))) {
+                    imageLabel.setIcon(thumbnail != null ? new ImageIcon(thumbnail) : null);
+                }
+            }));
         }
+        thumbnails.prefetch(maps, currentIndex, PREFETCH_RADIUS);
 
         GameManager.getInstance().setSelectedMapName(name);
+        // 레벨 버튼을 누르기 전에 선택된 맵을 미리 컴파일
+        AssetPreloader.getInstance().preloadLevel(name);
     }
 
     private void onLevelSelected(int level, JButton source) {
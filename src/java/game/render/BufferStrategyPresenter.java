@@ -0,0 +1,102 @@
+package game.render;
+
+import game.metrics.FrameMetrics;
+import game.metrics.FrameMetrics.Phase;
+
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 능동 렌더링 : 전용 렌더 스레드가 Canvas 의 BufferStrategy (가능하면 VolatileImage 백 버퍼 / 페이지 플리핑) 에 직접 그림
+ *
+ * - repaint() / paintComponent 를 거치지 않으므로 프레임마다 전체 이미지를 한 번 더 복사하지 않음
+ * - show() 뒤에 Toolkit.sync() 로 윈도 시스템에 쌓인 그리기 명령을 바로 내보냄
+ * - 백 버퍼 내용이 사라지면 (contentsLost) 그 프레임은 버리고 다음 프레임에 다시 그림 ;
+ *   매 프레임 화면 전체를 다시 그리므로 복구할 내용이 없음
+ * - 렌더 스레드는 새 스냅샷이 게시될 때까지 park 하고, 게임 스레드의 publish() 가 깨움
+ *
+ * Canvas 가 화면에 붙고 크기가 정해진 뒤에야 BufferStrategy 를 만들 수 있어서 렌더 스레드에서 처음 그릴 때 만듦
+ */
+public class BufferStrategyPresenter implements FramePresenter, Runnable {
+    private static final int BUFFERS = 2;
+    //새 스냅샷이 없을 때 종료 여부를 다시 확인하는 간격
+    private static final long IDLE_WAIT_NANOS = 50_000_000L;
+
+    private final Canvas canvas;
+    private final SnapshotBuffer buffer;
+    private final LayeredRenderer renderer;
+    private final FrameMetrics metrics = FrameMetrics.getInstance();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private BufferStrategy strategy;
+
+    public BufferStrategyPresenter(Canvas canvas, SnapshotBuffer buffer, LayeredRenderer renderer) {
+        this.canvas = canvas;
+        this.buffer = buffer;
+        this.renderer = renderer;
+        canvas.setIgnoreRepaint(true);
+
+        thread = new Thread(this, "RenderThread");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void frameReady() {
+        //SnapshotBuffer.publish() 가 이미 렌더 스레드를 깨움
+    }
+
+    @Override
+    public void run() {
+        long lastFrameTime = 0;
+        while (running) {
+            FrameSnapshot snapshot = buffer.awaitNew(IDLE_WAIT_NANOS);
+            if (snapshot == null || !ensureStrategy()) continue;
+
+            long t0 = System.nanoTime();
+            Graphics2D g = (Graphics2D) strategy.getDrawGraphics();
+            renderer.render(g, snapshot);
+            g.dispose();
+            long t1 = System.nanoTime();
+            //그리는 도중 백 버퍼가 복구되었거나 사라졌으면 불완전한 프레임이므로 보여주지 않음
+            if (!strategy.contentsRestored() && !strategy.contentsLost()) {
+                strategy.show();
+                Toolkit.getDefaultToolkit().sync();
+            }
+            long t2 = System.nanoTime();
+
+            metrics.record(Phase.RENDER, t1 - t0);
+            metrics.record(Phase.PRESENT, t2 - t1);
+            if (lastFrameTime != 0) metrics.record(Phase.FRAME, t0 - lastFrameTime);
+            lastFrameTime = t0;
+        }
+
+        if (strategy != null) {
+            strategy.dispose();
+            strategy = null;
+        }
+        renderer.dispose();
+    }
+
+    private boolean ensureStrategy() {
+        if (strategy == null) {
+            if (!canvas.isDisplayable() || canvas.getWidth() <= 0 || canvas.getHeight() <= 0) return false;
+            canvas.createBufferStrategy(BUFFERS);
+            strategy = canvas.getBufferStrategy();
+        }
+        return true;
+    }
+
+    //렌더 스레드를 멈추고 끝날 때까지 잠시 기다림 (정리는 렌더 스레드가 직접 함)
+    @Override
+    public void dispose() {
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
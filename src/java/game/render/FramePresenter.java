@@ -0,0 +1,18 @@
+package game.render;
+
+/**
+ * 게시된 FrameSnapshot 을 화면에 그리는 방식
+ *
+ * - ImagePresenter : repaint() -> EDT 의 paintComponent 에서 최신 스냅샷을 Swing 버퍼에 바로 그림
+ * - BufferStrategyPresenter : 전용 렌더 스레드가 Canvas 의 BufferStrategy 백 버퍼에 그리고 show()
+ *
+ * 어느 쪽이든 SnapshotBuffer 만 읽으므로 게임 스레드와 서로 기다리지 않음
+ * HUD 도 같은 스냅샷으로 같은 프레임 안에 그림 (LayeredRenderer.setHud)
+ */
+public interface FramePresenter {
+
+    //게임 스레드에서 새 스냅샷을 게시한 뒤 호출 ; 표시 쪽에 알리기만 하고 바로 반환
+    void frameReady();
+
+    void dispose();
+}
@@ -0,0 +1,154 @@
+package game.render;
+
+import game.level.PelletGrid;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+
+/**
+ * 한 틱의 화면 상태 (렌더러와 HUD 가 읽는 유일한 게임 상태)
+ *
+ * - 점수, 레벨, 틱 번호
+ * - 먹힌 PacGum 수 (소비 레이어에서 지울 셀은 PelletGrid 의 eatenLog 에서 이 개수까지만 읽음)
+ * - SuperPacGum (보이는 것만) : 위치, 크기, 색
+ * - 스프라이트 (Pacman, 고스트) : 위치와 그릴 프레임 이미지
+ *
+ * 게임 스레드가 SnapshotBuffer 의 쓰기 버퍼를 채운 뒤 게시하면, 그 이후로는 읽는 쪽만 접근하므로
+ * 읽는 쪽에서 보기에는 불변 객체임 (프레임 이미지도 SpriteCache 의 공유 불변 이미지)
+ * 배열은 처음 몇 틱 동안만 늘어나고 이후에는 재사용되어 할당이 없음
+ */
+public final class FrameSnapshot {
+    private long tick;
+    private int score;
+    private int level;
+
+    private PelletGrid pellets;
+    private long[] initialPacGums;
+    private int eatenCount;
+
+    private int ovalCount;
+    private int[] ovalX = new int[4];
+    private int[] ovalY = new int[4];
+    private int[] ovalSize = new int[4];
+    private Color[] ovalColor = new Color[4];
+
+    private int spriteCount;
+    private int[] spriteX = new int[8];
+    private int[] spriteY = new int[8];
+    private BufferedImage[] spriteImage = new BufferedImage[8];
+
+    //쓰기 전에 이전 내용을 비움 (게임 스레드)
+    void clear() {
+        ovalCount = 0;
+        spriteCount = 0;
+        Arrays.fill(spriteImage, null);
+    }
+
+    void setFrame(long tick, int score, int level) {
+        this.tick = tick;
+        this.score = score;
+        this.level = level;
+    }
+
+    void setPellets(PelletGrid pellets, long[] initialPacGums, int eatenCount) {
+        this.pellets = pellets;
+        this.initialPacGums = initialPacGums;
+        this.eatenCount = eatenCount;
+    }
+
+    void addOval(Color color, int x, int y, int size) {
+        if (ovalCount == ovalX.length) {
+            int n = ovalCount * 2;
+            ovalX = Arrays.copyOf(ovalX, n);
+            ovalY = Arrays.copyOf(ovalY, n);
+            ovalSize = Arrays.copyOf(ovalSize, n);
+            ovalColor = Arrays.copyOf(ovalColor, n);
+        }
+        ovalX[ovalCount] = x;
+        ovalY[ovalCount] = y;
+        ovalSize[ovalCount] = size;
+        ovalColor[ovalCount] = color;
+        ovalCount++;
+    }
+
+    void addSprite(BufferedImage image, int x, int y) {
+        if (image == null) return;
+        if (spriteCount == spriteX.length) {
+            int n = spriteCount * 2;
+            spriteX = Arrays.copyOf(spriteX, n);
+            spriteY = Arrays.copyOf(spriteY, n);
+            spriteImage = Arrays.copyOf(spriteImage, n);
+        }
+        spriteX[spriteCount] = x;
+        spriteY[spriteCount] = y;
+        spriteImage[spriteCount] = image;
+        spriteCount++;
+    }
+
+    public long getTick() {
+        return tick;
+    }
+
+    public int getScore() {
+        return score;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    //게임 시작 시점의 PacGum 비트셋 ; 게임마다 다른 배열이라 렌더러가 새 게임을 알아보는 데도 사용
+    public long[] getInitialPacGums() {
+        return initialPacGums;
+    }
+
+    public int getCols() {
+        return pellets.getCols();
+    }
+
+    public int getEatenCount() {
+        return eatenCount;
+    }
+
+    //i 번째로 먹힌 PacGum 셀 (i < getEatenCount())
+    public int getEatenCell(int i) {
+        return pellets.getEatenCell(i);
+    }
+
+    public int getOvalCount() {
+        return ovalCount;
+    }
+
+    public int getOvalX(int i) {
+        return ovalX[i];
+    }
+
+    public int getOvalY(int i) {
+        return ovalY[i];
+    }
+
+    public int getOvalSize(int i) {
+        return ovalSize[i];
+    }
+
+    public Color getOvalColor(int i) {
+        return ovalColor[i];
+    }
+
+    public int getSpriteCount() {
+        return spriteCount;
+    }
+
+    public int getSpriteX(int i) {
+        return spriteX[i];
+    }
+
+    public int getSpriteY(int i) {
+        return spriteY[i];
+    }
+
+    public BufferedImage getSpriteImage(int i) {
+        return spriteImage[i];
+    }
+}
@@ -0,0 +1,13 @@
+package game.render;
+
+import java.awt.*;
+
+/**
+ * 게임 프레임 안에 함께 그리는 HUD (점수, 레벨)
+ * LayeredRenderer 가 맵 오른쪽 (x = 맵 너비) 에 맞춰 Graphics 를 옮긴 뒤 호출
+ */
+public interface HudLayer {
+
+    //(0, 0) 이 HUD 영역의 왼쪽 위 ; 렌더 스레드에서만 호출
+    void render(Graphics2D g, FrameSnapshot snapshot);
+}
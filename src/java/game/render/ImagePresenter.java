@@ -0,0 +1,52 @@
+package game.render;
+
+import game.metrics.FrameMetrics;
+import game.metrics.FrameMetrics.Phase;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * 기존 방식 : repaint() 로 EDT 에 그리기를 맡김
+ * paintComponent 에서 최신 스냅샷을 Swing 의 더블 버퍼에 바로 그리므로 중간 이미지 복사가 없음
+ * BufferStrategy 를 쓸 수 없는 환경용 (-Dpacman.renderer=image 로 강제 가능)
+ */
+public class ImagePresenter implements FramePresenter {
+    private final JComponent target;
+    private final SnapshotBuffer buffer;
+    private final LayeredRenderer renderer;
+    private final FrameMetrics metrics = FrameMetrics.getInstance();
+    private long lastFrameTime = 0;
+    private volatile boolean disposed = false;
+
+    public ImagePresenter(JComponent target, SnapshotBuffer buffer, LayeredRenderer renderer) {
+        this.target = target;
+        this.buffer = buffer;
+        this.renderer = renderer;
+    }
+
+    @Override
+    public void frameReady() {
+        target.repaint();
+    }
+
+    //target 의 paintComponent 에서 호출 (EDT)
+    public void paint(Graphics g2) {
+        if (disposed) return;
+        FrameSnapshot snapshot = buffer.acquire();
+        if (snapshot == null) return;
+
+        long t0 = System.nanoTime();
+        renderer.render((Graphics2D) g2, snapshot);
+        metrics.record(Phase.RENDER, System.nanoTime() - t0);
+        if (lastFrameTime != 0) metrics.record(Phase.FRAME, t0 - lastFrameTime);
+        lastFrameTime = t0;
+    }
+
+    //레이어 이미지는 EDT 에서만 쓰이므로 해제도 EDT 에서
+    @Override
+    public void dispose() {
+        disposed = true;
+        SwingUtilities.invokeLater(renderer::dispose);
+    }
+}
@@ -0,0 +1,141 @@
+package game.render;
+
+import game.entities.PacGum;
+import game.level.CompiledLevel;
+import game.level.PelletGrid;
+import game.level.WallGrid;
+import game.utils.CompatibleImages;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 레이어를 나눠 캐시하는 게임 화면 렌더러
+ *
+ * - 정적 레이어: 배경 이미지 (벽 포함) ; 맵마다 한 번만 그림
+ *   (CompiledLevel 로 만들면 레벨이 가진 정적 레이어를 같은 맵의 다른 게임과 공유 ; 읽기만 함)
+ * - 소비 레이어: 정적 레이어 + 일반 PacGum ; 먹힌 PacGum 자리만 정적 레이어 픽셀로 덮어써서 지움
+ * - 동적 레이어: SuperPacGum (깜빡임), Pacman, 고스트 ; 매 프레임 그림
+ * - HUD (있으면) : 맵 오른쪽에 그림 ; 내용이 바뀔 때만 다시 그리는 것은 HudLayer 구현이 맡음
+ *
+ * 매 프레임 비용은 소비 레이어 한 번 복사 + 움직이는 스프라이트 수에 비례하고,
+ * 맵에 남은 PacGum 수와는 무관함
+ *
+ * 게임 객체가 아니라 FrameSnapshot 만 읽으므로 게임 스레드가 아닌 스레드에서 그려도 됨
+ * (한 렌더러는 한 스레드에서만 사용)
+ * 새 게임의 스냅샷이 오면 (초기 PacGum 비트셋이 바뀌면) 레이어를 다시 만듦
+ */
+public class LayeredRenderer {
+    private static final int CELL_SIZE = WallGrid.CELL_SIZE;
+
+    private final Image background;
+    private final CompiledLevel level;
+    private final int width;
+    private final int height;
+
+    private HudLayer hud;
+
+    private BufferedImage staticLayer;
+    private BufferedImage pelletLayer;
+    private Graphics2D pelletGraphics;
+
+    //레이어를 만든 게임의 초기 PacGum 비트셋과 이미 지운 eatenLog 위치
+    private long[] builtFor;
+    private int erasedCount;
+
+    public LayeredRenderer(Image background, int width, int height) {
+        this.background = background;
+        this.level = null;
+        this.width = width;
+        this.height = height;
+    }
+
+    public LayeredRenderer(CompiledLevel level, int width, int height) {
+        this.background = null;
+        this.level = level;
+        this.width = width;
+        this.height = height;
+    }
+
+    public void setHud(HudLayer hud) {
+        this.hud = hud;
+    }
+
+    public void render(Graphics2D g, FrameSnapshot snapshot) {
+        if (snapshot.getInitialPacGums() != builtFor) {
+            build(snapshot);
+        }
+        eraseEatenPacGums(snapshot);
+
+        g.drawImage(pelletLayer, 0, 0, null);
+        for (int i = 0; i < snapshot.getOvalCount(); i++) {
+            g.setColor(snapshot.getOvalColor(i));
+            int size = snapshot.getOvalSize(i);
+            g.fillOval(snapshot.getOvalX(i), snapshot.getOvalY(i), size, size);
+        }
+        for (int i = 0; i < snapshot.getSpriteCount(); i++) {
+            g.drawImage(snapshot.getSpriteImage(i), snapshot.getSpriteX(i), snapshot.getSpriteY(i), null);
+        }
+        if (hud != null) {
+            g.translate(width, 0);
+            hud.render(g, snapshot);
+            g.translate(-width, 0);
+        }
+    }
+
+    //정적 레이어와 소비 레이어를 처음부터 다시 만듦 (먹힌 PacGum 은 그 다음 eraseEatenPacGums 에서 지움)
+    private void build(FrameSnapshot snapshot) {
+        if (staticLayer == null) {
+            if (level != null) {
+                staticLayer = level.getStaticLayer(width, height);
+            } else {
+                staticLayer = CompatibleImages.create(width, height, Transparency.TRANSLUCENT);
+                Graphics2D sg = staticLayer.createGraphics();
+                if (background != null) sg.drawImage(background, 0, 0, width, height, null);
+                sg.dispose();
+            }
+
+            pelletLayer = CompatibleImages.create(width, height, Transparency.TRANSLUCENT);
+            pelletGraphics = pelletLayer.createGraphics();
+        }
+
+        //배경에 투명한 부분이 있을 수 있어서 합성 없이 그대로 복사
+        pelletGraphics.setComposite(AlphaComposite.Src);
+        pelletGraphics.drawImage(staticLayer, 0, 0, null);
+        pelletGraphics.setComposite(AlphaComposite.SrcOver);
+        PelletGrid.renderPacGums(pelletGraphics, snapshot.getInitialPacGums(), snapshot.getCols());
+
+        builtFor = snapshot.getInitialPacGums();
+        erasedCount = 0;
+    }
+
+    //지난 프레임 이후 먹힌 PacGum 자리를 정적 레이어 픽셀로 되돌림
+    private void eraseEatenPacGums(FrameSnapshot snapshot) {
+        int eaten = snapshot.getEatenCount();
+        if (erasedCount >= eaten) return;
+
+        int cols = snapshot.getCols();
+        pelletGraphics.setComposite(AlphaComposite.Src);
+        for (int i = erasedCount; i < eaten; i++) {
+            int cell = snapshot.getEatenCell(i);
+            int x = (cell % cols) * CELL_SIZE + PacGum.OFFSET;
+            int y = (cell / cols) * CELL_SIZE + PacGum.OFFSET;
+            pelletGraphics.drawImage(staticLayer,
+                    x, y, x + PacGum.SIZE, y + PacGum.SIZE,
+                    x, y, x + PacGum.SIZE, y + PacGum.SIZE, null);
+        }
+        pelletGraphics.setComposite(AlphaComposite.SrcOver);
+        erasedCount = eaten;
+    }
+
+    //정적 레이어는 공유될 수 있으므로 참조만 놓음
+    public void dispose() {
+        if (pelletGraphics != null) {
+            pelletGraphics.dispose();
+            pelletGraphics = null;
+        }
+        staticLayer = null;
+        pelletLayer = null;
+        builtFor = null;
+    }
+}
@@ -0,0 +1,66 @@
+package game.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 게임 스레드 -> 표시 스레드 사이의 락 없는 삼중 버퍼
+ *
+ * - 쓰는 쪽(게임 스레드) : getWriteBuffer() 를 채우고 publish()
+ * - 읽는 쪽(EDT 또는 렌더 스레드 하나) : acquire() 로 가장 최근에 게시된 스냅샷을 받음
+ *
+ * 버퍼 3개 중 하나는 쓰는 쪽, 하나는 읽는 쪽이 잡고 있고, 나머지 하나(middle)를 원자적으로 교환함
+ * 양쪽 모두 상대를 기다리지 않으며, 읽는 쪽이 느리면 중간 스냅샷은 건너뜀 (항상 최신 것만 봄)
+ * middle 의 DIRTY 비트는 읽는 쪽이 아직 가져가지 않은 새 스냅샷이 있다는 뜻
+ */
+public final class SnapshotBuffer {
+    private static final int INDEX_MASK = 3;
+    private static final int DIRTY = 4;
+
+    private final FrameSnapshot[] buffers = {new FrameSnapshot(), new FrameSnapshot(), new FrameSnapshot()};
+    private final AtomicInteger middle = new AtomicInteger(1);
+    private volatile Thread waiter;
+
+    //쓰는 쪽 전용
+    private int back = 0;
+
+    //읽는 쪽 전용
+    private int front = 2;
+    private boolean hasFront = false;
+
+    public FrameSnapshot getWriteBuffer() {
+        FrameSnapshot s = buffers[back];
+        s.clear();
+        return s;
+    }
+
+    //getWriteBuffer() 로 채운 스냅샷을 게시 ; 기다리는 읽는 쪽이 있으면 깨움
+    public void publish() {
+        back = middle.getAndSet(back | DIRTY) & INDEX_MASK;
+        Thread w = waiter;
+        if (w != null) LockSupport.unpark(w);
+    }
+
+    public boolean hasNew() {
+        return (middle.get() & DIRTY) != 0;
+    }
+
+    //가장 최근에 게시된 스냅샷 (새 것이 없으면 지난번 것, 아직 하나도 없으면 null)
+    public FrameSnapshot acquire() {
+        if (hasNew()) {
+            front = middle.getAndSet(front) & INDEX_MASK;
+            hasFront = true;
+        }
+        return hasFront ? buffers[front] : null;
+    }
+
+    //새 스냅샷이 게시될 때까지 최대 timeoutNanos 동안 대기 (없으면 null)
+    public FrameSnapshot awaitNew(long timeoutNanos) {
+        if (!hasNew()) {
+            waiter = Thread.currentThread();
+            if (!hasNew()) LockSupport.parkNanos(this, timeoutNanos);
+            waiter = null;
+        }
+        return hasNew() ? acquire() : null;
+    }
+}
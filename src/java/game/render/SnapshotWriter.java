@@ -0,0 +1,58 @@
+package game.render;
+
+import game.Game;
+import game.entities.EntityRegistry;
+import game.entities.Pacman;
+import game.entities.ghosts.Ghost;
+import game.entities.superPacGums.SuperPacGum;
+import game.level.PelletGrid;
+
+import java.util.List;
+
+/**
+ * 게임 상태를 FrameSnapshot 으로 옮겨 적음 (게임 스레드)
+ * 렌더링 순서는 EntityRegistry.render 와 같음 : SuperPacGum -> Pacman -> 고스트
+ * (정적 엔티티 리스트는 현재 아무것도 등록하지 않으므로 옮기지 않음)
+ *
+ * 게임마다 하나 ; 생성 시점의 PacGum 비트셋을 복사해 두고 모든 스냅샷이 공유
+ */
+public class SnapshotWriter {
+    private final Game game;
+    private final long[] initialPacGums;
+
+    public SnapshotWriter(Game game) {
+        this.game = game;
+        this.initialPacGums = game.getPelletGrid().copyPacGums();
+    }
+
+    public void capture(long tick, FrameSnapshot out) {
+        EntityRegistry registry = game.getRegistry();
+        PelletGrid pellets = registry.getPellets();
+
+        out.setFrame(tick, game.getScore(), Game.getGameLevel());
+        out.setPellets(pellets, initialPacGums, pellets.getEatenCount());
+
+        for (int i = 0; i < pellets.getSuperPacGumSlots(); i++) {
+            SuperPacGum spg = pellets.getSuperPacGum(i);
+            if (spg != null && spg.isVisible()) {
+                out.addOval(spg.getColor(), spg.getxPos(), spg.getyPos(), spg.getSize());
+            }
+        }
+
+        Pacman player = registry.getPlayer();
+        if (player != null && !player.isDestroyed()) {
+            out.addSprite(player.getCurrentFrame(), player.getxPos(), player.getyPos());
+        }
+        List<Ghost> ghosts = registry.getGhosts();
+        for (int i = 0; i < ghosts.size(); i++) {
+            Ghost gh = ghosts.get(i);
+            if (!gh.isDestroyed()) out.addSprite(gh.getCurrentFrame(), gh.getxPos(), gh.getyPos());
+        }
+    }
+
+    //쓰기 버퍼를 채워 바로 게시
+    public void publish(long tick, SnapshotBuffer buffer) {
+        capture(tick, buffer.getWriteBuffer());
+        buffer.publish();
+    }
+}
@@ -0,0 +1,38 @@
+package game.replay;
+
+import game.utils.InputSource;
+import game.utils.ProgrammaticInput;
+
+/**
+ * 실제 입력(KeyHandler)을 감싸서 틱마다 상태를 기록하는 입력 소스
+ *
+ * onTick() 이 호출될 때 방향키 상태를 한 번 읽어 고정하고, 그 틱 동안 Game 은 고정된 상태만 보게 됨
+ * (틱 도중에 키 이벤트가 들어와도 기록과 실제 입력이 어긋나지 않도록)
+ */
+public class InputRecorder extends ProgrammaticInput {
+    private final InputSource source;
+    private final InputRecording recording;
+
+    public InputRecorder(InputSource source, InputRecording recording) {
+        this.source = source;
+        this.recording = recording;
+    }
+
+    @Override
+    public void onTick(long tick) {
+        if (source instanceof ProgrammaticInput) {
+            ((ProgrammaticInput) source).onTick(tick); //봇 입력도 기록할 수 있도록
+        }
+        int state = 0;
+        if (source.isLeftPressed()) state |= LEFT;
+        if (source.isRightPressed()) state |= RIGHT;
+        if (source.isUpPressed()) state |= UP;
+        if (source.isDownPressed()) state |= DOWN;
+        setState(state);
+        recording.append(state);
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+}
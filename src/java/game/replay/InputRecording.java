@@ -0,0 +1,152 @@
+package game.replay;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * 한 판 동안의 틱별 입력 기록
+ *
+ * 입력 상태는 방향키 4개를 담은 4비트 마스크 (ProgrammaticInput.LEFT / RIGHT / UP / DOWN)
+ * 같은 상태가 연속되는 구간은 (상태, 길이) 하나로 run-length 인코딩해서 보관
+ * 재현에 필요한 맵 이름, 레벨, 세션 seed 를 헤더로 함께 저장
+ *
+ * 파일 형식 (big-endian)
+ *   int    MAGIC ("PMRP")
+ *   byte   VERSION
+ *   UTF    mapName
+ *   byte   level
+ *   long   seed
+ *   int    runCount
+ *   runCount 번 반복: byte state, varint length
+ */
+public class InputRecording {
+    private static final int MAGIC = 0x504D5250; // "PMRP"
+    private static final int VERSION = 1;
+
+    private final String mapName;
+    private final int level;
+    private final long seed;
+
+    private byte[] runStates = new byte[64];
+    private int[] runLengths = new int[64];
+    private int runCount = 0;
+    private long tickCount = 0;
+
+    public InputRecording(String mapName, int level, long seed) {
+        this.mapName = mapName;
+        this.level = level;
+        this.seed = seed;
+    }
+
+    //한 틱의 입력 상태 추가 ; 직전 상태와 같으면 마지막 구간 길이만 늘림
+    public void append(int state) {
+        appendRun(state, 1);
+    }
+
+    private void appendRun(int state, int length) {
+        state &= 0xF;
+        if (runCount > 0 && runStates[runCount - 1] == state && runLengths[runCount - 1] <= Integer.MAX_VALUE - length) {
+            runLengths[runCount - 1] += length;
+        } else {
+            if (runCount == runStates.length) {
+                runStates = Arrays.copyOf(runStates, runCount * 2);
+                runLengths = Arrays.copyOf(runLengths, runCount * 2);
+            }
+            runStates[runCount] = (byte) state;
+            runLengths[runCount] = length;
+            runCount++;
+        }
+        tickCount += length;
+    }
+
+    public String getMapName() {
+        return mapName;
+    }
+
+    public int getLevel() {
+        return level;
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public long getTickCount() {
+        return tickCount;
+    }
+
+    public int getRunCount() {
+        return runCount;
+    }
+
+    public int getRunState(int run) {
+        return runStates[run];
+    }
+
+    public int getRunLength(int run) {
+        return runLengths[run];
+    }
+
+    public void write(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(MAGIC);
+        data.writeByte(VERSION);
+        data.writeUTF(mapName);
+        data.writeByte(level);
+        data.writeLong(seed);
+        data.writeInt(runCount);
+        for (int i = 0; i < runCount; i++) {
+            data.writeByte(runStates[i]);
+            writeVarInt(data, runLengths[i]);
+        }
+        data.flush();
+    }
+
+    public static InputRecording read(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        if (data.readInt() != MAGIC) {
+            throw new IOException("리플레이 파일이 아닙니다");
+        }
+        int version = data.readUnsignedByte();
+        if (version != VERSION) {
+            throw new IOException("지원하지 않는 리플레이 버전: " + version);
+        }
+        String mapName = data.readUTF();
+        int level = data.readUnsignedByte();
+        long seed = data.readLong();
+        InputRecording recording = new InputRecording(mapName, level, seed);
+
+        int runs = data.readInt();
+        for (int i = 0; i < runs; i++) {
+            int state = data.readUnsignedByte();
+            int length = readVarInt(data);
+            if (length <= 0) {
+                throw new IOException("잘못된 구간 길이: " + length);
+            }
+            recording.appendRun(state, length);
+        }
+        return recording;
+    }
+
+    private static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    private static int readVarInt(DataInputStream in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("잘못된 varint");
+    }
+}
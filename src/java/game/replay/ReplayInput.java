@@ -0,0 +1,29 @@
+package game.replay;
+
+import game.utils.ProgrammaticInput;
+
+//Entrée rejouée : à chaque tick, on reprend l'état enregistré (RLE) correspondant
+public class ReplayInput extends ProgrammaticInput {
+    private final InputRecording recording;
+    private int run = 0;
+    private int remainingInRun;
+
+    public ReplayInput(InputRecording recording) {
+        this.recording = recording;
+        this.remainingInRun = recording.getRunCount() > 0 ? recording.getRunLength(0) : 0;
+    }
+
+    @Override
+    public void onTick(long tick) {
+        while (remainingInRun == 0 && run + 1 < recording.getRunCount()) {
+            run++;
+            remainingInRun = recording.getRunLength(run);
+        }
+        if (remainingInRun == 0) {
+            release(); //기록이 끝나면 입력 없음
+            return;
+        }
+        setState(recording.getRunState(run));
+        remainingInRun--;
+    }
+}
@@ -0,0 +1,77 @@
+package game.replay;
+
+import game.Game;
+import game.engine.HeadlessGame;
+import game.engine.SimulationResult;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * 기록된 입력을 Game.input / Game.update 에 다시 넣어 같은 게임을 재현
+ *
+ * 기록의 맵 / 레벨 / seed 로 Game 을 새로 만들고, 틱마다 기록된 입력 상태를 그대로 주입
+ * realTime 이 아니면 헤드리스로 제한 없이 빠르게 돌리므로 Game.update 프로파일링용 고정 부하로 쓸 수 있음
+ *
+ * 사용 예) java -Djava.awt.headless=true game.replay.ReplayPlayer run.pmrp [--realtime] [--repeat 100]
+ */
+public class ReplayPlayer {
+    private final InputRecording recording;
+
+    public ReplayPlayer(InputRecording recording) {
+        this.recording = recording;
+    }
+
+    public static ReplayPlayer load(Path file) throws IOException {
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            return new ReplayPlayer(InputRecording.read(in));
+        }
+    }
+
+    public SimulationResult play(boolean realTime) {
+        HeadlessGame sim = new HeadlessGame(recording.getMapName(), recording.getLevel(), recording.getSeed(),
+                new ReplayInput(recording));
+        return sim.run(recording.getTickCount(), realTime);
+    }
+
+    public InputRecording getRecording() {
+        return recording;
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.err.println("사용법: ReplayPlayer <파일> [--realtime] [--repeat n]");
+            return;
+        }
+        boolean realTime = false;
+        int repeat = 1;
+        for (int i = 1; i < args.length; i++) {
+            if (args[i].equals("--realtime")) {
+                realTime = true;
+            } else if (args[i].equals("--repeat") && i + 1 < args.length) {
+                repeat = Integer.parseInt(args[++i]);
+            } else {
+                throw new IllegalArgumentException("알 수 없는 옵션: " + args[i]);
+            }
+        }
+
+        Game.setVerbose(false);
+        ReplayPlayer player = load(Paths.get(args[0]));
+        InputRecording rec = player.getRecording();
+        System.out.println("map=" + rec.getMapName() + " level=" + rec.getLevel() + " seed=" + rec.getSeed()
+                + " ticks=" + rec.getTickCount() + " runs=" + rec.getRunCount());
+
+        long start = System.nanoTime();
+        SimulationResult result = null;
+        for (int i = 0; i < repeat; i++) {
+            result = player.play(realTime);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        System.out.println(result);
+        System.out.printf("elapsed=%.2fs (%.0f ticks/s)%n", seconds, result.getTicks() * (double) repeat / seconds);
+    }
+}
@@ -11,20 +11,21 @@ public class CollisionDetector {
         this.game = game;
     }
 
-    //Détection de collision entre des entités de type collisionCheck et une entité obj ; on renvoie l'entité du type testé en cas de collision
-    //Les entités de type collisionCheck ont une hitbox rectangulaire, et on considère ici que la hitbox de l'entité obj est un point (pour la collision entre Pacman et les fantôme, ça permet d'avoir une marge et faire en sorte que le jeu ne soit pas trop punitif)
-    public Entity checkCollision(Entity obj, Class<? extends Entity> collisionCheck) {
-        for (Entity e : game.getEntities()) {
-            if (!e.isDestroyed() && collisionCheck.isInstance(e) && e.getHitbox().contains(obj.getxPos() + obj.getSize() / 2, obj.getyPos() + obj.getSize() / 2)) return e;
-        }
-        return null;
+    //Détection de collision entre des entités de la couche layerMask et une entité obj ; on renvoie l'entité testée en cas de collision
+    //Les entités testées ont une hitbox rectangulaire, et on considère ici que la hitbox de l'entité obj est un point (pour la collision entre Pacman et les fantôme, ça permet d'avoir une marge et faire en sorte que le jeu ne soit pas trop punitif)
+    //SpatialGrid 덕분에 obj 주변 버킷의 엔티티만 확인
+    public Entity checkCollision(Entity obj, int layerMask) {
+        return game.getSpatialGrid().queryPoint(obj.getxPos() + obj.getSize() / 2, obj.getyPos() + obj.getSize() / 2, layerMask, null);
     }
 
     //Même chose que la méthode précédente, mais toutes les hitboxes sont considérées comme rectangulaires
-    public Entity checkCollisionRect(Entity obj, Class<? extends Entity> collisionCheck) {
-        for (Entity e : game.getEntities()) {
-            if (!e.isDestroyed() && collisionCheck.isInstance(e) && e.getHitbox().intersects(obj.getHitbox())) return e;
-        }
-        return null;
+    public Entity checkCollisionRect(Entity obj, int layerMask) {
+        return game.getSpatialGrid().queryRect(obj.getxPos(), obj.getyPos(), obj.getSize(), obj.getSize(), layerMask,
+                obj instanceof MovingEntity ? (MovingEntity) obj : null);
+    }
+
+    //Pacman 이 이번 틱에 접촉한 PacGum, SuperPacGum, 고스트를 한 번에 조회 (결과는 out 에 담아 재사용)
+    public Contacts checkContacts(Entity obj, Contacts out) {
+        return game.getRegistry().findContacts(obj, out);
     }
 }
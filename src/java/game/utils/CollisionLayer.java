@@ -0,0 +1,16 @@
+package game.utils;
+
+/**
+ * 충돌 레이어 비트마스크
+ * CollisionDetector 질의는 Class.isInstance 대신 이 마스크로 대상 엔티티를 거름
+ */
+public final class CollisionLayer {
+    public static final int NONE = 0;
+    public static final int PACMAN = 1;
+    public static final int GHOST = 1 << 1;
+    public static final int PACGUM = 1 << 2;
+    public static final int SUPER_PACGUM = 1 << 3;
+    public static final int ALL = ~0;
+
+    private CollisionLayer() {}
+}
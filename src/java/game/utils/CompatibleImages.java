@@ -0,0 +1,42 @@
+package game.utils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 화면의 GraphicsConfiguration 과 같은 픽셀 형식의 이미지 생성
+ * 형식이 같으면 그릴 때 변환이 없고, Java2D 가 이미지를 VRAM 에 캐시(가속)할 수 있음
+ * headless 환경에서는 일반 TYPE_INT_ARGB / TYPE_INT_RGB 이미지를 사용
+ */
+public final class CompatibleImages {
+
+    private CompatibleImages() {}
+
+    //transparency : Transparency.OPAQUE / BITMASK / TRANSLUCENT
+    public static BufferedImage create(int width, int height, int transparency) {
+        GraphicsConfiguration gc = defaultConfiguration();
+        if (gc != null) {
+            return gc.createCompatibleImage(width, height, transparency);
+        }
+        int type = transparency == Transparency.OPAQUE ? BufferedImage.TYPE_INT_RGB : BufferedImage.TYPE_INT_ARGB;
+        return new BufferedImage(width, height, type);
+    }
+
+    //이미 호환 형식이면 그대로 반환, 아니면 호환 이미지에 복사
+    public static BufferedImage toCompatible(BufferedImage img) {
+        GraphicsConfiguration gc = defaultConfiguration();
+        if (img == null || gc == null) return img;
+        if (img.getColorModel().equals(gc.getColorModel(img.getTransparency()))) return img;
+        BufferedImage copy = gc.createCompatibleImage(img.getWidth(), img.getHeight(), img.getTransparency());
+        Graphics2D g = copy.createGraphics();
+        g.setComposite(AlphaComposite.Src);
+        g.drawImage(img, 0, 0, null);
+        g.dispose();
+        return copy;
+    }
+
+    private static GraphicsConfiguration defaultConfiguration() {
+        if (GraphicsEnvironment.isHeadless()) return null;
+        return GraphicsEnvironment.getLocalGraphicsEnvironment().getDefaultScreenDevice().getDefaultConfiguration();
+    }
+}
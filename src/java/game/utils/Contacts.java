@@ -0,0 +1,21 @@
+package game.utils;
+
+import game.entities.PacGum;
+import game.entities.ghosts.Ghost;
+import game.entities.superPacGums.SuperPacGum;
+
+/**
+ * 한 틱 동안 Pacman 이 접촉한 대상 (CollisionDetector.checkContacts 결과)
+ * 매 틱 재사용되는 결과 객체라 질의마다 할당이 없음
+ */
+public class Contacts {
+    public PacGum pacGum;
+    public SuperPacGum superPacGum;
+    public Ghost ghost;
+
+    public void clear() {
+        pacGum = null;
+        superPacGum = null;
+        ghost = null;
+    }
+}
@@ -0,0 +1,25 @@
+package game.utils;
+
+import java.io.IOException;
+
+//CSV 맵 형식 오류 (줄 / 열 번호는 1 부터, 열은 그 줄의 글자 위치)
+public class CsvFormatException extends IOException {
+    private static final long serialVersionUID = 1L;
+
+    private final int line;
+    private final int column;
+
+    public CsvFormatException(String message, int line, int column) {
+        super("line " + line + ", column " + column + ": " + message);
+        this.line = line;
+        this.column = column;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public int getColumn() {
+        return column;
+    }
+}
@@ -0,0 +1,29 @@
+package game.utils;
+
+/**
+ * CSV 맵을 읽은 결과 : 셀마다 한 글자 (행 우선 byte 배열)
+ * 빈 셀은 ' ' 로 저장
+ */
+public final class CsvGrid {
+    private final int cols;
+    private final int rows;
+    private final byte[] cells;
+
+    CsvGrid(int cols, int rows, byte[] cells) {
+        this.cols = cols;
+        this.rows = rows;
+        this.cells = cells;
+    }
+
+    public int getCols() {
+        return cols;
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public char get(int cx, int cy) {
+        return (char) cells[cy * cols + cx];
+    }
+}
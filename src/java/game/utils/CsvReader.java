@@ -1,31 +1,94 @@
 package game.utils;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.net.URI;
-import java.util.ArrayList;
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 
-//Classe pour gérer la lecture des fichiers csv
+/**
+ * Classe pour gérer la lecture des fichiers csv
+ *
+ * 맵 CSV 를 ByteBuffer 에서 한 번에 훑어 셀 배열(CsvGrid)로 바로 읽음 (줄 / 셀 문자열을 만들지 않음)
+ * - 구분자는 ';', 셀은 ASCII 한 글자 또는 빈 칸 (빈 셀은 ' ')
+ * - 줄 끝의 빈 셀은 무시 (예전 String.split 과 같이 "x;x;" 는 두 칸)
+ * - 줄 끝은 \n, \r\n, \r ; 파일 앞의 UTF-8 BOM 과 파일 끝의 빈 줄은 무시
+ * - 모든 줄의 셀 수는 첫 줄과 같아야 함
+ * 형식이 틀리면 줄 / 열 번호가 담긴 CsvFormatException
+ */
 public class CsvReader {
-    public List<List<String>> parseCsv(URI file) {
-        List<List<String>> data = new ArrayList<>();
-        try {
-            InputStreamReader reader =  new InputStreamReader(file.toURL().openStream());
-            BufferedReader br = new BufferedReader(reader);
-
-            String line = br.readLine();
-            while(line != null) {
-                List<String> lineData = Arrays.asList(line.split(";"));
-                data.add(lineData);
-                line = br.readLine();
-            }
-            br.close();
+    private static final byte SEPARATOR = ';';
+    private static final byte EMPTY = ' ';
+
+    public CsvGrid parseGrid(ByteBuffer in) throws CsvFormatException {
+        int pos = in.position();
+        int limit = in.limit();
+        if (limit - pos >= 3 && in.get(pos) == (byte) 0xEF && in.get(pos + 1) == (byte) 0xBB && in.get(pos + 2) == (byte) 0xBF) {
+            pos += 3;
         }
-        catch(Exception e) {
-            e.printStackTrace();
+
+        byte[] cells = new byte[Math.max(16, (limit - pos) / 2)];
+        int count = 0;
+        int cols = -1;
+        int rows = 0;
+
+        int line = 1;
+        int lineStart = pos;
+        int rowCells = 0;     // 이 줄에서 확정된 셀 수
+        int pendingEmpty = 0; // 아직 확정하지 않은 빈 셀 (줄 끝이면 버림)
+        boolean hasCell = false;
+        byte cell = EMPTY;
+        int blankLine = 0;    // 처음 본 빈 줄 (뒤에 내용이 오면 오류)
+
+        while (pos <= limit) {
+            byte b = pos < limit ? in.get(pos) : (byte) '\n';
+            if (b == SEPARATOR || b == '\n' || b == '\r') {
+                //셀 하나가 끝남 (빈 셀은 뒤에 내용이 있는 셀이 올 때 함께 확정)
+                if (!hasCell) {
+                    pendingEmpty++;
+                } else {
+                    if (count + pendingEmpty + 1 > cells.length) {
+                        cells = Arrays.copyOf(cells, Math.max(cells.length * 2, count + pendingEmpty + 1));
+                    }
+                    rowCells += pendingEmpty + 1;
+                    for (; pendingEmpty > 0; pendingEmpty--) cells[count++] = EMPTY;
+                    cells[count++] = cell;
+                    hasCell = false;
+                }
+
+                if (b != SEPARATOR) {
+                    //줄 하나가 끝남
+                    if (rowCells == 0) {
+                        if (blankLine == 0 && pos < limit) blankLine = line;
+                    } else {
+                        if (blankLine != 0) throw new CsvFormatException("empty line", blankLine, 1);
+                        if (cols < 0) {
+                            cols = rowCells;
+                        } else if (rowCells != cols) {
+                            throw new CsvFormatException("expected " + cols + " cells, found " + rowCells,
+                                    line, pos - lineStart + 1);
+                        }
+                        rows++;
+                    }
+                    if (b == '\r' && pos + 1 < limit && in.get(pos + 1) == '\n') pos++;
+                    pendingEmpty = 0;
+                    rowCells = 0;
+                    line++;
+                    lineStart = pos + 1;
+                }
+            } else {
+                if (b < 0x20 || b > 0x7e) {
+                    throw new CsvFormatException("unexpected byte 0x" + Integer.toHexString(b & 0xff),
+                            line, pos - lineStart + 1);
+                }
+                if (hasCell) {
+                    throw new CsvFormatException("cell must be a single character", line, pos - lineStart + 1);
+                }
+                cell = b;
+                hasCell = true;
+            }
+            pos++;
         }
-        return data;
+
+        in.position(limit);
+        if (rows == 0) throw new CsvFormatException("empty map", 1, 1);
+        return new CsvGrid(cols, rows, count == cells.length ? cells : Arrays.copyOf(cells, count));
     }
 }
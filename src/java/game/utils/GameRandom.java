@@ -0,0 +1,48 @@
+package game.utils;
+
+import java.util.SplittableRandom;
+
+/**
+ * 게임 한 판(세션) 동안 쓰는 난수 서비스
+ *
+ * 하나의 seed 에서 하위 시스템별 SplittableRandom 스트림을 고정된 순서로 분기(split)하므로
+ * - 같은 seed 면 같은 게임이 재현되고 (시뮬레이션 / 리플레이)
+ * - 한 시스템의 난수 소비량이 바뀌어도 다른 시스템의 난수열은 영향받지 않음
+ *
+ * 스트림은 생성 시 한 번만 만들어지고, 호출마다 Random 을 새로 만들거나 전역 Math.random() 을 공유하지 않음
+ * 게임 루프는 단일 스레드이므로 동기화하지 않음
+ */
+public final class GameRandom {
+    public enum Subsystem {
+        LEVEL,      //레벨 전략 (순간이동 / 투명화 주기)
+        TELEPORT,   //순간이동 시작 타이머
+        GHOST_AI,   //Frightened 모드 목표 지점
+        PELLETS     //SuperPacGum 종류 선택
+    }
+
+    private final long seed;
+    private final SplittableRandom[] streams;
+
+    public GameRandom(long seed) {
+        this.seed = seed;
+        SplittableRandom root = new SplittableRandom(seed);
+        Subsystem[] subsystems = Subsystem.values();
+        streams = new SplittableRandom[subsystems.length];
+        for (Subsystem s : subsystems) {
+            streams[s.ordinal()] = root.split();
+        }
+    }
+
+    //seed 를 지정하지 않은 세션용 ; 리플레이 기록을 위해 seed 는 여전히 getSeed() 로 얻을 수 있음
+    public static long randomSeed() {
+        return new SplittableRandom().nextLong();
+    }
+
+    public SplittableRandom get(Subsystem subsystem) {
+        return streams[subsystem.ordinal()];
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+}
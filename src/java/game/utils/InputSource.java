@@ -0,0 +1,12 @@
+package game.utils;
+
+/**
+ * Pacman 이동 입력을 제공하는 인터페이스
+ * 키보드(KeyHandler) 외에 헤드리스 시뮬레이션/리플레이에서도 같은 방식으로 입력을 넣을 수 있음
+ */
+public interface InputSource {
+    boolean isLeftPressed();
+    boolean isRightPressed();
+    boolean isUpPressed();
+    boolean isDownPressed();
+}
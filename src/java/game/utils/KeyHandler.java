@@ -8,7 +8,7 @@ import java.util.List;
 import java.util.ArrayList;
 
 //Classe pour gérer les inputs
-public class KeyHandler implements KeyListener {
+public class KeyHandler implements KeyListener, InputSource {
 
     public static List<Key> keys = new ArrayList<>();
 
@@ -50,6 +50,26 @@ public class KeyHandler implements KeyListener {
         }
     }
 
+    @Override
+    public boolean isLeftPressed() {
+        return k_left.isPressed;
+    }
+
+    @Override
+    public boolean isRightPressed() {
+        return k_right.isPressed;
+    }
+
+    @Override
+    public boolean isUpPressed() {
+        return k_up.isPressed;
+    }
+
+    @Override
+    public boolean isDownPressed() {
+        return k_down.isPressed;
+    }
+
     @Override
     public void keyTyped(KeyEvent e) {}
 
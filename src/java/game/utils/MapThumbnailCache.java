@@ -0,0 +1,156 @@
+package game.utils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * 맵 선택 화면용 미리보기 이미지 캐시
+ *
+ * - 배경 이미지를 작업 스레드 하나에서 읽고 너비 width 로 줄여 둠 (EDT 는 디코딩 / 축소를 하지 않음)
+ * - 줄인 이미지는 최근 capacity 개만 보관 (LRU)
+ * - prefetch() 로 현재 맵 양옆의 미리보기를 먼저 만들어 둠
+ *   빠르게 넘기면 지나간 맵의 미리 읽기는 차례가 와도 건너뜀 (직접 request() 한 맵은 항상 만듦)
+ *
+ * 배경 이미지가 없는 맵은 null 로 완료 (캐시하지 않음)
+ */
+public final class MapThumbnailCache {
+    public static final int DEFAULT_CAPACITY = 32;
+
+    private final int width;
+    private final Function<String, BufferedImage> loader;
+    private final ExecutorService worker;
+    private final Map<String, BufferedImage> thumbnails;
+
+    //pending / required 는 lock 안에서만 다룸 (request() 의 등록과 build() 의 건너뛰기 판단이 엇갈리지 않도록)
+    final Object lock = new Object();
+    private final Map<String, CompletableFuture<BufferedImage>> pending = new HashMap<>();
+    private final Set<String> required = new HashSet<>();
+
+    //prefetch() 를 부를 때마다 증가 ; 예전 세대의 미리 읽기는 건너뜀
+    private volatile int generation;
+
+    public MapThumbnailCache(int width) {
+        this(width, DEFAULT_CAPACITY, name -> new ResourceUtils().loadMapImage(name));
+    }
+
+    public MapThumbnailCache(int width, int capacity, Function<String, BufferedImage> loader) {
+        this.width = width;
+        this.loader = loader;
+        this.thumbnails = new LinkedHashMap<String, BufferedImage>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, BufferedImage> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "MapThumbnails");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    //이미 만들어 둔 미리보기 (없으면 null ; 이미지를 읽지 않음)
+    public BufferedImage getIfReady(String mapName) {
+        synchronized (thumbnails) {
+            return thumbnails.get(mapName);
+        }
+    }
+
+    public CompletableFuture<BufferedImage> request(String mapName) {
+        return submit(mapName, -1);
+    }
+
+    //names[index] 양옆 radius 개 맵의 미리보기를 미리 만듦 (목록은 순환)
+    public void prefetch(List<String> names, int index, int radius) {
+        int gen = ++generation;
+        for (int d = 1; d <= radius && d * 2 <= names.size(); d++) {
+            submit(names.get(Math.floorMod(index + d, names.size())), gen);
+            submit(names.get(Math.floorMod(index - d, names.size())), gen);
+        }
+    }
+
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    private CompletableFuture<BufferedImage> submit(String mapName, int gen) {
+        BufferedImage ready = getIfReady(mapName);
+        if (ready != null) return CompletableFuture.completedFuture(ready);
+
+        CompletableFuture<BufferedImage> created = new CompletableFuture<>();
+        synchronized (lock) {
+            //직접 요청한 맵은 미리 읽기로 대기 중이었더라도 세대와 상관없이 만듦
+            if (gen < 0) required.add(mapName);
+            CompletableFuture<BufferedImage> inFlight = pending.putIfAbsent(mapName, created);
+            if (inFlight != null) return inFlight;
+        }
+        worker.execute(() -> build(mapName, created, gen));
+        return created;
+    }
+
+    private void build(String mapName, CompletableFuture<BufferedImage> future, int gen) {
+        synchronized (lock) {
+            if (gen >= 0 && gen != generation && !required.contains(mapName)) {
+                //지나간 맵 ; 다시 요청하면 새로 만듦
+                pending.remove(mapName);
+                future.complete(null);
+                return;
+            }
+        }
+        BufferedImage thumbnail = null;
+        try {
+            BufferedImage source = loader.apply(mapName);
+            if (source != null) {
+                thumbnail = scale(source, width);
+                synchronized (thumbnails) {
+                    thumbnails.put(mapName, thumbnail);
+                }
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+        } finally {
+            synchronized (lock) {
+                required.remove(mapName);
+                pending.remove(mapName);
+            }
+        }
+        future.complete(thumbnail);
+    }
+
+    /**
+     * 너비 targetWidth 로 비율을 유지해 줄임
+     * 반씩 여러 번 bilinear 로 줄여서 (getScaledInstance(SCALE_SMOOTH) 보다 훨씬 빠르고 계단 현상도 적음)
+     */
+    static BufferedImage scale(BufferedImage source, int targetWidth) {
+        int targetHeight = Math.max(1, (int) ((double) source.getHeight() / source.getWidth() * targetWidth));
+        BufferedImage current = source;
+        int w = source.getWidth();
+        int h = source.getHeight();
+        do {
+            if (w / 2 >= targetWidth) {
+                w /= 2;
+                h = Math.max(targetHeight, h / 2);
+            } else {
+                w = targetWidth;
+                h = targetHeight;
+            }
+            BufferedImage step = CompatibleImages.create(w, h, source.getTransparency());
+            Graphics2D g = step.createGraphics();
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.drawImage(current, 0, 0, w, h, null);
+            g.dispose();
+            current = step;
+        } while (w != targetWidth || h != targetHeight);
+        return current;
+    }
+}
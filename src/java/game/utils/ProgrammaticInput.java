@@ -0,0 +1,49 @@
+package game.utils;
+
+/**
+ * 코드로 조작하는 입력 소스 (헤드리스 시뮬레이션, 봇, 리플레이용)
+ * 눌린 방향을 4비트 마스크로 보관
+ */
+public class ProgrammaticInput implements InputSource {
+    public static final int LEFT = 1;
+    public static final int RIGHT = 1 << 1;
+    public static final int UP = 1 << 2;
+    public static final int DOWN = 1 << 3;
+
+    private int state = 0;
+
+    //매 틱 Game.input() 직전에 호출됨 ; 봇은 여기서 다음 입력을 정함
+    public void onTick(long tick) {}
+
+    public void setState(int state) {
+        this.state = state & (LEFT | RIGHT | UP | DOWN);
+    }
+
+    public int getState() {
+        return state;
+    }
+
+    public void release() {
+        state = 0;
+    }
+
+    @Override
+    public boolean isLeftPressed() {
+        return (state & LEFT) != 0;
+    }
+
+    @Override
+    public boolean isRightPressed() {
+        return (state & RIGHT) != 0;
+    }
+
+    @Override
+    public boolean isUpPressed() {
+        return (state & UP) != 0;
+    }
+
+    @Override
+    public boolean isDownPressed() {
+        return (state & DOWN) != 0;
+    }
+}
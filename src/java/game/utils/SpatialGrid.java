@@ -0,0 +1,143 @@
+package game.utils;
+
+import game.entities.MovingEntity;
+
+import java.util.Arrays;
+
+/**
+ * 움직이는 엔티티용 균일 격자 broadphase
+ *
+ * - 엔티티는 히트박스 왼쪽 위 꼭짓점이 속한 버킷 하나에만 등록
+ * - 엔티티가 움직이면 MovingEntity.update() 끝에서 update() 가 호출되어, 버킷이 바뀐 경우에만 재연결
+ * - 질의는 대상 영역과 겹칠 수 있는 버킷(최대 엔티티 크기만큼 확장)만 확인
+ *
+ * 버킷 리스트는 id 로 인덱싱된 배열 기반 이중 연결 리스트라 등록/이동/삭제에 할당이 없음
+ * 여러 엔티티가 동시에 맞으면 먼저 등록된(id 가 작은) 엔티티를 반환해 기존 리스트 순회 순서를 유지
+ */
+public final class SpatialGrid {
+    private final int cellSize;
+    private final int cols;
+    private final int rows;
+    private final int[] heads;
+
+    private MovingEntity[] entities = new MovingEntity[16];
+    private int[] bucketOf = new int[16];
+    private int[] next = new int[16];
+    private int[] prev = new int[16];
+    private int idCount = 0;
+    private int[] freeIds = new int[16];
+    private int freeCount = 0;
+    private int maxExtent = 0;
+
+    public SpatialGrid(int width, int height, int cellSize) {
+        this.cellSize = cellSize;
+        this.cols = Math.max(1, (width + cellSize - 1) / cellSize);
+        this.rows = Math.max(1, (height + cellSize - 1) / cellSize);
+        this.heads = new int[cols * rows];
+        Arrays.fill(heads, -1);
+    }
+
+    public void insert(MovingEntity e) {
+        if (e.getSpatialId() >= 0) return;
+        int id = freeCount > 0 ? freeIds[--freeCount] : idCount++;
+        ensureCapacity(id + 1);
+        entities[id] = e;
+        maxExtent = Math.max(maxExtent, e.getSize());
+        e.setSpatialGrid(this, id);
+        link(id, bucketFor(e.getxPos(), e.getyPos()));
+    }
+
+    public void remove(MovingEntity e) {
+        int id = e.getSpatialId();
+        if (id < 0 || entities[id] != e) return;
+        unlink(id);
+        entities[id] = null;
+        if (freeCount == freeIds.length) freeIds = Arrays.copyOf(freeIds, freeCount * 2);
+        freeIds[freeCount++] = id;
+        e.setSpatialGrid(null, -1);
+    }
+
+    //엔티티 위치가 바뀐 뒤 호출 ; 버킷이 그대로면 아무것도 하지 않음
+    public void update(MovingEntity e) {
+        int id = e.getSpatialId();
+        if (id < 0 || entities[id] != e) return;
+        int bucket = bucketFor(e.getxPos(), e.getyPos());
+        if (bucket != bucketOf[id]) {
+            unlink(id);
+            link(id, bucket);
+        }
+    }
+
+    //점 (px, py) 를 히트박스에 포함하는 엔티티 중 layerMask 에 해당하는 엔티티
+    public MovingEntity queryPoint(int px, int py, int layerMask, MovingEntity exclude) {
+        return query(px, py, 1, 1, true, layerMask, exclude);
+    }
+
+    //사각형 (x, y, w, h) 와 히트박스가 겹치는 엔티티 중 layerMask 에 해당하는 엔티티
+    public MovingEntity queryRect(int x, int y, int w, int h, int layerMask, MovingEntity exclude) {
+        if (w <= 0 || h <= 0) return null;
+        return query(x, y, w, h, false, layerMask, exclude);
+    }
+
+    private MovingEntity query(int x, int y, int w, int h, boolean point, int layerMask, MovingEntity exclude) {
+        if (idCount == 0) return null;
+
+        //왼쪽 위 꼭짓점 기준으로 등록되므로, 질의 영역보다 maxExtent 만큼 왼쪽/위쪽 버킷까지 확인
+        int bx0 = clampCol(Math.floorDiv(x - maxExtent + 1, cellSize));
+        int bx1 = clampCol(Math.floorDiv(x + w - 1, cellSize));
+        int by0 = clampRow(Math.floorDiv(y - maxExtent + 1, cellSize));
+        int by1 = clampRow(Math.floorDiv(y + h - 1, cellSize));
+
+        int best = -1;
+        for (int by = by0; by <= by1; by++) {
+            for (int bx = bx0; bx <= bx1; bx++) {
+                for (int id = heads[by * cols + bx]; id >= 0; id = next[id]) {
+                    if (best >= 0 && id > best) continue;
+                    MovingEntity e = entities[id];
+                    if (e == exclude || e.isDestroyed() || (e.getCollisionLayer() & layerMask) == 0) continue;
+                    boolean hit = point ? e.hitboxContains(x, y) : e.hitboxIntersects(x, y, w, h);
+                    if (hit) best = id;
+                }
+            }
+        }
+        return best >= 0 ? entities[best] : null;
+    }
+
+    private int bucketFor(int x, int y) {
+        return clampRow(Math.floorDiv(y, cellSize)) * cols + clampCol(Math.floorDiv(x, cellSize));
+    }
+
+    private int clampCol(int bx) {
+        return bx < 0 ? 0 : (bx >= cols ? cols - 1 : bx);
+    }
+
+    private int clampRow(int by) {
+        return by < 0 ? 0 : (by >= rows ? rows - 1 : by);
+    }
+
+    private void link(int id, int bucket) {
+        bucketOf[id] = bucket;
+        prev[id] = -1;
+        next[id] = heads[bucket];
+        if (heads[bucket] >= 0) prev[heads[bucket]] = id;
+        heads[bucket] = id;
+    }
+
+    private void unlink(int id) {
+        int bucket = bucketOf[id];
+        if (prev[id] >= 0) next[prev[id]] = next[id];
+        else heads[bucket] = next[id];
+        if (next[id] >= 0) prev[next[id]] = prev[id];
+        prev[id] = -1;
+        next[id] = -1;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= entities.length) return;
+        int newLength = Math.max(capacity, entities.length * 2);
+        entities = Arrays.copyOf(entities, newLength);
+        bucketOf = Arrays.copyOf(bucketOf, newLength);
+        next = Arrays.copyOf(next, newLength);
+        prev = Arrays.copyOf(prev, newLength);
+    }
+}
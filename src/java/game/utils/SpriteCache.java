@@ -0,0 +1,50 @@
+package game.utils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 스프라이트 캐시
+ *
+ * - img/ 아래 이미지는 처음 요청될 때 한 번만 디코딩
+ * - 프레임 크기별로 미리 잘라 둔 SpriteFrames 도 한 번만 만들어 모든 엔티티가 공유
+ * 렌더링 경로에서는 I/O 나 getSubimage 없이 캐시된 프레임만 그림
+ * 디코딩한 이미지는 화면 호환 형식으로 바꿔 둠 (CompatibleImages)
+ */
+public final class SpriteCache {
+    private static final Map<String, BufferedImage> images = new ConcurrentHashMap<>();
+    private static final Map<String, SpriteFrames> frames = new ConcurrentHashMap<>();
+    private static final BufferedImage MISSING = new BufferedImage(1, 1, BufferedImage.TYPE_INT_ARGB);
+
+    private SpriteCache() {}
+
+    //이미지를 읽을 수 없으면 null
+    public static BufferedImage getImage(String spriteName) {
+        BufferedImage img = images.computeIfAbsent(spriteName, SpriteCache::load);
+        return img == MISSING ? null : img;
+    }
+
+    public static SpriteFrames getFrames(String spriteName, int frameSize) {
+        return frames.computeIfAbsent(spriteName + "@" + frameSize,
+                key -> SpriteFrames.slice(getImage(spriteName), frameSize));
+    }
+
+    private static BufferedImage load(String spriteName) {
+        if (spriteName == null || spriteName.isEmpty()) return MISSING;
+        try (InputStream in = SpriteCache.class.getClassLoader().getResourceAsStream("img/" + spriteName)) {
+            if (in == null) {
+                System.err.println("Sprite not found : img/" + spriteName);
+                return MISSING;
+            }
+            BufferedImage img = ImageIO.read(in);
+            return img != null ? CompatibleImages.toCompatible(img) : MISSING;
+        } catch (IOException e) {
+            e.printStackTrace();
+            return MISSING;
+        }
+    }
+}
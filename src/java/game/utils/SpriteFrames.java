@@ -0,0 +1,48 @@
+package game.utils;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * 가로로 이어 붙인 스프라이트 시트를 프레임 크기만큼 미리 잘라 둔 불변 프레임 테이블
+ * 프레임 번호 = 방향 * (방향당 프레임 수) + 애니메이션 프레임 (기존 getSubimage 좌표 계산과 같은 순서)
+ * 각 프레임은 원본 래스터를 공유하지 않는 독립 이미지라 그리기만 하면 됨
+ * (화면과 같은 픽셀 형식의 CompatibleImages 로 만들어 그릴 때 변환이 없음)
+ */
+public final class SpriteFrames {
+    public static final SpriteFrames EMPTY = new SpriteFrames(new BufferedImage[0]);
+
+    private final BufferedImage[] frames;
+
+    private SpriteFrames(BufferedImage[] frames) {
+        this.frames = frames;
+    }
+
+    public static SpriteFrames slice(BufferedImage sheet, int frameSize) {
+        if (sheet == null || frameSize <= 0) return EMPTY;
+        int count = sheet.getWidth() / frameSize;
+        int height = Math.min(frameSize, sheet.getHeight());
+        BufferedImage[] frames = new BufferedImage[count];
+        for (int i = 0; i < count; i++) {
+            BufferedImage frame = CompatibleImages.create(frameSize, height, Transparency.TRANSLUCENT);
+            Graphics2D g = frame.createGraphics();
+            g.drawImage(sheet, 0, 0, frameSize, height, i * frameSize, 0, (i + 1) * frameSize, height, null);
+            g.dispose();
+            frames[i] = frame;
+        }
+        return new SpriteFrames(frames);
+    }
+
+    //범위를 벗어나면 null (Graphics.drawImage 는 null 이미지를 무시함)
+    public BufferedImage get(int index) {
+        return index >= 0 && index < frames.length ? frames[index] : null;
+    }
+
+    public BufferedImage get(int direction, int framesPerDirection, int frame) {
+        return get(direction * framesPerDirection + frame);
+    }
+
+    public int size() {
+        return frames.length;
+    }
+}
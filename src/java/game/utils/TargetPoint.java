@@ -0,0 +1,15 @@
+package game.utils;
+
+/**
+ * 고스트가 노리는 지점 (IGhostStrategy / GhostState 의 목표 계산 결과)
+ * 호출하는 쪽이 하나 만들어 두고 매번 채워 쓰므로 질의마다 할당이 없음
+ */
+public class TargetPoint {
+    public int x;
+    public int y;
+
+    public void set(int x, int y) {
+        this.x = x;
+        this.y = y;
+    }
+}
@@ -1,57 +1,49 @@
 package game.utils;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.Random;
+import java.util.SplittableRandom;
 
 //Classe regroupant différentes fonctions utiles
 public class Utils {
-    private static Map<Integer, Double> directionConverterMap = new HashMap<>();
-
-    static {
-        directionConverterMap.put(0, 0d);
-        directionConverterMap.put(1, Math.PI);
-        directionConverterMap.put(2, Math.PI / 2);
-        directionConverterMap.put(3, Math.PI * (3/2));
-    }
+    //Vecteur unitaire pour chaque "direction" d'une entité (0 : droite, 1 : gauche, 2 : haut, 3 : bas)
+    //Mêmes valeurs que l'ancienne conversion en angle (0, PI, PI/2, PI * (3/2)) : comme 3/2 vaut 1 en division entière, 2 pointe vers le bas et 3 vers la gauche
+    private static final int[] DIRECTION_DX = {1, -1, 0, -1};
+    private static final int[] DIRECTION_DY = {0, 0, 1, 0};
 
     //Fonction pour obtenir la distance entre deux points
     public static double getDistance(double xA, double yA, double xB, double yB) {
-        return Math.sqrt( Math.pow(xB - xA, 2) + Math.pow(yB - yA, 2) );
+        double dx = xB - xA;
+        double dy = yB - yA;
+        return Math.sqrt(dx * dx + dy * dy);
     }
 
-    //Fonction pour obtenir l'angle formé entre deux points
-    public static double getDirection(double xA, double yA, double xB, double yB) {
-        return Math.atan2((yB - yA), (xB - xA));
+    //Carré de la distance entre deux points : suffit pour comparer des distances (pas de racine)
+    public static long getDistanceSq(int xA, int yA, int xB, int yB) {
+        long dx = xB - xA;
+        long dy = yB - yA;
+        return dx * dx + dy * dy;
     }
 
-    //Fonction pour obtenir le point à partir d'un premier point, d'un angle et d'une distance
-    public static int[] getPointDistanceDirection(int x, int y, double distance, double direction) {
-        int[] point = new int[2];
-        point[0] = x + (int)(Math.cos(direction) * distance);
-        point[1] = y + (int)(Math.sin(direction) * distance);
-        return point;
+    //Déplacement horizontal / vertical d'une case dans la "direction" d'une entité
+    public static int directionDx(int spriteDirection) {
+        return DIRECTION_DX[spriteDirection];
     }
 
-    //Fonction pour convertir une "direction" d'une entité en un angle en radians grâce à la map créée plus haut
-    public static double directionConverter(int spriteDirection) {
-        return directionConverterMap.get(spriteDirection);
+    public static int directionDy(int spriteDirection) {
+        return DIRECTION_DY[spriteDirection];
     }
 
-    //Fonction pour générer un entier entre 0 et n
-    public static int randomInt(int n) {
-        Random r = new Random();
+    //Fonction pour générer un entier entre 0 et n (toujours à partir d'un flux de la session, GameRandom, pour qu'une partie soit reproductible)
+    public static int randomInt(SplittableRandom r, int n) {
         return r.nextInt(n);
     }
 
     //Fonction pour générer un entier entre x et y inclus
-    public static int randomInt(int min, int max) {
-        Random r = new Random();
+    public static int randomInt(SplittableRandom r, int min, int max) {
         return r.nextInt(max-min) + min;
     }
 
     //Fonction pour générer un booléen aléatoire
-    public static boolean randomBool() {
-        return (randomInt(1) == 1);
+    public static boolean randomBool(SplittableRandom r) {
+        return (randomInt(r, 1) == 1);
     }
 }
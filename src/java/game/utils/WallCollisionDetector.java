@@ -2,29 +2,21 @@ package game.utils;
 
 import game.Game;
 import game.entities.Entity;
-import game.entities.GhostHouse;
-import game.entities.Wall;
-
-import java.awt.*;
+import game.level.WallGrid;
 
 //Classe pour détecter les collision entre une entité et un mur (par rapport à la classe CollisionDetector, les murs sont statiques)
+//벽은 엔티티가 아니라 맵마다 컴파일된 WallGrid 비트마스크로 관리되므로, 검사는 할당 없는 셀 조회로 끝남
 public class WallCollisionDetector {
 
     //Fonction pour s'avoir s'il y a un mur à la position d'une entité + un certain delta (ce delta permet de détecter le mur avant de rentrer dedans)
     public static boolean checkWallCollision(Entity obj, int dx, int dy) {
-        Rectangle r = new Rectangle(obj.getxPos() + dx, obj.getyPos() + dy, obj.getSize(), obj.getSize());
-        for (Wall w : Game.getWalls()) {
-            if (w.getHitbox().intersects(r)) return true;
-        }
-        return false;
+        return checkWallCollision(obj, dx, dy, false);
     }
 
     //Même chose que la méthode précédente, mais on peut ignorer ici les collisions avec les murs de la maison des fantômes
     public static boolean checkWallCollision(Entity obj, int dx, int dy, boolean ignoreGhostHouses) {
-        Rectangle r = new Rectangle(obj.getxPos() + dx, obj.getyPos() + dy, obj.getSize(), obj.getSize());
-        for (Wall w : Game.getWalls()) {
-            if (!(ignoreGhostHouses && w instanceof GhostHouse) && w.getHitbox().intersects(r)) return true;
-        }
-        return false;
+        WallGrid wallGrid = Game.getWallGrid();
+        if (wallGrid == null) return false;
+        return wallGrid.collides(obj.getxPos() + dx, obj.getyPos() + dy, obj.getSize(), obj.getSize(), ignoreGhostHouses);
     }
 }
@@ -1,18 +1,19 @@
 package game;
 
 import game.entities.ghosts.*;
-import game.entities.ghostDecorator.*;
+import game.entities.ghostEffects.*;
 import game.entities.levelStrategies.*;
+import game.utils.GameRandom;
 import org.junit.Before;
 import org.junit.Test;
 import static org.junit.Assert.*;
 
 /**
- * 레벨 기능 핵심 테스트 (20개)
+ * 레벨 기능 핵심 테스트 (21개)
  *
  * 테스트 구성:
  * - LevelStrategy 테스트: 6개
- * - GhostDecorator 테스트: 6개
+ * - GhostEffect 테스트: 7개
  * - Ghost 해산시간 테스트: 4개
  * - Game 레벨 적용 테스트: 4개
  */
@@ -22,13 +23,16 @@ public class LevelFeatureTest {
     private Level1Strategy level1Strategy;
     private Level2Strategy level2Strategy;
     private Level3Strategy level3Strategy;
+    // 고정 seed 의 세션 난수 (레벨 전략 / 순간이동 주기가 실행마다 같음)
+    private final GameRandom random = new GameRandom(42);
 
     @Before
     public void setUp() {
+        Game.reset();
         baseGhost = new Blinky(100, 100);
         level1Strategy = new Level1Strategy();
-        level2Strategy = new Level2Strategy();
-        level3Strategy = new Level3Strategy();
+        level2Strategy = new Level2Strategy(random.get(GameRandom.Subsystem.LEVEL));
+        level3Strategy = new Level3Strategy(random.get(GameRandom.Subsystem.LEVEL));
     }
 
     // ==================== LevelStrategy 테스트 (6개) ====================
@@ -109,85 +113,87 @@ public class LevelFeatureTest {
         }
     }
 
-    // ==================== GhostDecorator 테스트 (6개) ====================
+    // ==================== GhostEffect 테스트 (7개) ====================
 
     /**
-     * 테스트 7: GhostDecorator 위치 위임 확인
+     * 테스트 7: 기본 GhostEffect 는 위치와 속도를 바꾸지 않음
      */
     @Test
-    public void testGhostDecorator_DelegatesPosition() {
-        GhostDecorator decorator = new GhostDecorator(baseGhost);
-
-        assertEquals("X 위치 위임", baseGhost.getxPos(), decorator.getxPos());
-        assertEquals("Y 위치 위임", baseGhost.getyPos(), decorator.getyPos());
-        assertEquals("속도 위임", baseGhost.getSpd(), decorator.getSpd());
+    public void testGhostEffect_KeepsPositionAndSpeed() {
+        int originalX = baseGhost.getxPos();
+        int originalY = baseGhost.getyPos();
+        baseGhost.addEffect(new GhostEffect(baseGhost) {});
+
+        assertEquals("X 위치 유지", originalX, baseGhost.getxPos());
+        assertEquals("Y 위치 유지", originalY, baseGhost.getyPos());
+        assertEquals("이동 속도 유지", baseGhost.getSpd(), baseGhost.getMoveSpd());
+        assertTrue("이동 허용", baseGhost.updatePositionCondition());
+        assertFalse("숨겨지지 않음", baseGhost.isHidden());
     }
 
     /**
-     * 테스트 8: SpeedBoostDecorator - Level1에서 속도 변화 없음
+     * 테스트 8: SpeedBoostEffect - Level1에서 속도 변화 없음
      */
     @Test
-    public void testSpeedBoostDecorator_Level1_NoChange() {
+    public void testSpeedBoostEffect_Level1_NoChange() {
         int originalSpeed = baseGhost.getSpd();
-        SpeedBoostGhostDecorator decorator =
-                new SpeedBoostGhostDecorator(baseGhost, level1Strategy);
+        baseGhost.addEffect(new SpeedBoostGhostEffect(baseGhost, level1Strategy));
 
-        assertEquals("Level1에서 속도 변화 없음", originalSpeed, decorator.getSpd());
+        assertEquals("Level1에서 속도 변화 없음", originalSpeed, baseGhost.getMoveSpd());
     }
 
     /**
-     * 테스트 9: SpeedBoostDecorator - Level2에서 속도 10% 증가
+     * 테스트 9: SpeedBoostEffect - Level2에서 속도 10% 증가
      */
     @Test
-    public void testSpeedBoostDecorator_Level2_SpeedIncreased() {
+    public void testSpeedBoostEffect_Level2_SpeedIncreased() {
         int originalSpeed = baseGhost.getSpd();  // 2
-        SpeedBoostGhostDecorator decorator =
-                new SpeedBoostGhostDecorator(baseGhost, level2Strategy);
+        baseGhost.addEffect(new SpeedBoostGhostEffect(baseGhost, level2Strategy));
 
         int expectedSpeed = (int) Math.round(originalSpeed * 1.1);  // 2.2 → 2
-        assertEquals("Level2에서 속도 10% 증가", expectedSpeed, decorator.getSpd());
+        assertEquals("Level2에서 속도 10% 증가", expectedSpeed, baseGhost.getMoveSpd());
+        assertEquals("방향 계산용 기본 속도는 그대로", originalSpeed, baseGhost.getSpd());
     }
 
     /**
-     * 테스트 10: SpeedBoostDecorator - Level3에서 속도 20% 증가
+     * 테스트 10: SpeedBoostEffect - Level3에서 속도 20% 증가
      */
     @Test
-    public void testSpeedBoostDecorator_Level3_SpeedIncreased() {
+    public void testSpeedBoostEffect_Level3_SpeedIncreased() {
         int originalSpeed = baseGhost.getSpd();  // 2
-        SpeedBoostGhostDecorator decorator =
-                new SpeedBoostGhostDecorator(baseGhost, level3Strategy);
+        baseGhost.addEffect(new SpeedBoostGhostEffect(baseGhost, level3Strategy));
 
         int expectedSpeed = (int) Math.round(originalSpeed * 1.2);  // 2.4 → 2
-        assertEquals("Level3에서 속도 20% 증가", expectedSpeed, decorator.getSpd());
+        assertEquals("Level3에서 속도 20% 증가", expectedSpeed, baseGhost.getMoveSpd());
     }
 
     /**
-     * 테스트 11: Decorator 체이닝 - 여러 Decorator 중첩
+     * 테스트 11: 여러 효과를 한 고스트에 추가 - 추가 순서 유지
      */
     @Test
-    public void testDecoratorChaining() {
-        Ghost ghost = baseGhost;
-        int originalX = ghost.getxPos();
-        int originalY = ghost.getyPos();
-
-        // Decorator 체이닝
-        ghost = new SpeedBoostGhostDecorator(ghost, level3Strategy);
-        ghost = new SlowGhostDecorator(ghost, 2);
-        ghost = new TeleportGhostDecorator(ghost, level3Strategy);
-        ghost = new InvisibleGhostDecorator(ghost, level3Strategy);
-
-        // 체이닝 후에도 위치 보존
-        assertEquals("체이닝 후 X 위치 보존", originalX, ghost.getxPos());
-        assertEquals("체이닝 후 Y 위치 보존", originalY, ghost.getyPos());
-        assertTrue("최종 타입은 InvisibleGhostDecorator",
-                ghost instanceof InvisibleGhostDecorator);
+    public void testEffectStacking() {
+        int originalX = baseGhost.getxPos();
+        int originalY = baseGhost.getyPos();
+
+        baseGhost.addEffect(new SpeedBoostGhostEffect(baseGhost, level3Strategy));
+        baseGhost.addEffect(new SlowGhostEffect(baseGhost, 2));
+        baseGhost.addEffect(new TeleportGhostEffect(baseGhost, level3Strategy, random.get(GameRandom.Subsystem.TELEPORT)));
+        baseGhost.addEffect(new InvisibleGhostEffect(baseGhost, level3Strategy));
+
+        // 효과를 추가해도 위치 보존
+        assertEquals("효과 추가 후 X 위치 보존", originalX, baseGhost.getxPos());
+        assertEquals("효과 추가 후 Y 위치 보존", originalY, baseGhost.getyPos());
+        assertEquals("효과 4개", 4, baseGhost.getEffects().size());
+        assertTrue("마지막 효과는 InvisibleGhostEffect",
+                baseGhost.getEffects().get(3) instanceof InvisibleGhostEffect);
+        assertNotNull("종류로 조회", baseGhost.getEffect(TeleportGhostEffect.class));
     }
 
     /**
-     * 테스트 12: 모든 Ghost 타입에 Decorator 적용
+     * 테스트 12: 모든 Ghost 타입에 효과 적용
      */
     @Test
-    public void testDecoratorAppliedToAllGhostTypes() {
+    public void testEffectAppliedToAllGhostTypes() {
         Ghost[] ghosts = {
                 new Blinky(100, 100),
                 new Pinky(100, 100),
@@ -196,18 +202,40 @@ public class LevelFeatureTest {
         };
 
         for (Ghost ghost : ghosts) {
-            SpeedBoostGhostDecorator decorated =
-                    new SpeedBoostGhostDecorator(ghost, level2Strategy);
+            ghost.addEffect(new SpeedBoostGhostEffect(ghost, level2Strategy));
 
-            assertEquals("위치 보존", 100, decorated.getxPos());
-            assertTrue("Ghost 타입 유지", decorated instanceof Ghost);
+            assertEquals("위치 보존", 100, ghost.getxPos());
+            assertNotNull("효과 등록", ghost.getEffect(SpeedBoostGhostEffect.class));
         }
     }
 
+    /**
+     * 테스트 13: InvisibleEffect - 투명 상태에서 그려지지 않고 충돌하지 않음
+     */
+    @Test
+    public void testInvisibleEffect_HidesGhost() {
+        LevelStrategy everyTick = new Level1Strategy() {
+            @Override public int getInvisibleInterval() { return 1; }
+            @Override public int getInvisibleDuration() { return 60; }
+        };
+        baseGhost.addEffect(new InvisibleGhostEffect(baseGhost, everyTick));
+        int cx = baseGhost.getxPos() + 1;
+        int cy = baseGhost.getyPos() + 1;
+        assertTrue("처음에는 충돌", baseGhost.hitboxContains(cx, cy));
+
+        // 투명 전환은 Game 의 타이머 휠이 1 틱 뒤에 실행
+        Game.getTimers().advance();
+
+        assertTrue("투명 상태", baseGhost.isHidden());
+        assertFalse("투명 상태에서는 충돌 안 함", baseGhost.hitboxContains(cx, cy));
+        assertEquals("빈 히트박스", 0, baseGhost.getHitbox().width);
+        assertNull("그릴 이미지 없음", baseGhost.getCurrentFrame());
+    }
+
     // ==================== Ghost 해산시간 테스트 (4개) ====================
 
     /**
-     * 테스트 13: 기본 해산시간 420 프레임 (7초)
+     * 테스트 14: 기본 해산시간 420 프레임 (7초)
      */
     @Test
     public void testBaseFrightenedTime() {
@@ -216,7 +244,7 @@ public class LevelFeatureTest {
     }
 
     /**
-     * 테스트 14: 레벨별 해산시간 계산
+     * 테스트 15: 레벨별 해산시간 계산
      */
     @Test
     public void testFrightenedTime_AllLevels() {
@@ -236,7 +264,7 @@ public class LevelFeatureTest {
     }
 
     /**
-     * 테스트 15: 해산시간 감소량 검증
+     * 테스트 16: 해산시간 감소량 검증
      */
     @Test
     public void testFrightenedTimeReduction() {
@@ -252,7 +280,7 @@ public class LevelFeatureTest {
     }
 
     /**
-     * 테스트 16: 깜빡임 시작 시점 (70% 지점)
+     * 테스트 17: 깜빡임 시작 시점 (70% 지점)
      */
     @Test
     public void testWarningTime() {
@@ -269,7 +297,7 @@ public class LevelFeatureTest {
     // ==================== Game 레벨 적용 테스트 (4개) ====================
 
     /**
-     * 테스트 17: 레벨별 Strategy 생성
+     * 테스트 18: 레벨별 Strategy 생성
      */
     @Test
     public void testLevelStrategyCreation() {
@@ -284,11 +312,11 @@ public class LevelFeatureTest {
     }
 
     /**
-     * 테스트 18: 레벨별 Decorator 적용 확인
+     * 테스트 19: 레벨별 효과 적용 확인
      */
     @Test
-    public void testDecoratorApplicationByLevel() {
-        // Level 1: 특수 Decorator 없음
+    public void testEffectApplicationByLevel() {
+        // Level 1: 특수 효과 없음
         assertFalse("Level 1: 순간이동 없음", level1Strategy.getTeleportInterval() > 0);
         assertFalse("Level 1: 투명화 없음", level1Strategy.getInvisibleInterval() > 0);
 
@@ -302,7 +330,7 @@ public class LevelFeatureTest {
     }
 
     /**
-     * 테스트 19: 레벨 진행에 따른 난이도 증가 확인
+     * 테스트 20: 레벨 진행에 따른 난이도 증가 확인
      */
     @Test
     public void testDifficultyProgression() {
@@ -328,19 +356,20 @@ public class LevelFeatureTest {
     }
 
     /**
-     * 테스트 20: 통합 테스트 - 레벨 3 전체 설정
+     * 테스트 21: 통합 테스트 - 레벨 3 전체 설정
      */
     @Test
     public void testLevel3FullConfiguration() {
-        // Ghost 생성 및 Decorator 적용
+        // Ghost 생성 및 효과 적용
         Ghost ghost = new Blinky(100, 100);
-        ghost = new SpeedBoostGhostDecorator(ghost, level3Strategy);
-        ghost = new TeleportGhostDecorator(ghost, level3Strategy);
-        ghost = new InvisibleGhostDecorator(ghost, level3Strategy);
+        ghost.addEffect(new SpeedBoostGhostEffect(ghost, level3Strategy));
+        ghost.addEffect(new TeleportGhostEffect(ghost, level3Strategy, random.get(GameRandom.Subsystem.TELEPORT)));
+        ghost.addEffect(new InvisibleGhostEffect(ghost, level3Strategy));
 
         // 설정 확인
         assertNotNull("Ghost 생성됨", ghost);
         assertEquals("위치 보존", 100, ghost.getxPos());
+        assertEquals("효과 3개", 3, ghost.getEffects().size());
 
         // Level 3 Strategy 설정값 확인
         assertEquals("속도 증가율 0.2", 0.2, level3Strategy.getSpeedIncreaseRate(), 0.001);
@@ -357,8 +386,8 @@ public class LevelFeatureTest {
     private LevelStrategy createLevelStrategy(int gameLevel) {
         switch (gameLevel) {
             case 1: return new Level1Strategy();
-            case 2: return new Level2Strategy();
-            case 3: return new Level3Strategy();
+            case 2: return new Level2Strategy(random.get(GameRandom.Subsystem.LEVEL));
+            case 3: return new Level3Strategy(random.get(GameRandom.Subsystem.LEVEL));
             default: return new Level1Strategy();
         }
     }
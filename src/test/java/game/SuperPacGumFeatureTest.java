@@ -2,13 +2,15 @@ package game;
 
 import game.Game;
 import game.entities.Entity;
+import game.entities.PacGum;
 import game.entities.Pacman;
-import game.entities.ghostDecorator.SlowGhostDecorator;
+import game.entities.ghostEffects.SlowGhostEffect;
 import game.entities.ghosts.Ghost;
-import game.entities.pacmanDecorator.FastPacmanDecorator;
-import game.entities.pacmanDecorator.SheildPacmanDecorator;
+import game.entities.pacmanEffects.FastPacmanEffect;
+import game.entities.pacmanEffects.SheildPacmanEffect;
 import game.entities.superPacGums.*;
 import game.utils.CollisionDetector;
+import game.utils.Contacts;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -23,6 +25,7 @@ public class SuperPacGumFeatureTest {
 
     @Before
     public void setUp() {
+        Game.reset(); // 효과 지속시간은 Game 의 타이머 휠이 셈
         Game.setFirstInput(false);
         // 기본 Pacman, Ghost, CollisionDetector 초기화
         rawPacman = new TestPacman(100, 100);
@@ -35,41 +38,41 @@ public class SuperPacGumFeatureTest {
     @Test
     public void testFastPacmanFeature() {
         int speedRatio = 2;
-        FastPacmanDecorator fastPacman = new FastPacmanDecorator(rawPacman, speedRatio);
+        rawPacman.addEffect(new FastPacmanEffect(rawPacman, speedRatio));
 
         // 속도 테스트를 위해 xSpd를 설정
         rawPacman.setXSpd(2);
 
         int baseSpeed = rawPacman.getSpd(); // 기본 속도 (보통 2)
-        Assert.assertEquals("Initially speed should be normal.", baseSpeed, fastPacman.getSpd());
+        Assert.assertEquals("Initially speed should be normal.", baseSpeed, rawPacman.getMoveSpd());
 
         // SuperPacGum 섭취
-        fastPacman.superPacGumEaten(new StubFastSPG());
+        rawPacman.superPacGumEaten(new StubFastSPG());
 
-        // Decorator 로직: if(flag & pacman.onTheGrid()) -> TestPacman은 onTheGrid 항상 true
-        Assert.assertEquals("Speed should be doubled after eating SPG.", baseSpeed * speedRatio, fastPacman.getSpd());
-        Assert.assertEquals("X Speed should be doubled.", rawPacman.getxSpd() * speedRatio, fastPacman.getxSpd());
+        // 속도 효과는 onTheGrid() 일 때만 적용 -> TestPacman은 onTheGrid 항상 true
+        Assert.assertEquals("Speed should be doubled after eating SPG.", baseSpeed * speedRatio, rawPacman.getMoveSpd());
+        Assert.assertEquals("X Speed should be doubled.", rawPacman.getxSpd() * speedRatio, rawPacman.getMoveXSpd());
 
         // 지속시간(5초 = 300프레임) 테스트
-        // 299번 업데이트 (Timer: 0 -> 299)
+        // 299 틱 진행
         for (int i = 0; i < 299; i++) {
-            fastPacman.before_updatePosition();
+            Game.getTimers().advance();
         }
 
-        Assert.assertEquals("Should still be fast just before timer ends.", baseSpeed * speedRatio, fastPacman.getSpd());
+        Assert.assertEquals("Should still be fast just before timer ends.", baseSpeed * speedRatio, rawPacman.getMoveSpd());
 
-        // 300번째 업데이트 (Timer 299 -> 300 -> flag false)
-        fastPacman.before_updatePosition();
-        Assert.assertEquals("Speed should return to normal after 5 seconds.", baseSpeed, fastPacman.getSpd());
+        // 300번째 틱에서 효과 만료
+        Game.getTimers().advance();
+        Assert.assertEquals("Speed should return to normal after 5 seconds.", baseSpeed, rawPacman.getMoveSpd());
     }
 
     @Test
     public void testSheildPacmanFeature() {
-        SheildPacmanDecorator sheildPacman = new SheildPacmanDecorator(rawPacman, collisionDetector);
+        rawPacman.addEffect(new SheildPacmanEffect(rawPacman));
 
         // 시나리오 1: 쉴드 없이 유령 충돌
         collisionDetector.setReturnObject(rawGhost);
-        sheildPacman.before_updatePosition(); // 충돌 감지 로직 실행
+        rawPacman.before_updatePosition(); // 충돌 감지 로직 실행
 
         Assert.assertTrue("Initially, ghost collision should notify observer.", rawPacman.ghostCollisionNotified);
 
@@ -77,68 +80,99 @@ public class SuperPacGumFeatureTest {
         rawPacman.ghostCollisionNotified = false;
 
         // 시나리오 2: 쉴드 아이템 섭취
-        sheildPacman.superPacGumEaten(new StubSheildSPG());
+        rawPacman.superPacGumEaten(new StubSheildSPG());
 
         // 충돌 발생 시도
-        sheildPacman.before_updatePosition();
+        rawPacman.before_updatePosition();
         Assert.assertFalse("With Shield, ghost collision should NOT notify observer.", rawPacman.ghostCollisionNotified);
 
         // 시나리오 3: 시간 경과 후 쉴드 해제
         // 300프레임 경과
         for (int i = 0; i < 300; i++) {
-            sheildPacman.before_updatePosition();
+            Game.getTimers().advance();
         }
 
         // 쉴드 해제 후 업데이트 -> 충돌 감지 재개
-        sheildPacman.before_updatePosition();
+        rawPacman.before_updatePosition();
         Assert.assertTrue("After timer, ghost collision should notify observer again.", rawPacman.ghostCollisionNotified);
     }
 
     @Test
-    public void testSlowGhostFeature() {
-        int slowRatio = 2; // 2번에 1번만 움직임
-        SlowGhostDecorator slowGhost = new SlowGhostDecorator(rawGhost, slowRatio);
-        int moveSpeed = 2;
+    public void testPacmanEffectsStackIndependently() {
+        rawPacman.addEffect(new SheildPacmanEffect(rawPacman));
+        rawPacman.addEffect(new FastPacmanEffect(rawPacman, 2));
+        int baseSpeed = rawPacman.getSpd();
 
-        // 아이템 섭취
-        slowGhost.superPacGumEaten(new StubSlowSPG());
+        // 쉴드만 먹은 상태: 속도는 그대로, 유령 충돌은 무시
+        rawPacman.superPacGumEaten(new StubSheildSPG());
+        collisionDetector.setReturnObject(rawGhost);
+        rawPacman.before_updatePosition();
+        Assert.assertEquals("Shield alone should not change speed.", baseSpeed, rawPacman.getMoveSpd());
+        Assert.assertFalse("Shield should block ghost collision.", rawPacman.ghostCollisionNotified);
 
-        int startX = slowGhost.getxPos();
+        // 속도 아이템을 150프레임 뒤에 먹으면 두 효과가 각자의 타이머로 동시에 켜져 있음
+        for (int i = 0; i < 150; i++) {
+            Game.getTimers().advance();
+        }
+        rawPacman.superPacGumEaten(new StubFastSPG());
+        Assert.assertEquals("Both effects active: speed doubled.", baseSpeed * 2, rawPacman.getMoveSpd());
 
-        // Frame 0: timer=0. 0%2 == 0 -> 이동함
-        slowGhost.updatePosition(moveSpeed, 0, moveSpeed);
-        slowGhost.before_updatePosition(); // Timer becomes 1
+        // 쉴드가 먼저 끝나고 (300프레임) 속도 효과는 남아 있음
+        for (int i = 0; i < 150; i++) {
+            Game.getTimers().advance();
+        }
+        rawPacman.before_updatePosition();
+        Assert.assertTrue("Shield expired: ghost collision notified.", rawPacman.ghostCollisionNotified);
+        Assert.assertEquals("Fast effect still active.", baseSpeed * 2, rawPacman.getMoveSpd());
+    }
 
-        Assert.assertEquals("Frame 0: Should move.", startX + moveSpeed, slowGhost.getxPos());
+    @Test
+    public void testSlowGhostFeature() {
+        int slowRatio = 2; // 2번에 1번만 움직임
+        rawGhost.addEffect(new SlowGhostEffect(rawGhost, slowRatio));
+        int moveSpeed = 2;
 
-        startX = slowGhost.getxPos();
+        // 아이템 섭취
+        rawGhost.superPacGumEaten(new StubSlowSPG());
 
-        // Frame 1: timer=1. 1%2 != 0 -> 이동 안 함
-        slowGhost.updatePosition(moveSpeed, 0, moveSpeed);
-        slowGhost.before_updatePosition(); // Timer becomes 2
+        int startX = rawGhost.getxPos();
 
-        Assert.assertEquals("Frame 1: Should SKIP move.", startX, slowGhost.getxPos());
+        // Frame 0 (먹은 틱, Pacman 이 먼저 갱신됨): elapsed=0. (0+1)%2 != 0 -> 이동 안 함
+        moveIfAllowed(rawGhost, moveSpeed);
+        Assert.assertEquals("Frame 0: Should SKIP move.", startX, rawGhost.getxPos());
 
-        startX = slowGhost.getxPos();
+        // Frame 1: elapsed=1. (1+1)%2 == 0 -> 이동함
+        Game.getTimers().advance();
+        moveIfAllowed(rawGhost, moveSpeed);
+        Assert.assertEquals("Frame 1: Should move.", startX + moveSpeed, rawGhost.getxPos());
 
-        // Frame 2: timer=2. 2%2 == 0 -> 이동함
-        slowGhost.updatePosition(moveSpeed, 0, moveSpeed);
+        startX = rawGhost.getxPos();
 
-        Assert.assertEquals("Frame 2: Should move again.", startX + moveSpeed, slowGhost.getxPos());
+        // Frame 2: elapsed=2 -> 이동 안 함
+        Game.getTimers().advance();
+        moveIfAllowed(rawGhost, moveSpeed);
+        Assert.assertEquals("Frame 2: Should SKIP move.", startX, rawGhost.getxPos());
 
         // 시간 경과 (7초 = 420프레임)
         for(int i=0; i<420; i++) {
-            slowGhost.before_updatePosition();
+            Game.getTimers().advance();
         }
 
         // 효과 종료 후 정상 이동 확인
-        startX = slowGhost.getxPos();
-        slowGhost.updatePosition(moveSpeed, 0, moveSpeed);
-        Assert.assertEquals("Should move normal 1.", startX + moveSpeed, slowGhost.getxPos());
+        startX = rawGhost.getxPos();
+        moveIfAllowed(rawGhost, moveSpeed);
+        Assert.assertEquals("Should move normal 1.", startX + moveSpeed, rawGhost.getxPos());
 
-        startX = slowGhost.getxPos();
-        slowGhost.updatePosition(moveSpeed, 0, moveSpeed);
-        Assert.assertEquals("Should move normal 2.", startX + moveSpeed, slowGhost.getxPos());
+        startX = rawGhost.getxPos();
+        moveIfAllowed(rawGhost, moveSpeed);
+        Assert.assertEquals("Should move normal 2.", startX + moveSpeed, rawGhost.getxPos());
+    }
+
+    //MovingEntity.update() 와 같은 조건으로 이동 (효과가 막으면 이동하지 않음)
+    private void moveIfAllowed(Ghost ghost, int moveSpeed) {
+        if (ghost.updatePositionCondition()) {
+            ghost.updatePosition(moveSpeed, 0, moveSpeed);
+        }
     }
 
     // =========================================================
@@ -147,7 +181,7 @@ public class SuperPacGumFeatureTest {
 
     /**
      * 테스트용 Pacman 구현체
-     * - onTheGrid()를 강제로 true로 설정하여 Decorator 로직 테스트 용이하게 함
+     * - onTheGrid()를 강제로 true로 설정하여 속도 효과 테스트 용이하게 함
      * - Observer 알림 여부를 저장하는 플래그 추가
      */
     private class TestPacman extends Pacman {
@@ -162,7 +196,7 @@ public class SuperPacGumFeatureTest {
 
         public void setXSpd(int xSpd) { this.xSpd = xSpd; }
 
-        // FastPacmanDecorator에서 onTheGrid()가 true여야 속도가 증가함
+        // FastPacmanEffect는 onTheGrid()가 true여야 속도가 증가함
         @Override
         public boolean onTheGrid() {
             return true;
@@ -210,16 +244,26 @@ public class SuperPacGumFeatureTest {
         }
 
         @Override
-        public Entity checkCollision(Entity e, Class type) {
-            // 설정된 객체가 요청된 타입(PacGum, SuperPacGum, Ghost)과 일치하면 반환
-            if (returnObject != null && type.isAssignableFrom(returnObject.getClass())) {
+        public Entity checkCollision(Entity e, int layerMask) {
+            // 설정된 객체가 요청된 충돌 레이어(Ghost 등)와 일치하면 반환
+            if (returnObject != null && (returnObject.getCollisionLayer() & layerMask) != 0) {
                 return (Entity) returnObject;
             }
             return null;
         }
 
         @Override
-        public Entity checkCollisionRect(Entity obj, Class<? extends Entity> collisionCheck) {
+        public Contacts checkContacts(Entity e, Contacts out) {
+            // 설정된 객체를 종류에 맞는 접촉 슬롯에 담아 반환
+            out.clear();
+            if (returnObject instanceof PacGum) out.pacGum = (PacGum) returnObject;
+            if (returnObject instanceof SuperPacGum) out.superPacGum = (SuperPacGum) returnObject;
+            if (returnObject instanceof Ghost) out.ghost = (Ghost) returnObject;
+            return out;
+        }
+
+        @Override
+        public Entity checkCollisionRect(Entity obj, int layerMask) {
             return null;
         }
     }
@@ -0,0 +1,61 @@
+package game.engine;
+
+import game.gameStates.PlayingState;
+import game.level.CompiledLevel;
+import game.level.LevelCache;
+import game.utils.SpriteCache;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+public class AssetPreloaderTest {
+
+    @Test
+    public void testLevelIsCompiledOffThreadAndHandedOver() throws Exception {
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        CompletableFuture<CompiledLevel> pending = preloader.preloadLevel("default_map");
+        CompiledLevel level = preloader.levelReady("default_map").get(10, TimeUnit.SECONDS);
+
+        Assert.assertSame(pending.get(), level);
+        Assert.assertSame("Game builds from the same cached level", level, LevelCache.getInstance().get("default_map"));
+        Assert.assertSame("Static layer is already drawn",
+                level.getStaticLayer(PlayingState.WIDTH, PlayingState.HEIGHT),
+                level.getStaticLayer(PlayingState.WIDTH, PlayingState.HEIGHT));
+    }
+
+    @Test
+    public void testSpritesAreWarmedOnce() throws Exception {
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        preloader.spritesReady().get(10, TimeUnit.SECONDS);
+        Assert.assertSame(preloader.spritesReady(), preloader.spritesReady());
+        Assert.assertNotNull(SpriteCache.getImage("pacman.png"));
+    }
+
+    @Test
+    public void testMissingMapFailsTheFutureAndIsRetried() throws Exception {
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        CompletableFuture<CompiledLevel> first = preloader.levelReady("no_such_map");
+        try {
+            first.get(10, TimeUnit.SECONDS);
+            Assert.fail("Missing map should fail");
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof RuntimeException);
+        }
+        Assert.assertNotSame("Failed preload is retried", first, preloader.levelReady("no_such_map"));
+    }
+
+    @Test
+    public void testOnlyLatestLevelIsHeld() throws Exception {
+        AssetPreloader preloader = AssetPreloader.getInstance();
+        CompletableFuture<CompiledLevel> first = preloader.preloadLevel("default_map");
+        first.get(10, TimeUnit.SECONDS);
+        preloader.preloadLevel("custom_map_001").get(10, TimeUnit.SECONDS);
+        // 앞서 넘긴 맵은 붙잡아 두지 않음 ; 다시 요청하면 LevelCache 에서 새로 받음
+        CompletableFuture<CompiledLevel> again = preloader.levelReady("default_map");
+        Assert.assertNotSame(first, again);
+        Assert.assertSame(first.get(), again.get(10, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,79 @@
+package game.engine;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FrameSchedulerTest {
+
+    private static final long PERIOD = 1_000_000L; // 1000Hz -> 1ms
+
+    private long now;
+    private FrameScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        now = 0;
+        scheduler = new FrameScheduler(1000.0, 3, 0, () -> now);
+        scheduler.start();
+    }
+
+    @Test
+    public void testOneTickPerPeriod() {
+        Assert.assertEquals(1, scheduler.ticksDue());
+        Assert.assertEquals(0, scheduler.ticksDue());
+
+        now += PERIOD / 2;
+        Assert.assertEquals(0, scheduler.ticksDue());
+
+        now += PERIOD / 2;
+        Assert.assertEquals(1, scheduler.ticksDue());
+        Assert.assertEquals(0, scheduler.getMissedDeadlines());
+        Assert.assertEquals(2, scheduler.getTicks());
+    }
+
+    @Test
+    public void testCatchUpIsBounded() {
+        scheduler.ticksDue();
+
+        // 10틱 늦음 -> 최대 3틱만 따라잡고 나머지는 버림
+        now += 10 * PERIOD;
+        Assert.assertEquals(3, scheduler.ticksDue());
+        Assert.assertEquals(1, scheduler.getMissedDeadlines());
+        Assert.assertEquals(7, scheduler.getDroppedTicks());
+
+        // 버린 틱은 다시 실행되지 않고 위상은 유지됨
+        Assert.assertEquals(0, scheduler.ticksDue());
+        now += PERIOD;
+        Assert.assertEquals(1, scheduler.ticksDue());
+    }
+
+    @Test
+    public void testSmallDelayIsCaughtUp() {
+        scheduler.ticksDue();
+
+        now += 2 * PERIOD + PERIOD / 2;
+        Assert.assertEquals(2, scheduler.ticksDue());
+        Assert.assertEquals(1, scheduler.getMissedDeadlines());
+        Assert.assertEquals(0, scheduler.getDroppedTicks());
+    }
+
+    @Test
+    public void testAwaitReturnsAtDeadline() {
+        FrameScheduler real = new FrameScheduler(500.0, 1);
+        real.start();
+        real.ticksDue();
+
+        long before = System.nanoTime();
+        real.awaitNextTick();
+        long waited = System.nanoTime() - before;
+
+        Assert.assertTrue("waited " + waited, waited >= 1_900_000L);
+        Assert.assertTrue(real.ticksDue() >= 1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testRejectsZeroCatchUp() {
+        new FrameScheduler(60.0, 0);
+    }
+}
@@ -0,0 +1,80 @@
+package game.engine;
+
+import game.Game;
+import game.utils.ProgrammaticInput;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+public class HeadlessGameTest {
+
+    @BeforeClass
+    public static void quiet() {
+        Game.setVerbose(false);
+    }
+
+    @AfterClass
+    public static void restore() {
+        Game.setVerbose(true);
+    }
+
+    @After
+    public void tearDown() {
+        Game.reset();
+    }
+
+    @Test
+    public void testMapDimensionsComeFromCsv() {
+        HeadlessGame sim = new HeadlessGame("default_map", 1, 0, new ProgrammaticInput());
+        Assert.assertEquals(56 * 8, Game.getWidth());
+        Assert.assertEquals(62 * 8, Game.getHeight());
+        Assert.assertFalse(sim.getGame().isGameOver());
+        Assert.assertTrue(sim.getGame().getRemainingPellets() > 0);
+    }
+
+    @Test
+    public void testNoInputTimesOut() {
+        // 입력이 없으면 고스트도 움직이지 않으므로 아무 일도 일어나지 않아야 함
+        HeadlessGame sim = new HeadlessGame("default_map", 1, 0, new ProgrammaticInput());
+        int remaining = sim.getGame().getRemainingPellets();
+
+        SimulationResult result = sim.run(600);
+
+        Assert.assertEquals(SimulationResult.Outcome.TIMEOUT, result.getOutcome());
+        Assert.assertEquals(600, result.getTicks());
+        Assert.assertEquals(0, result.getScore());
+        Assert.assertEquals(remaining, result.getRemainingPellets());
+    }
+
+    @Test
+    public void testMovingPacmanEatsPellets() {
+        ProgrammaticInput input = new ProgrammaticInput();
+        input.setState(ProgrammaticInput.LEFT);
+        HeadlessGame sim = new HeadlessGame("default_map", 1, 0, input);
+        int remaining = sim.getGame().getRemainingPellets();
+
+        for (int i = 0; i < 60; i++) {
+            sim.step();
+        }
+
+        Assert.assertTrue(Game.getFirstInput());
+        Assert.assertTrue(sim.getGame().getRemainingPellets() < remaining);
+        Assert.assertEquals((remaining - sim.getGame().getRemainingPellets()) * 10, sim.getGame().getScore());
+    }
+
+    @Test
+    public void testSameSeedSameResult() {
+        // 레벨 3 은 순간이동 / 투명화 주기와 SuperPacGum 종류가 모두 난수라 seed 로만 재현 가능
+        for (long seed = 0; seed < 5; seed++) {
+            SimulationResult first = new HeadlessGame("default_map", 3, seed, new RandomWalkInput(seed)).run(5000);
+            SimulationResult second = new HeadlessGame("default_map", 3, seed, new RandomWalkInput(seed)).run(5000);
+
+            Assert.assertEquals(first.getOutcome(), second.getOutcome());
+            Assert.assertEquals(first.getTicks(), second.getTicks());
+            Assert.assertEquals(first.getScore(), second.getScore());
+            Assert.assertEquals(first.getRemainingPellets(), second.getRemainingPellets());
+        }
+    }
+}
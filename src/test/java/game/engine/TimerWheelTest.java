@@ -0,0 +1,148 @@
+package game.engine;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+public class TimerWheelTest {
+
+    @Test
+    public void testFiresExactlyAtDeadlineOnEveryLevel() {
+        int[] delays = {1, 2, 63, 64, 65, 100, 4095, 4096, 4097, 262143, 262144, 300000};
+        int[] offsets = {0, 37, 4090, 262140};
+        for (int offset : offsets) {
+            TimerWheel wheel = new TimerWheel();
+            for (int i = 0; i < offset; i++) wheel.advance();
+
+            long[] firedAt = new long[delays.length];
+            for (int i = 0; i < delays.length; i++) {
+                int index = i;
+                wheel.schedule(delays[i], () -> firedAt[index] = wheel.getTick());
+            }
+            for (int i = 0; i <= delays[delays.length - 1]; i++) wheel.advance();
+
+            for (int i = 0; i < delays.length; i++) {
+                Assert.assertEquals("offset " + offset + ", delay " + delays[i], offset + delays[i], firedAt[i]);
+            }
+        }
+    }
+
+    @Test
+    public void testMatchesBruteForceWithCancelAndReschedule() {
+        SplittableRandom random = new SplittableRandom(42);
+        TimerWheel wheel = new TimerWheel();
+        int count = 2000;
+        long[] expected = new long[count];
+        long[] actual = new long[count];
+        List<TimerWheel.Timer> timers = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            int index = i;
+            TimerWheel.Timer timer = wheel.newTimer(() -> actual[index] = wheel.getTick());
+            int delay = 1 + random.nextInt(20000);
+            wheel.schedule(timer, delay);
+            expected[i] = delay;
+            timers.add(timer);
+        }
+
+        for (int t = 1; t <= 25000; t++) {
+            wheel.advance();
+            //틱마다 몇 개씩 취소하거나 다시 등록
+            int i = random.nextInt(count);
+            TimerWheel.Timer timer = timers.get(i);
+            if (!timer.isPending()) continue;
+            if (random.nextInt(4) == 0) {
+                wheel.cancel(timer);
+                expected[i] = 0;
+            } else {
+                int delay = 1 + random.nextInt(5000);
+                wheel.schedule(timer, delay);
+                expected[i] = t + delay;
+            }
+        }
+        for (int i = 0; i < 5000; i++) wheel.advance();
+
+        Assert.assertArrayEquals(expected, actual);
+    }
+
+    @Test
+    public void testTimerBeyondTopLevelFires() {
+        TimerWheel wheel = new TimerWheel();
+        int delay = (1 << 24) + 5;
+        long[] firedAt = {0};
+        wheel.schedule(delay, () -> firedAt[0] = wheel.getTick());
+        for (int i = 0; i < delay + 10; i++) wheel.advance();
+        Assert.assertEquals(delay, firedAt[0]);
+    }
+
+    @Test
+    public void testSameTickFiresInScheduleOrder() {
+        TimerWheel wheel = new TimerWheel();
+        StringBuilder order = new StringBuilder();
+        wheel.schedule(100, () -> order.append('a'));
+        wheel.schedule(100, () -> order.append('b'));
+        wheel.schedule(100, () -> order.append('c'));
+        for (int i = 0; i < 100; i++) wheel.advance();
+        Assert.assertEquals("abc", order.toString());
+    }
+
+    @Test
+    public void testRemainingElapsedAndCancel() {
+        TimerWheel wheel = new TimerWheel();
+        int[] fired = {0};
+        TimerWheel.Timer timer = wheel.newTimer(() -> fired[0]++);
+        Assert.assertFalse(timer.isPending());
+
+        wheel.schedule(timer, 10);
+        for (int i = 0; i < 4; i++) wheel.advance();
+        Assert.assertTrue(timer.isPending());
+        Assert.assertEquals(6, timer.getRemaining());
+        Assert.assertEquals(4, timer.getElapsed());
+
+        wheel.cancel(timer);
+        for (int i = 0; i < 20; i++) wheel.advance();
+        Assert.assertEquals("Cancelled timer should not fire", 0, fired[0]);
+
+        //콜백에서 자기 자신을 다시 등록하면 주기 타이머
+        TimerWheel.Timer[] periodic = new TimerWheel.Timer[1];
+        periodic[0] = wheel.newTimer(() -> {
+            fired[0]++;
+            wheel.schedule(periodic[0], 5);
+        });
+        wheel.schedule(periodic[0], 5);
+        for (int i = 0; i < 50; i++) wheel.advance();
+        Assert.assertEquals(10, fired[0]);
+    }
+
+    @Test
+    public void testPauseAndTimeScale() {
+        TimerWheel wheel = new TimerWheel();
+        int[] fired = {0};
+        wheel.schedule(10, () -> fired[0]++);
+
+        wheel.setPaused(true);
+        for (int i = 0; i < 100; i++) wheel.advance();
+        Assert.assertEquals("Paused wheel should not progress", 0, wheel.getTick());
+        wheel.setPaused(false);
+
+        wheel.setTimeScale(0.5);
+        for (int i = 0; i < 19; i++) wheel.advance();
+        Assert.assertEquals(0, fired[0]);
+        wheel.advance();
+        Assert.assertEquals("Half speed: 10 ticks take 20 advances", 1, fired[0]);
+
+        wheel.setTimeScale(2.0);
+        wheel.schedule(10, () -> fired[0]++);
+        for (int i = 0; i < 5; i++) wheel.advance();
+        Assert.assertEquals("Double speed: 10 ticks take 5 advances", 2, fired[0]);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testTimerFromAnotherWheelIsRejected() {
+        TimerWheel.Timer timer = new TimerWheel().newTimer(() -> {});
+        new TimerWheel().schedule(timer, 1);
+    }
+}
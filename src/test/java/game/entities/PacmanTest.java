@@ -6,6 +6,7 @@ import game.entities.ghosts.Ghost;
 import game.entities.superPacGums.PacmanSuperPacGum;
 import game.entities.superPacGums.SuperPacGum;
 import game.utils.CollisionDetector;
+import game.utils.Contacts;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -161,13 +162,23 @@ public class PacmanTest {
         }
 
         @Override
-        public Entity checkCollision(Entity e, Class type) {
-            // 설정된 객체가 요청된 타입(PacGum, SuperPacGum, Ghost)과 일치하면 반환
-            if (returnObject != null && type.isAssignableFrom(returnObject.getClass())) {
+        public Entity checkCollision(Entity e, int layerMask) {
+            // 설정된 객체가 요청된 충돌 레이어(Ghost 등)와 일치하면 반환
+            if (returnObject != null && (returnObject.getCollisionLayer() & layerMask) != 0) {
                 return (Entity) returnObject;
             }
             return null;
         }
+
+        @Override
+        public Contacts checkContacts(Entity e, Contacts out) {
+            // 설정된 객체를 종류에 맞는 접촉 슬롯에 담아 반환
+            out.clear();
+            if (returnObject instanceof PacGum) out.pacGum = (PacGum) returnObject;
+            if (returnObject instanceof SuperPacGum) out.superPacGum = (SuperPacGum) returnObject;
+            if (returnObject instanceof Ghost) out.ghost = (Ghost) returnObject;
+            return out;
+        }
     }
 
     /**
@@ -10,6 +10,7 @@ import game.entities.superPacGums.FrightenedGhostSuperPacGum;
 import game.entities.superPacGums.GhostSuperPacGum;
 import game.entities.superPacGums.SuperPacGum;
 import game.ghostStates.*;
+import game.utils.GameRandom;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
@@ -28,6 +29,7 @@ public class GhostTest {
     public void setUp() {
         // Game의 상태 초기화 (Game 클래스의 static 상태에 의존하므로 초기화 필요)
         // 주의: 실제 Game 클래스의 구현에 따라 이 부분은 조정이 필요할 수 있습니다.
+        Game.reset(); // 타이머 휠 / chase-scatter 일정도 새로 시작
         Game.setFirstInput(false);
         Game.setGameLevel(1);
 
@@ -66,9 +68,9 @@ public class GhostTest {
         ghost.switchScatterMode(); // 시작은 Scatter
         Assert.assertFalse("Initial isChasing should be false", ghost.isChasing());
 
-        // ScatterMode는 5초(300프레임) 지속됨
+        // ScatterMode는 5초(300프레임) 지속됨 (타이머는 Game 의 타이머 휠이 진행)
         for (int i = 0; i < 300; i++) {
-            ghost.before_updatePosition();
+            Game.getTimers().advance();
         }
 
         // 300프레임 이후 isChasing 플래그가 true로 반전되어야 함 (ChaseMode 전환 준비)
@@ -84,12 +86,12 @@ public class GhostTest {
 
         // 419 프레임까지는 Frightened 모드 유지
         for (int i = 0; i < 419; i++) {
-            ghost.before_updatePosition();
+            Game.getTimers().advance();
         }
         Assert.assertTrue("Should still be in FrightenedMode", ghost.getState() instanceof FrightenedMode);
 
         // 420번째 프레임에서 상태 종료 (timerFrightenedModeOver 호출됨)
-        ghost.before_updatePosition();
+        Game.getTimers().advance();
 
         // 주의: FrightenedMode가 끝나면 로직에 따라 Chase나 Scatter로 변경됨.
         // 여기서는 FrightenedMode가 아니라는 것만 검증
@@ -109,7 +111,7 @@ public class GhostTest {
 
         // 감소된 시간(약 252프레임)보다 조금 더 돌려봄
         for (int i = 0; i < 255; i++) {
-            ghost.before_updatePosition();
+            Game.getTimers().advance();
         }
 
         Assert.assertFalse("Should exit FrightenedMode earlier due to level strategy",
@@ -123,7 +125,7 @@ public class GhostTest {
         ghost.switchScatterMode(); // 다른 모드 상태
 
         // 아이템 섭취 시뮬레이션
-        // 주의: Ghost.superPacGumEaten 내부 로직에서 frightenedTimer = 0 으로 초기화하고 상태를 변경함
+        // 주의: Ghost.superPacGumEaten 내부 로직에서 상태를 변경하고 frightenedTimer 를 처음부터 다시 시작함
         ghost.superPacGumEaten(spg);
 
         Assert.assertEquals("Frightened timer should reset to 0", 0, ghost.getFrightenedTimer());
@@ -150,14 +152,9 @@ public class GhostTest {
             // 이미지 로딩 실패해도 테스트는 돌아가도록 try-catch가 부모 생성자에 있음
         }
 
-        // protected 필드인 isChasing을 테스트에서 확인하기 위한 Public Wrapper
-        public boolean isChasing() {
-            return this.isChasing;
-        }
-
-        // protected 필드인 frightenedTimer를 테스트에서 확인하기 위한 Public Wrapper
+        // 해산(Frightened) 상태가 시작된 뒤 흐른 프레임
         public int getFrightenedTimer() {
-            return this.frightenedTimer;
+            return getFrightenedTime();
         }
 
         @Override
@@ -168,10 +165,10 @@ public class GhostTest {
                     levelStrategy = new Level1Strategy();
                     break;
                 case 2:
-                    levelStrategy = new Level2Strategy();
+                    levelStrategy = new Level2Strategy(new GameRandom(0).get(GameRandom.Subsystem.LEVEL));
                     break;
                 case 3:
-                    levelStrategy = new Level3Strategy();
+                    levelStrategy = new Level3Strategy(new GameRandom(0).get(GameRandom.Subsystem.LEVEL));
                     break;
                 default:
                     levelStrategy = new Level1Strategy();
@@ -0,0 +1,72 @@
+package game.ghostStrategies;
+
+import game.Game;
+import game.engine.HeadlessGame;
+import game.entities.Pacman;
+import game.entities.ghosts.Blinky;
+import game.entities.ghosts.Clyde;
+import game.utils.ProgrammaticInput;
+import game.utils.TargetPoint;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class GhostStrategyTest {
+
+    private Pacman pacman;
+    private final TargetPoint target = new TargetPoint();
+
+    @Before
+    public void setUp() {
+        Game.setVerbose(false);
+        new HeadlessGame("default_map", 1, 0, new ProgrammaticInput());
+        pacman = Game.getPacman();
+        pacman.setPosition(100, 200);
+    }
+
+    @After
+    public void tearDown() {
+        Game.reset();
+        Game.setVerbose(true);
+    }
+
+    @Test
+    public void testPinkyTargetsAheadOfPacman() {
+        PinkyStrategy pinky = new PinkyStrategy();
+        pacman.setDirection(0); // 오른쪽
+        pinky.getChaseTargetPosition(target);
+        Assert.assertEquals(164, target.x);
+        Assert.assertEquals(200, target.y);
+
+        pacman.setDirection(1); // 왼쪽
+        pinky.getChaseTargetPosition(target);
+        Assert.assertEquals(36, target.x);
+        Assert.assertEquals(200, target.y);
+    }
+
+    @Test
+    public void testInkyMirrorsBlinkyAroundPacmanFront() {
+        Blinky blinky = Game.getBlinky();
+        blinky.setPosition(50, 120);
+        pacman.setDirection(0);
+        new InkyStrategy(blinky).getChaseTargetPosition(target);
+        // Pacman 앞 한 칸 (132, 200) 에서 Blinky 까지의 벡터를 반대로 더함
+        Assert.assertEquals(2 * 132 - 50, target.x);
+        Assert.assertEquals(2 * 200 - 120, target.y);
+    }
+
+    @Test
+    public void testClydeRetreatsWithinEightCells() {
+        Clyde clyde = new Clyde(100, 200 - 255);
+        ClydeStrategy strategy = new ClydeStrategy(clyde);
+        strategy.getChaseTargetPosition(target);
+        Assert.assertEquals("Within 256px: scatter corner", 0, target.x);
+        Assert.assertEquals(Game.getHeight(), target.y);
+
+        clyde.setPosition(100, 200 - 256);
+        strategy.getChaseTargetPosition(target);
+        Assert.assertEquals("At 256px: chase Pacman", 100, target.x);
+        Assert.assertEquals(200, target.y);
+    }
+}
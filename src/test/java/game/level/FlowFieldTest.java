@@ -0,0 +1,85 @@
+package game.level;
+
+import game.Game;
+import game.engine.HeadlessGame;
+import game.entities.ghosts.Ghost;
+import game.ghostStates.HouseMode;
+import game.utils.ProgrammaticInput;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class FlowFieldTest {
+
+    @After
+    public void tearDown() {
+        Game.reset();
+        Game.setVerbose(true);
+    }
+
+    @Test
+    public void testDistancesAreShortestPaths() {
+        // 3x3 맵 가운데만 벽 ; 모서리끼리는 둘레를 따라 4칸
+        WallGrid walls = new WallGrid(3, 3);
+        walls.setWall(1, 1);
+        NavGraph nav = new NavGraph(walls, 8, 2);
+        FlowField field = nav.getFlowField(0, 0, false);
+
+        Assert.assertEquals(0, field.getDistance(0, 0));
+        Assert.assertEquals(2, field.getDistance(2, 0));
+        Assert.assertEquals(4, field.getDistance(2, 2));
+        Assert.assertEquals(FlowField.UNREACHABLE, field.getDistance(1, 1));
+
+        // (2, 1) 에서는 위로 가야 가까움 ; 위가 막힌 후보면 아래로
+        Assert.assertEquals(2, field.getDirection(2, 1, NavGraph.ALL));
+        Assert.assertEquals(3, field.getDirection(2, 1, NavGraph.DOWN | NavGraph.LEFT));
+        Assert.assertSame("Same target shares one field", field, nav.getFlowField(0, 0, false));
+    }
+
+    @Test
+    public void testOffMapTargetUsesNearestOpenCell() {
+        WallGrid walls = new WallGrid(4, 4);
+        walls.setWall(3, 3);
+        NavGraph nav = new NavGraph(walls, 8, 2);
+        // 맵 오른쪽 아래 바깥 구석 -> 벽이 아닌 가장 가까운 셀
+        FlowField field = nav.getFlowField(4 * 8, 4 * 8, false);
+        int target = field.getTargetCell();
+        Assert.assertTrue(target == 3 * 4 + 2 || target == 2 * 4 + 3);
+    }
+
+    @Test
+    public void testEatenGhostReturnsHomeAlongShortestPath() {
+        Game.setVerbose(false);
+        HeadlessGame sim = new HeadlessGame("default_map", 1, 0, new ProgrammaticInput());
+        FlowField home = Game.getNavGraph().getFlowField(208, 200, true);
+
+        // 하우스에서 가장 먼 셀에서 출발 (고스트는 플레이 영역 안, 즉 x > 0, y > 0 에서만 방향을 정함)
+        int startX = 0;
+        int startY = 0;
+        int farthest = 0;
+        for (int cy = 1; cy < Game.getHeight() / WallGrid.CELL_SIZE; cy++) {
+            for (int cx = 1; cx < Game.getWidth() / WallGrid.CELL_SIZE; cx++) {
+                if (home.getDistance(cx, cy) > farthest) {
+                    farthest = home.getDistance(cx, cy);
+                    startX = cx * WallGrid.CELL_SIZE;
+                    startY = cy * WallGrid.CELL_SIZE;
+                }
+            }
+        }
+        Ghost ghost = sim.getGame().getRegistry().getGhosts().get(0);
+        ghost.setPosition(startX, startY);
+        ghost.setxSpd(0);
+        ghost.setySpd(0);
+        ghost.switchEatenMode();
+        Game.setFirstInput(true);
+
+        // 한 셀(8px)은 4 틱 ; 최단 경로로 가면 farthest 셀 이동 + 도착을 알아채는 1 틱
+        int ticks = 0;
+        while (!(ghost.getState() instanceof HouseMode) && ticks <= farthest * 4) {
+            ghost.update();
+            ticks++;
+        }
+        Assert.assertTrue("Eaten ghost should reach the house", ghost.getState() instanceof HouseMode);
+        Assert.assertEquals(farthest * 4 + 1, ticks);
+    }
+}
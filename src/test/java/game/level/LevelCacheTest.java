@@ -0,0 +1,110 @@
+package game.level;
+
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+
+public class LevelCacheTest {
+
+    @Rule
+    public TemporaryFolder tmp = new TemporaryFolder();
+
+    private static final String MAP =
+            "x;x;x;x;x;x\n" +
+            "x;P;.;.;o;x\n" +
+            "x;.;x;-;.;x\n" +
+            "x;b;.;.;i;x\n" +
+            "x;x;x;x;x;x\n";
+
+    private File writeMap(String content) throws Exception {
+        File csv = tmp.newFile();
+        Files.write(csv.toPath(), content.getBytes(StandardCharsets.UTF_8));
+        return csv;
+    }
+
+    @Test
+    public void testSameContentIsCompiledOnce() throws Exception {
+        File csv = writeMap(MAP);
+        LevelCache cache = new LevelCache(null);
+        CompiledLevel first = cache.get("test", csv.toURI());
+        Assert.assertSame(first, cache.get("test", csv.toURI()));
+        Assert.assertEquals(6, first.getCols());
+        Assert.assertEquals(5, first.getRows());
+        Assert.assertEquals(6, first.newPelletGrid().getRemainingPacGums());
+        Assert.assertEquals(1 * 6 + 1, first.getPacmanCell());
+        // 고스트는 열 우선 순서 (b 가 i 보다 먼저)
+        Assert.assertEquals('b', first.getGhostKind(0));
+        Assert.assertEquals('i', first.getGhostKind(1));
+    }
+
+    @Test
+    public void testChangedContentIsRecompiled() throws Exception {
+        File csv = writeMap(MAP);
+        LevelCache cache = new LevelCache(null);
+        CompiledLevel before = cache.get("test", csv.toURI());
+        Files.write(csv.toPath(), MAP.replace("o", ".").getBytes(StandardCharsets.UTF_8));
+        CompiledLevel after = cache.get("test", csv.toURI());
+
+        Assert.assertNotEquals(before.getHash(), after.getHash());
+        Assert.assertEquals(1, before.getSuperPacGumCount());
+        Assert.assertEquals(0, after.getSuperPacGumCount());
+    }
+
+    @Test
+    public void testDiskCacheRoundTrip() throws Exception {
+        File csv = writeMap(MAP);
+        File dir = tmp.newFolder();
+        CompiledLevel compiled = new LevelCache(dir.toPath()).get("test", csv.toURI());
+        Assert.assertTrue(new File(dir, compiled.getHash() + ".lvl").isFile());
+
+        // 새 캐시는 메모리가 비어 있으므로 디스크에서 읽음
+        CompiledLevel loaded = new LevelCache(dir.toPath()).get("test", csv.toURI());
+        Assert.assertNotSame(compiled, loaded);
+        Assert.assertEquals(compiled.getHash(), loaded.getHash());
+        Assert.assertEquals(compiled.getPacmanCell(), loaded.getPacmanCell());
+        Assert.assertEquals(compiled.getGhostCount(), loaded.getGhostCount());
+        Assert.assertEquals(compiled.getSuperPacGumCell(0), loaded.getSuperPacGumCell(0));
+        Assert.assertEquals(compiled.newPelletGrid().getRemaining(), loaded.newPelletGrid().getRemaining());
+        for (int cy = 0; cy < compiled.getRows(); cy++) {
+            for (int cx = 0; cx < compiled.getCols(); cx++) {
+                Assert.assertEquals(compiled.getWallGrid().isWall(cx, cy), loaded.getWallGrid().isWall(cx, cy));
+                Assert.assertEquals(compiled.getWallGrid().isGhostHouse(cx, cy), loaded.getWallGrid().isGhostHouse(cx, cy));
+                Assert.assertEquals(compiled.getNavGraph().getExits(cx * 8, cy * 8, false),
+                        loaded.getNavGraph().getExits(cx * 8, cy * 8, false));
+            }
+        }
+    }
+
+    @Test
+    public void testCorruptDiskCacheFallsBackToCsv() throws Exception {
+        File csv = writeMap(MAP);
+        File dir = tmp.newFolder();
+        CompiledLevel compiled = new LevelCache(dir.toPath()).get("test", csv.toURI());
+        File lvl = new File(dir, compiled.getHash() + ".lvl");
+
+        // 첫 고스트의 시작 셀을 맵 밖으로 바꿈
+        // 헤더 16 + 비트셋 3개 + SuperPacGum (길이 + 셀) + Pacman + 고스트 수 + 첫 고스트 종류 (char)
+        int words = (compiled.getCols() * compiled.getRows() + 63) >>> 6;
+        long offset = 16 + 3 * 8 * words + 4 + 4 * compiled.getSuperPacGumCount() + 4 + 4 + 2;
+        try (RandomAccessFile file = new RandomAccessFile(lvl, "rw")) {
+            file.seek(offset);
+            Assert.assertEquals(compiled.getGhostCell(0), file.readInt());
+            file.seek(offset);
+            file.writeInt(9999);
+        }
+
+        CompiledLevel loaded = new LevelCache(dir.toPath()).get("test", csv.toURI());
+        Assert.assertEquals(compiled.getGhostCount(), loaded.getGhostCount());
+        for (int i = 0; i < compiled.getGhostCount(); i++) {
+            Assert.assertEquals(compiled.getGhostKind(i), loaded.getGhostKind(i));
+            Assert.assertEquals(compiled.getGhostCell(i), loaded.getGhostCell(i));
+        }
+        Assert.assertEquals(compiled.getPacmanCell(), loaded.getPacmanCell());
+    }
+}
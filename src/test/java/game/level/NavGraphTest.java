@@ -0,0 +1,76 @@
+package game.level;
+
+import game.Game;
+import game.entities.ghosts.Blinky;
+import game.entities.ghosts.Ghost;
+import game.utils.WallCollisionDetector;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class NavGraphTest {
+
+    @After
+    public void tearDown() {
+        Game.reset();
+        Game.setVerbose(true);
+    }
+
+    @Test
+    public void testCorridorsAndJunctions() {
+        // 5x5 맵에 가운데 행과 열만 뚫린 십자 통로 (엔티티 크기 = 셀 하나)
+        WallGrid walls = new WallGrid(5, 5);
+        for (int cx = 0; cx < 5; cx++) {
+            for (int cy = 0; cy < 5; cy++) {
+                if (cx != 2 && cy != 2) walls.setWall(cx, cy);
+            }
+        }
+        NavGraph nav = new NavGraph(walls, 8, 2);
+
+        Assert.assertEquals(NavGraph.ALL, nav.getExits(16, 16, false));
+        Assert.assertTrue("Crossing is a junction", nav.isJunction(2, 2, false));
+        Assert.assertEquals(NavGraph.LEFT | NavGraph.RIGHT, nav.getExits(8, 16, false));
+        Assert.assertFalse("Straight corridor is not a junction", nav.isJunction(1, 2, false));
+        Assert.assertEquals(1, nav.getJunctionCount());
+
+        // 복도에서 온 방향을 빼면 후보는 하나 ; 갈림길에서는 여럿
+        int fromLeft = NavGraph.reverseOf(2, 0);
+        Assert.assertEquals(1, NavGraph.singleDir(nav.getExits(8, 16, false) & ~fromLeft));
+        Assert.assertEquals(-1, NavGraph.singleDir(nav.getExits(16, 16, false) & ~fromLeft));
+    }
+
+    @Test
+    public void testGhostHouseDoorOnlyOpenWhenIgnored() {
+        WallGrid walls = new WallGrid(3, 3);
+        walls.setGhostHouse(1, 0);
+        NavGraph nav = new NavGraph(walls, 8, 2);
+
+        Assert.assertEquals(0, nav.getExits(8, 8, false) & NavGraph.UP);
+        Assert.assertEquals(NavGraph.UP, nav.getExits(8, 8, true) & NavGraph.UP);
+    }
+
+    @Test
+    public void testMatchesWallCollisionDetectorOnMap() {
+        // 실제 맵의 모든 정렬 위치에서 표 조회 결과가 벽 검사 네 번과 같아야 함
+        Game.setVerbose(false);
+        new Game("default_map", 0);
+        NavGraph nav = Game.getNavGraph();
+        Ghost ghost = new Blinky(0, 0);
+        Assert.assertTrue(nav.fits(ghost.getSize(), ghost.getSpd()));
+
+        int spd = ghost.getSpd();
+        for (int y = 0; y < Game.getHeight(); y += WallGrid.CELL_SIZE) {
+            for (int x = 0; x < Game.getWidth(); x += WallGrid.CELL_SIZE) {
+                ghost.setPosition(x, y);
+                for (boolean ignore : new boolean[]{false, true}) {
+                    int expected = 0;
+                    if (!WallCollisionDetector.checkWallCollision(ghost, -spd, 0, ignore)) expected |= NavGraph.LEFT;
+                    if (!WallCollisionDetector.checkWallCollision(ghost, spd, 0, ignore)) expected |= NavGraph.RIGHT;
+                    if (!WallCollisionDetector.checkWallCollision(ghost, 0, -spd, ignore)) expected |= NavGraph.UP;
+                    if (!WallCollisionDetector.checkWallCollision(ghost, 0, spd, ignore)) expected |= NavGraph.DOWN;
+                    Assert.assertEquals("(" + x + ", " + y + ", " + ignore + ")", expected, nav.getExits(x, y, ignore));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package game.level;
+
+import game.entities.PacGum;
+import game.entities.superPacGums.FastPacmanSuperPacGum;
+import game.entities.superPacGums.SuperPacGum;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class PelletGridTest {
+
+    private PelletGrid grid;
+    private SuperPacGum spg;
+
+    @Before
+    public void setUp() {
+        grid = new PelletGrid(10, 10);
+        grid.addPacGum(2, 3);
+        grid.addPacGum(5, 5);
+        spg = new FastPacmanSuperPacGum(7 * 8, 1 * 8);
+        grid.addSuperPacGum(7, 1, spg);
+    }
+
+    @Test
+    public void testRemainingCount() {
+        Assert.assertEquals(2, grid.getRemainingPacGums());
+        Assert.assertEquals(1, grid.getRemainingSuperPacGums());
+        Assert.assertEquals(3, grid.getRemaining());
+    }
+
+    @Test
+    public void testPacGumHitboxMatchesEntity() {
+        // PacGum 엔티티의 히트박스와 같은 영역에서만 충돌해야 함
+        PacGum reference = new PacGum(2 * 8, 3 * 8);
+        for (int px = 0; px < 80; px++) {
+            for (int py = 0; py < 80; py++) {
+                boolean expected = reference.getHitbox().contains(px, py);
+                boolean actual = grid.pacGumCellAt(px, py) == 3 * 10 + 2;
+                Assert.assertEquals("(" + px + ", " + py + ")", expected, actual);
+            }
+        }
+    }
+
+    @Test
+    public void testEatPacGum() {
+        PacGum pg = grid.pacGumAt(2 * 8 + 9, 3 * 8 + 9);
+        Assert.assertNotNull(pg);
+
+        Assert.assertTrue(grid.eatPacGum(pg));
+        Assert.assertFalse("이미 먹은 PacGum 은 다시 먹을 수 없음", grid.eatPacGum(pg));
+        Assert.assertNull(grid.pacGumAt(2 * 8 + 9, 3 * 8 + 9));
+        Assert.assertEquals(1, grid.getRemainingPacGums());
+    }
+
+    @Test
+    public void testEatenLogRecordsCellsInOrder() {
+        Assert.assertEquals(0, grid.getEatenCount());
+        Assert.assertTrue(grid.eatPacGum(5 * 10 + 5));
+        Assert.assertTrue(grid.eatPacGum(3 * 10 + 2));
+        Assert.assertFalse(grid.eatPacGum(5 * 10 + 5));
+
+        // 이미 먹은 PacGum 은 다시 기록되지 않음
+        Assert.assertEquals(2, grid.getEatenCount());
+        Assert.assertEquals(5 * 10 + 5, grid.getEatenCell(0));
+        Assert.assertEquals(3 * 10 + 2, grid.getEatenCell(1));
+    }
+
+    @Test
+    public void testSuperPacGumLookupAndEat() {
+        // 16x16 SuperPacGum 의 네 구석 모두에서 조회 가능
+        Assert.assertSame(spg, grid.superPacGumAt(7 * 8, 1 * 8));
+        Assert.assertSame(spg, grid.superPacGumAt(7 * 8 + 15, 1 * 8 + 15));
+        Assert.assertNull(grid.superPacGumAt(7 * 8 + 16, 1 * 8));
+
+        Assert.assertTrue(grid.eatSuperPacGum(spg));
+        Assert.assertNull(grid.superPacGumAt(7 * 8, 1 * 8));
+        Assert.assertEquals(0, grid.getRemainingSuperPacGums());
+    }
+}
@@ -0,0 +1,68 @@
+package game.metrics;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+    private LatencyHistogram histogram;
+
+    @Before
+    public void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    public void testEmpty() {
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getPercentile(99));
+        Assert.assertEquals(0, histogram.getMax());
+    }
+
+    @Test
+    public void testBucketBoundsCoverValue() {
+        // 모든 값은 자기 버킷의 상한 이하이고, 상한과의 차이는 3% 남짓 이내
+        long[] values = {0, 1, 63, 64, 65, 100, 1000, 16_666_667L, 1_000_000_000L, Long.MAX_VALUE / 2};
+        for (long v : values) {
+            long upper = LatencyHistogram.upperBoundOf(LatencyHistogram.bucketOf(v));
+            Assert.assertTrue(v + " <= " + upper, v <= upper);
+            Assert.assertTrue(v + " ~ " + upper, upper - v <= Math.max(1, v / 32));
+        }
+    }
+
+    @Test
+    public void testPercentiles() {
+        // 1..1000 us
+        for (int i = 1; i <= 1000; i++) {
+            histogram.record(i * 1000L);
+        }
+        Assert.assertEquals(1000, histogram.getCount());
+        Assert.assertEquals(1_000_000L, histogram.getMax());
+        assertClose(500_000L, histogram.getPercentile(50));
+        assertClose(990_000L, histogram.getPercentile(99));
+        assertClose(999_000L, histogram.getPercentile(99.9));
+        Assert.assertEquals(1_000_000L, histogram.getPercentile(100));
+        Assert.assertEquals(500_500.0, histogram.getMean(), 0.001);
+    }
+
+    @Test
+    public void testOutlierShowsInTail() {
+        for (int i = 0; i < 999; i++) {
+            histogram.record(100_000L);
+        }
+        histogram.record(50_000_000L);
+
+        assertClose(100_000L, histogram.getPercentile(99));
+        assertClose(50_000_000L, histogram.getPercentile(99.95));
+        Assert.assertEquals(50_000_000L, histogram.getMax());
+
+        histogram.reset();
+        Assert.assertEquals(0, histogram.getCount());
+        Assert.assertEquals(0, histogram.getMax());
+    }
+
+    private static void assertClose(long expected, long actual) {
+        Assert.assertTrue(expected + " vs " + actual, Math.abs(actual - expected) <= expected / 25);
+    }
+}
@@ -0,0 +1,113 @@
+package game.render;
+
+import game.Game;
+import game.UIPanel;
+import game.engine.HeadlessGame;
+import game.utils.ProgrammaticInput;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+public class LayeredRendererTest {
+
+    @BeforeClass
+    public static void quiet() {
+        Game.setVerbose(false);
+    }
+
+    @AfterClass
+    public static void restore() {
+        Game.setVerbose(true);
+    }
+
+    @After
+    public void tearDown() {
+        Game.reset();
+    }
+
+    @Test
+    public void testMatchesFullRedrawWhilePelletsAreEaten() throws IOException {
+        Image background = ImageIO.read(new File("src/resources/img/default_map_bg.png"));
+        ProgrammaticInput input = new ProgrammaticInput();
+        input.setState(ProgrammaticInput.LEFT);
+        HeadlessGame sim = new HeadlessGame("default_map", 1, 0, input);
+        Game game = sim.getGame();
+        int width = Game.getWidth();
+        int height = Game.getHeight();
+
+        LayeredRenderer renderer = new LayeredRenderer(background, width, height);
+        SnapshotWriter writer = new SnapshotWriter(game);
+        FrameSnapshot snapshot = new FrameSnapshot();
+        BufferedImage layered = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        BufferedImage full = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        int remaining = game.getRemainingPellets();
+
+        for (int frame = 0; frame < 90; frame++) {
+            if (frame == 45) input.setState(ProgrammaticInput.RIGHT);
+            sim.step();
+
+            snapshot.clear();
+            writer.capture(frame, snapshot);
+            Graphics2D lg = layered.createGraphics();
+            renderer.render(lg, snapshot);
+            lg.dispose();
+
+            Graphics2D fg = full.createGraphics();
+            fg.drawImage(background, 0, 0, width, height, null);
+            game.render(fg);
+            fg.dispose();
+
+            assertSameImage("frame " + frame, full, layered);
+        }
+        // 실제로 PacGum 이 지워지는 경로를 거쳤는지 확인
+        Assert.assertTrue(game.getRemainingPellets() < remaining);
+        renderer.dispose();
+    }
+
+    @Test
+    public void testHudIsDrawnRightOfTheMap() throws IOException {
+        Image background = ImageIO.read(new File("src/resources/img/default_map_bg.png"));
+        HeadlessGame sim = new HeadlessGame("default_map", 1, 0, new ProgrammaticInput());
+        int width = Game.getWidth();
+        int height = Game.getHeight();
+
+        LayeredRenderer renderer = new LayeredRenderer(background, width, height);
+        renderer.setHud(new UIPanel(256, height));
+        FrameSnapshot snapshot = new FrameSnapshot();
+        new SnapshotWriter(sim.getGame()).capture(0, snapshot);
+
+        BufferedImage frame = new BufferedImage(width + 256, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = frame.createGraphics();
+        renderer.render(g, snapshot);
+        g.dispose();
+
+        // HUD 영역은 검은 배경 위에 흰 글자
+        boolean hasText = false;
+        for (int y = 0; y < height && !hasText; y++) {
+            for (int x = width; x < width + 256 && !hasText; x++) {
+                hasText = (frame.getRGB(x, y) & 0xFFFFFF) != 0;
+            }
+        }
+        Assert.assertTrue(hasText);
+        Assert.assertEquals(0xFF000000, frame.getRGB(width + 1, 1));
+        renderer.dispose();
+    }
+
+    private static void assertSameImage(String message, BufferedImage expected, BufferedImage actual) {
+        for (int y = 0; y < expected.getHeight(); y++) {
+            for (int x = 0; x < expected.getWidth(); x++) {
+                if (expected.getRGB(x, y) != actual.getRGB(x, y)) {
+                    Assert.fail(message + " : pixel (" + x + ", " + y + ")");
+                }
+            }
+        }
+    }
+}
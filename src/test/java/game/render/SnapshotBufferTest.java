@@ -0,0 +1,85 @@
+package game.render;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+public class SnapshotBufferTest {
+
+    private static void publish(SnapshotBuffer buffer, long tick) {
+        FrameSnapshot s = buffer.getWriteBuffer();
+        s.setFrame(tick, (int) tick * 10, 1);
+        buffer.publish();
+    }
+
+    @Test
+    public void testNothingPublishedYet() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        Assert.assertFalse(buffer.hasNew());
+        Assert.assertNull(buffer.acquire());
+        Assert.assertNull(buffer.awaitNew(1_000_000L));
+    }
+
+    @Test
+    public void testReaderSeesLatestAndKeepsItUntilNextPublish() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        publish(buffer, 1);
+        publish(buffer, 2);
+        publish(buffer, 3);
+
+        // 읽는 쪽이 늦으면 중간 스냅샷은 건너뛰고 최신 것만 받음
+        FrameSnapshot latest = buffer.acquire();
+        Assert.assertEquals(3, latest.getTick());
+        Assert.assertEquals(30, latest.getScore());
+        Assert.assertFalse(buffer.hasNew());
+        Assert.assertSame(latest, buffer.acquire());
+
+        publish(buffer, 4);
+        Assert.assertTrue(buffer.hasNew());
+        Assert.assertEquals(4, buffer.awaitNew(1_000_000L).getTick());
+    }
+
+    @Test
+    public void testWriterNeverWritesIntoReaderSnapshot() {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        Map<FrameSnapshot, Boolean> seen = new IdentityHashMap<>();
+        for (long tick = 1; tick <= 100; tick++) {
+            publish(buffer, tick);
+            FrameSnapshot front = tick % 3 == 0 ? buffer.acquire() : null;
+            if (front != null) {
+                seen.put(front, true);
+                // 읽는 쪽이 잡고 있는 동안 여러 번 게시해도 내용이 바뀌지 않아야 함
+                publish(buffer, tick + 1000);
+                publish(buffer, tick + 2000);
+                Assert.assertEquals(tick, front.getTick());
+            }
+        }
+        Assert.assertTrue(seen.size() <= 3);
+    }
+
+    @Test
+    public void testConcurrentReaderOnlySeesIncreasingTicks() throws InterruptedException {
+        SnapshotBuffer buffer = new SnapshotBuffer();
+        final long lastTick = 200_000;
+        final long[] failures = {0};
+        Thread reader = new Thread(() -> {
+            long previous = 0;
+            while (previous < lastTick) {
+                FrameSnapshot s = buffer.awaitNew(1_000_000L);
+                if (s == null) continue;
+                // score 는 tick 과 같은 쓰기에서 채워지므로 찢어진 스냅샷이면 어긋남
+                if (s.getTick() < previous || s.getScore() != (int) s.getTick() * 10) failures[0]++;
+                previous = s.getTick();
+            }
+        });
+        reader.start();
+        for (long tick = 1; tick <= lastTick; tick++) {
+            publish(buffer, tick);
+        }
+        reader.join(10_000);
+        Assert.assertFalse(reader.isAlive());
+        Assert.assertEquals(0, failures[0]);
+    }
+}
@@ -0,0 +1,90 @@
+package game.replay;
+
+import game.Game;
+import game.engine.HeadlessGame;
+import game.engine.RandomWalkInput;
+import game.engine.SimulationResult;
+import game.utils.ProgrammaticInput;
+import org.junit.After;
+import org.junit.AfterClass;
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+public class ReplayTest {
+
+    @BeforeClass
+    public static void quiet() {
+        Game.setVerbose(false);
+    }
+
+    @AfterClass
+    public static void restore() {
+        Game.setVerbose(true);
+    }
+
+    @After
+    public void tearDown() {
+        Game.reset();
+    }
+
+    @Test
+    public void testRunLengthEncoding() {
+        InputRecording rec = new InputRecording("default_map", 1, 42L);
+        for (int i = 0; i < 100; i++) rec.append(ProgrammaticInput.LEFT);
+        for (int i = 0; i < 3; i++) rec.append(0);
+        rec.append(ProgrammaticInput.UP | ProgrammaticInput.RIGHT);
+
+        Assert.assertEquals(104, rec.getTickCount());
+        Assert.assertEquals(3, rec.getRunCount());
+        Assert.assertEquals(ProgrammaticInput.LEFT, rec.getRunState(0));
+        Assert.assertEquals(100, rec.getRunLength(0));
+    }
+
+    @Test
+    public void testFileRoundTrip() throws IOException {
+        InputRecording rec = new InputRecording("custom_map_001", 3, -7L);
+        for (int i = 0; i < 1000; i++) rec.append((i / 200) & 0xF);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        rec.write(out);
+        InputRecording read = InputRecording.read(new ByteArrayInputStream(out.toByteArray()));
+
+        Assert.assertEquals("custom_map_001", read.getMapName());
+        Assert.assertEquals(3, read.getLevel());
+        Assert.assertEquals(-7L, read.getSeed());
+        Assert.assertEquals(rec.getTickCount(), read.getTickCount());
+        Assert.assertEquals(rec.getRunCount(), read.getRunCount());
+        for (int i = 0; i < rec.getRunCount(); i++) {
+            Assert.assertEquals(rec.getRunState(i), read.getRunState(i));
+            Assert.assertEquals(rec.getRunLength(i), read.getRunLength(i));
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void testRejectsForeignFile() throws IOException {
+        InputRecording.read(new ByteArrayInputStream(new byte[] {1, 2, 3, 4, 5, 6, 7, 8}));
+    }
+
+    @Test
+    public void testReplayReproducesGame() {
+        // 무작위 봇으로 한 판을 기록한 뒤, 기록만으로 같은 결과가 나와야 함
+        long seed = 11;
+        InputRecording rec = new InputRecording("default_map", 3, seed);
+        InputRecorder recorder = new InputRecorder(new RandomWalkInput(seed), rec);
+        SimulationResult original = new HeadlessGame("default_map", 3, seed, recorder).run(5000);
+        Game.reset();
+
+        SimulationResult replayed = new ReplayPlayer(rec).play(false);
+
+        Assert.assertEquals(original.getTicks(), rec.getTickCount());
+        Assert.assertEquals(original.getOutcome(), replayed.getOutcome());
+        Assert.assertEquals(original.getTicks(), replayed.getTicks());
+        Assert.assertEquals(original.getScore(), replayed.getScore());
+        Assert.assertEquals(original.getRemainingPellets(), replayed.getRemainingPellets());
+    }
+}
@@ -0,0 +1,69 @@
+package game.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class CsvReaderTest {
+
+    private static CsvGrid parse(String csv) throws CsvFormatException {
+        return new CsvReader().parseGrid(ByteBuffer.wrap(csv.getBytes(StandardCharsets.ISO_8859_1)));
+    }
+
+    private static CsvFormatException parseError(String csv) {
+        try {
+            parse(csv);
+        } catch (CsvFormatException e) {
+            return e;
+        }
+        Assert.fail("Expected a format error");
+        return null;
+    }
+
+    @Test
+    public void testParsesCellsWithTrailingSeparatorAndCrLf() throws Exception {
+        CsvGrid grid = parse("\u00ef\u00bb\u00bfx;x;x;\r\nx;;.;\r\nx;P;o;\r\n\r\n");
+        Assert.assertEquals(3, grid.getCols());
+        Assert.assertEquals(3, grid.getRows());
+        Assert.assertEquals('x', grid.get(0, 0));
+        Assert.assertEquals("Empty cell", ' ', grid.get(1, 1));
+        Assert.assertEquals('.', grid.get(2, 1));
+        Assert.assertEquals('P', grid.get(1, 2));
+        Assert.assertEquals('o', grid.get(2, 2));
+    }
+
+    @Test
+    public void testMalformedCellReportsLineAndColumn() {
+        CsvFormatException e = parseError("x;x;x\nx;xx;x\n");
+        Assert.assertEquals(2, e.getLine());
+        Assert.assertEquals(4, e.getColumn());
+    }
+
+    @Test
+    public void testRaggedRowAndInnerBlankLineAreRejected() {
+        CsvFormatException ragged = parseError("x;x;x\nx;x\n");
+        Assert.assertEquals(2, ragged.getLine());
+
+        CsvFormatException blank = parseError("x;x\n\nx;x\n");
+        Assert.assertEquals(2, blank.getLine());
+    }
+
+    @Test
+    public void testLargeMapIsParsed() throws Exception {
+        int cols = 1000;
+        int rows = 1000;
+        StringBuilder sb = new StringBuilder(cols * rows * 2);
+        for (int y = 0; y < rows; y++) {
+            for (int x = 0; x < cols; x++) {
+                sb.append((x + y) % 2 == 0 ? 'x' : '.').append(';');
+            }
+            sb.append('\n');
+        }
+        CsvGrid grid = parse(sb.toString());
+        Assert.assertEquals(cols, grid.getCols());
+        Assert.assertEquals(rows, grid.getRows());
+        Assert.assertEquals('.', grid.get(999, 998));
+    }
+}
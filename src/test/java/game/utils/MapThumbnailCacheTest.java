@@ -0,0 +1,115 @@
+package game.utils;
+
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class MapThumbnailCacheTest {
+
+    private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    private final CountDownLatch unblock = new CountDownLatch(1);
+    private volatile Thread blockedWorker;
+    private MapThumbnailCache cache;
+
+    //"block" 은 unblock 이 열릴 때까지 작업 스레드를 붙잡아 둠
+    private MapThumbnailCache newCache(int capacity) {
+        cache = new MapThumbnailCache(100, capacity, name -> {
+            loads.computeIfAbsent(name, k -> new AtomicInteger()).incrementAndGet();
+            if (name.equals("block")) {
+                blockedWorker = Thread.currentThread();
+                try {
+                    unblock.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return name.startsWith("missing") ? null : new BufferedImage(448, 496, BufferedImage.TYPE_INT_RGB);
+        });
+        return cache;
+    }
+
+    private int loadsOf(String name) {
+        AtomicInteger n = loads.get(name);
+        return n == null ? 0 : n.get();
+    }
+
+    @After
+    public void tearDown() {
+        if (cache != null) cache.shutdown();
+    }
+
+    @Test
+    public void testThumbnailIsScaledOnceAndReused() throws Exception {
+        newCache(4);
+        BufferedImage thumbnail = cache.request("a").get(5, TimeUnit.SECONDS);
+        Assert.assertEquals(100, thumbnail.getWidth());
+        Assert.assertEquals(496 * 100 / 448, thumbnail.getHeight());
+        Assert.assertSame(thumbnail, cache.getIfReady("a"));
+        Assert.assertSame(thumbnail, cache.request("a").get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, loadsOf("a"));
+
+        Assert.assertNull("Missing image", cache.request("missing").get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testLeastRecentlyUsedIsEvicted() throws Exception {
+        newCache(2);
+        cache.request("a").get(5, TimeUnit.SECONDS);
+        cache.request("b").get(5, TimeUnit.SECONDS);
+        cache.getIfReady("a");
+        cache.request("c").get(5, TimeUnit.SECONDS);
+
+        Assert.assertNotNull(cache.getIfReady("a"));
+        Assert.assertNull(cache.getIfReady("b"));
+        Assert.assertNotNull(cache.getIfReady("c"));
+    }
+
+    @Test
+    public void testPrefetchLoadsNeighbours() throws Exception {
+        newCache(8);
+        List<String> names = Arrays.asList("a", "b", "c", "d", "e", "f");
+        cache.prefetch(names, 0, 1);
+        // 작업 스레드는 하나뿐이므로 이 요청이 끝나면 앞서 넣은 미리 읽기도 끝나 있음
+        cache.request("c").get(5, TimeUnit.SECONDS);
+
+        Assert.assertNotNull(cache.getIfReady("b"));
+        Assert.assertNotNull(cache.getIfReady("f"));
+        Assert.assertEquals(0, loadsOf("d"));
+    }
+
+    @Test
+    public void testRequestDuringStalePrefetchStillBuilds() throws Exception {
+        newCache(8);
+        CompletableFuture<BufferedImage> blocked = cache.request("block");
+        while (blockedWorker == null) Thread.sleep(1);
+
+        // "b" 의 미리 읽기를 넣은 뒤 다른 곳으로 넘겨서 건너뛸 차례로 만듦
+        cache.prefetch(Arrays.asList("a", "b", "c", "d", "e", "f"), 0, 1);
+        cache.prefetch(Arrays.asList("a", "b", "c", "d", "e", "f"), 3, 1);
+
+        // 작업 스레드가 건너뛰기 판단에 들어가려는 순간에 request()
+        CompletableFuture<BufferedImage> requested;
+        synchronized (cache.lock) {
+            unblock.countDown();
+            while (blockedWorker.getState() != Thread.State.BLOCKED) Thread.sleep(1);
+            requested = cache.request("b");
+        }
+
+        Assert.assertNotNull(blocked.get(5, TimeUnit.SECONDS));
+        Assert.assertNotNull("Requested map must be built", requested.get(5, TimeUnit.SECONDS));
+        Assert.assertSame(requested.get(), cache.getIfReady("b"));
+        Assert.assertEquals(1, loadsOf("b"));
+        Assert.assertEquals(0, loadsOf("f"));
+    }
+}
@@ -0,0 +1,45 @@
+package game.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.awt.image.BufferedImage;
+
+public class SpriteCacheTest {
+
+    @Test
+    public void testImageDecodedOnce() {
+        BufferedImage first = SpriteCache.getImage("pacman.png");
+        Assert.assertNotNull(first);
+        Assert.assertSame(first, SpriteCache.getImage("pacman.png"));
+    }
+
+    @Test
+    public void testFramesMatchSubimages() {
+        // 미리 자른 프레임은 기존 getSubimage 좌표 계산과 같은 픽셀이어야 함
+        BufferedImage sheet = SpriteCache.getImage("pacman.png");
+        SpriteFrames frames = SpriteCache.getFrames("pacman.png", 32);
+        Assert.assertSame(frames, SpriteCache.getFrames("pacman.png", 32));
+        Assert.assertEquals(sheet.getWidth() / 32, frames.size());
+
+        int nbSubimagesPerCycle = 4;
+        for (int direction = 0; direction < 4; direction++) {
+            for (int sub = 0; sub < nbSubimagesPerCycle; sub++) {
+                BufferedImage expected = sheet.getSubimage(sub * 32 + direction * 32 * nbSubimagesPerCycle, 0, 32, 32);
+                BufferedImage actual = frames.get(direction, nbSubimagesPerCycle, sub);
+                for (int x = 0; x < 32; x++) {
+                    for (int y = 0; y < 32; y++) {
+                        Assert.assertEquals(expected.getRGB(x, y), actual.getRGB(x, y));
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testMissingSprite() {
+        Assert.assertNull(SpriteCache.getImage("does_not_exist.png"));
+        Assert.assertEquals(0, SpriteCache.getFrames("", 32).size());
+        Assert.assertNull(SpriteCache.getFrames("", 32).get(0));
+    }
+}